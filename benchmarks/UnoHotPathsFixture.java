@@ -0,0 +1,156 @@
+import bench.UnoHotPaths;
+
+import javax.swing.JButton;
+import java.util.ArrayList;
+import java.util.SplittableRandom;
+
+/**
+ * Implements the benchmarked operations against the game classes.
+ * It lives in the default package next to the model so that the benchmarks
+ * can reach the package-private reshuffle method.
+ *
+ * @author Ahmad El-Jabi 101303269
+ * @author Atik Mahmud 101318070
+ * @author Aryan Singh 101299776
+ * @author Jonathan Gitej 101294584
+ *
+ * @version 4.0, December 05, 2025
+ */
+public class UnoHotPathsFixture implements UnoHotPaths {
+    private UNO_Model model;
+    private UNO_Model historyModel; // not headless, so it records undo history
+    private Deck deck;
+    private SplittableRandom random;
+    private Card[] cards; // one card of each of the seven card classes
+
+    @Override
+    public void setUp(int numPlayers, int numViews, long seed) {
+        ArrayList<String> names = new ArrayList<>();
+        ArrayList<Boolean> isAI = new ArrayList<>();
+        for (int i = 0; i < numPlayers; i++) {
+            names.add("Player " + (i + 1));
+            isAI.add(false);
+        }
+
+        model = new UNO_Model(numPlayers, names, isAI, seed);
+        model.setHeadless(true);
+        for (int i = 0; i < numViews; i++) {
+            model.addUnoView(new NoOpView());
+        }
+        model.startNewRound();
+
+        historyModel = new UNO_Model(numPlayers, names, isAI, seed);
+        for (int i = 0; i < numViews; i++) {
+            historyModel.addUnoView(new NoOpView());
+        }
+        historyModel.startNewRound();
+        historyModel.drawCard();
+
+        random = new SplittableRandom(seed);
+        deck = new Deck(random);
+        cards = new Card[] {
+                new NumberCard(CardColor.RED, CardColor.TEAL, CardType.FIVE),
+                new DrawXCard(CardColor.RED, CardColor.TEAL),
+                new ReverseCard(CardColor.BLUE, CardColor.ORANGE),
+                new SkipCard(CardColor.RED, CardColor.PURPLE),
+                new FlipCard(CardColor.GREEN, CardColor.TEAL),
+                new WildCard(),
+                new WildDrawCard()
+        };
+    }
+
+    @Override
+    public Object newDeck() {
+        return new Deck(random);
+    }
+
+    @Override
+    public void shuffleDeck() {
+        deck.shuffle();
+    }
+
+    @Override
+    public int playableOnTopAll() {
+        int playable = 0;
+        for (Card top : cards) {
+            for (Card card : cards) {
+                if (card.playableOnTop(top)) {
+                    playable++;
+                }
+            }
+        }
+        return playable;
+    }
+
+    @Override
+    public boolean hasPlayableHand() {
+        return model.hasPlayableHand(model.getCurrentPlayer());
+    }
+
+    @Override
+    public void drawAndUndo() {
+        historyModel.drawCard();
+        historyModel.undo();
+    }
+
+    @Override
+    public void undoRedo() {
+        historyModel.undo();
+        historyModel.redo();
+    }
+
+    @Override
+    public void flipGameSide() {
+        model.flipGameSide();
+    }
+
+    @Override
+    public void refillPlayPile() {
+        Card card;
+        while ((card = model.getPlayDeck().drawCardFromDeck()) != null) {
+            model.getPlayPile().push(card);
+        }
+    }
+
+    @Override
+    public void reshuffleDrawingDeck() {
+        model.reshuffleDrawingDeck();
+    }
+
+    @Override
+    public void notifyViews() {
+        model.prepareEvent(GameEvent.EventType.GAME_STATE_CHANGED, "Benchmark");
+        model.notifyViews();
+    }
+
+    /**
+     * A view that only keeps the latest event, so only the model's dispatch cost is measured.
+     * Keeping the event stops the JIT from optimising its construction away.
+     */
+    private static class NoOpView implements UNO_View {
+        private GameEvent lastEvent;
+
+        @Override
+        public void handleGameEvent(GameEvent event) {
+            lastEvent = event;
+        }
+
+        @Override
+        public JButton getDrawButton() {
+            return null;
+        }
+
+        @Override
+        public JButton getNextPlayerButton() {
+            return null;
+        }
+
+        @Override
+        public void refreshGameState(UNO_Model model) {
+        }
+
+        @Override
+        public void setModel(UNO_Model loadedModel) {
+        }
+    }
+}
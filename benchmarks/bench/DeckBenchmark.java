@@ -0,0 +1,41 @@
+package bench;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures building a complete deck and shuffling it.
+ *
+ * @author Ahmad El-Jabi 101303269
+ * @author Atik Mahmud 101318070
+ * @author Aryan Singh 101299776
+ * @author Jonathan Gitej 101294584
+ *
+ * @version 4.0, December 05, 2025
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class DeckBenchmark {
+    private UnoHotPaths game;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        game = UnoHotPaths.create();
+        game.setUp(4, 0, 42L);
+    }
+
+    @Benchmark
+    public Object construct() {
+        return game.newDeck();
+    }
+
+    @Benchmark
+    public void shuffle() {
+        game.shuffleDeck();
+    }
+}
@@ -0,0 +1,81 @@
+package bench;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the model operations that touch the whole game state: undo
+ * history, flipping every card, rebuilding the draw deck and notifying the
+ * attached views.
+ *
+ * @author Ahmad El-Jabi 101303269
+ * @author Atik Mahmud 101318070
+ * @author Aryan Singh 101299776
+ * @author Jonathan Gitej 101294584
+ *
+ * @version 4.0, December 05, 2025
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ModelBenchmark {
+    @Param({"0", "1", "4", "16"})
+    public int views;
+
+    private UnoHotPaths game;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        game = UnoHotPaths.create();
+        game.setUp(4, views, 42L);
+    }
+
+    @Benchmark
+    public void drawAndUndo() {
+        game.drawAndUndo();
+    }
+
+    @Benchmark
+    public void undoRedo() {
+        game.undoRedo();
+    }
+
+    @Benchmark
+    public void flipGameSide() {
+        game.flipGameSide();
+    }
+
+    @Benchmark
+    public void notifyViews() {
+        game.notifyViews();
+    }
+
+    /**
+     * Holds a game whose draw deck is moved onto the play pile before every call,
+     * so that each reshuffle rebuilds a full deck.
+     */
+    @State(Scope.Thread)
+    public static class FullPlayPile {
+        UnoHotPaths game;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            game = UnoHotPaths.create();
+            game.setUp(4, 0, 42L);
+        }
+
+        @Setup(Level.Invocation)
+        public void refill() {
+            game.refillPlayPile();
+        }
+    }
+
+    @Benchmark
+    public void reshuffleDrawingDeck(FullPlayPile pile) {
+        pile.game.reshuffleDrawingDeck();
+    }
+}
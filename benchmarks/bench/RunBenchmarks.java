@@ -0,0 +1,37 @@
+package bench;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Runs the benchmark suite with the GC profiler attached, so every result
+ * reports the bytes allocated per operation next to its latency.
+ *
+ * @author Ahmad El-Jabi 101303269
+ * @author Atik Mahmud 101318070
+ * @author Aryan Singh 101299776
+ * @author Jonathan Gitej 101294584
+ *
+ * @version 4.0, December 05, 2025
+ */
+public class RunBenchmarks {
+    /**
+     * Runs the benchmarks whose names match the given patterns (all of them if none are given).
+     *
+     * @param args regular expressions selecting benchmarks, e.g. {@code ModelBenchmark.flip}
+     * @throws RunnerException if a benchmark fails
+     */
+    public static void main(String[] args) throws RunnerException {
+        OptionsBuilder options = new OptionsBuilder();
+        if (args.length == 0) {
+            options.include("bench\\..*Benchmark");
+        }
+        for (String pattern : args) {
+            options.include(pattern);
+        }
+        options.addProfiler(GCProfiler.class);
+        new Runner(options.build()).run();
+    }
+}
@@ -0,0 +1,97 @@
+package bench;
+
+/**
+ * The operations measured by the benchmark suite.
+ * JMH only runs benchmarks that live in a named package, while the game classes
+ * live in the default package and cannot be imported from one. The benchmarks
+ * therefore drive the game through this interface, which is implemented by
+ * {@code UnoHotPathsFixture} in the default package and loaded reflectively once
+ * per trial. Only a single implementation is ever loaded, so the JIT inlines
+ * the interface calls and they add nothing to the measured times.
+ *
+ * @author Ahmad El-Jabi 101303269
+ * @author Atik Mahmud 101318070
+ * @author Aryan Singh 101299776
+ * @author Jonathan Gitej 101294584
+ *
+ * @version 4.0, December 05, 2025
+ */
+public interface UnoHotPaths {
+    /**
+     * Creates a seeded game with human players, attaches no-op views and deals a round.
+     *
+     * @param numPlayers the number of players (2 – 4)
+     * @param numViews how many views listen to the model
+     * @param seed the seed for the game's random generator
+     */
+    void setUp(int numPlayers, int numViews, long seed);
+
+    /**
+     * Builds and shuffles a complete 112-card deck.
+     *
+     * @return the new deck
+     */
+    Object newDeck();
+
+    /**
+     * Shuffles a complete deck held by the fixture.
+     */
+    void shuffleDeck();
+
+    /**
+     * Checks every one of the seven card classes against every other one as the top card.
+     *
+     * @return the number of playable pairs
+     */
+    int playableOnTopAll();
+
+    /**
+     * Checks whether the current player holds any playable card.
+     *
+     * @return true if the current hand has a playable card
+     */
+    boolean hasPlayableHand();
+
+    /**
+     * Draws a card in a game that records undo history, then undoes the draw.
+     */
+    void drawAndUndo();
+
+    /**
+     * Undoes and redoes the most recent step of a game that records undo history.
+     */
+    void undoRedo();
+
+    /**
+     * Flips every card in the game to the other side.
+     */
+    void flipGameSide();
+
+    /**
+     * Moves the whole draw deck onto the play pile so that it can be reshuffled.
+     */
+    void refillPlayPile();
+
+    /**
+     * Rebuilds the draw deck from the play pile.
+     */
+    void reshuffleDrawingDeck();
+
+    /**
+     * Builds a game event and sends it to every attached view.
+     */
+    void notifyViews();
+
+    /**
+     * Loads the fixture that implements the operations against the game classes.
+     *
+     * @return a new fixture
+     */
+    static UnoHotPaths create() {
+        try {
+            return (UnoHotPaths) Class.forName("UnoHotPathsFixture").getDeclaredConstructor().newInstance();
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Game classes are not on the benchmark classpath", e);
+        }
+    }
+}
@@ -1,5 +1,6 @@
 import java.io.Serial;
 import java.io.Serializable;
+import java.util.random.RandomGenerator;
 
 /**
  * The interface defines the behavior and decision-making logic
@@ -29,6 +30,33 @@ public interface AIStrategy extends Serializable {
     static final long serialVersionUID = 1L;
     int chooseCard(Player player, Card topCard, UNO_Model game);
 
+    /**
+     * Determines which card to play, taking at most until the given deadline.
+     * A strategy that searches keeps improving its choice until the deadline and
+     * then returns the best move found so far. By default the deadline is ignored
+     * and {@link #chooseCard(Player, Card, UNO_Model)} is used.
+     *
+     * @param player The AI player making the decision
+     * @param topCard The current top card on the play pile
+     * @param game The current game state
+     * @param deadlineNanos The {@link System#nanoTime()} value by which the choice must be made
+     * @return The index of the card to play (1-based), or 0 to draw a card
+     */
+    default int chooseCard(Player player, Card topCard, UNO_Model game, long deadlineNanos) {
+        return chooseCard(player, topCard, game);
+    }
+
+    /**
+     * Tells whether the strategy spends its delay computing instead of waiting.
+     * When true, the game does not wait before the AI's turn; it gives the strategy
+     * its delay as a deadline through {@link #chooseCard(Player, Card, UNO_Model, long)}.
+     *
+     * @return true if the delay is used as a thinking budget, false if it is an idle pause
+     */
+    default boolean usesThinkingTime() {
+        return false;
+    }
+
     /**
      * Chooses a color when playing a wild card.
      *
@@ -40,7 +68,7 @@ public interface AIStrategy extends Serializable {
 
     /**
      * Retrieves the amount of time (in milliseconds) the AI should wait
-     * before executing its turn.
+     * before executing its turn, or may think for if it {@link #usesThinkingTime()}.
      *
      * @return the delay duration in milliseconds
      */
@@ -52,4 +80,14 @@ public interface AIStrategy extends Serializable {
      * @param delayMilliseconds the delay time to assign, in milliseconds
      */
     void setDelayMilliseconds(int delayMilliseconds);
+
+    /**
+     * Gives the strategy the generator to use for any random decisions.
+     * The game calls this when it is seeded so that AI play can be replayed;
+     * strategies that make no random decisions can ignore it.
+     *
+     * @param random the generator for this strategy
+     */
+    default void setRandomGenerator(RandomGenerator random) {
+    }
 }
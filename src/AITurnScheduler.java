@@ -0,0 +1,61 @@
+import java.util.function.Consumer;
+import java.util.function.IntConsumer;
+import java.util.function.IntSupplier;
+
+/**
+ * The AITurnScheduler interface decides when a pending AI turn is carried out.
+ * The {@link UNO_Model} hands each AI move to a scheduler instead of creating
+ * timers itself, so the model does not depend on any particular UI toolkit.
+ * The GUI uses {@link SwingAITurnScheduler}, which waits on the Swing event
+ * dispatch thread, while headless drivers such as {@link HeadlessGameEngine}
+ * run turns directly without any scheduler at all.
+ * A scheduler also decides where the AI works out its move: the Swing scheduler
+ * runs the strategy on a background thread and hands only the chosen move back
+ * to the event dispatch thread, so a slow strategy never freezes the window.
+ *
+ * @author Ahmad El-Jabi 101303269
+ * @author Atik Mahmud 101318070
+ * @author Aryan Singh 101299776
+ * @author Jonathan Gitej 101294584
+ *
+ * @version 4.0, December 05, 2025
+ */
+public interface AITurnScheduler {
+    /**
+     * Schedules an AI turn to run after the given delay.
+     * Any turn that is still pending is replaced by the new one.
+     *
+     * @param delayMilliseconds how long to wait before running the turn, in milliseconds
+     * @param turn the action that performs the AI's move
+     */
+    void schedule(int delayMilliseconds, Runnable turn);
+
+    /**
+     * Works out an AI move and then applies it on the thread that runs the game.
+     * The decision may run on another thread, so it must work on a copy of the
+     * game that nothing else changes. Its result is dropped if the turn is
+     * cancelled before it is applied. A decision that throws is handed to the
+     * failure action on the game's thread instead, unless the turn was cancelled.
+     * The default implementation decides and applies right away on the calling thread.
+     *
+     * @param decision the strategy call that returns the chosen card index, or 0 to draw
+     * @param apply the action that plays the chosen move
+     * @param failed the action that handles a decision that threw
+     */
+    default void decide(IntSupplier decision, IntConsumer apply, Consumer<RuntimeException> failed) {
+        int choice;
+        try {
+            choice = decision.getAsInt();
+        } catch (RuntimeException e) {
+            failed.accept(e);
+            return;
+        }
+        apply.accept(choice);
+    }
+
+    /**
+     * Cancels the pending AI turn, if there is one, including a decision that
+     * is still being worked out.
+     */
+    void cancel();
+}
@@ -1,12 +1,14 @@
 // BasicAIStrategy.java - Keep it simple
 import java.util.*;
-import java.util.Random;
+import java.util.random.RandomGenerator;
 
 /**
  * This class provides a simple and efficient AI behavior
  * for UNO Flip! by always playing the first legally playable card in the hand,
  * drawing when no card can be played, and choosing a wild color based on the
- * most common color in its hand. This strategy is designed to be predictable,
+ * most common color in its hand. When two colors are held equally often, it
+ * picks the one with fewer cards left unseen by the table, as counted by the
+ * game's {@link CardTracker}, since opponents are less likely to hold it. This strategy is designed to be predictable,
  * fast, and beginner-friendly, with an optional delay to simulate thinking time.
  *
  * @author Ahmad El-Jabi 101303269
@@ -17,8 +19,12 @@ import java.util.Random;
  * @version 4.0, December 05, 2025
  */
 public class BasicAIStrategy implements AIStrategy {
-    private Random random = new Random();
+    private static final CardColor[] COLORS = CardColor.values();
+
+    private transient RandomGenerator random; // set by the game when it is seeded
     private int delay_ms;
+    private final int[] firstMove = new int[1]; // reused so that choosing a card allocates nothing
+    private transient CardColor chosenColor;    // color picked with the last wild card chosen
 
     /**
      * Constructs an instance with the specified
@@ -35,27 +41,52 @@ public class BasicAIStrategy implements AIStrategy {
      * This strategy scans the AI player's hand from left to right and selects
      * the first card that is legally playable on the current top card of the
      * play pile. If no card can be played, the method returns 0,
-     * indicating that the AI should draw a card instead.
+     * indicating that the AI should draw a card instead. If the card is a wild
+     * card, its color is picked here, where the game's {@link CardTracker} can be read.
      *
      * @param player  the AI player taking the turn
      * @param topCard the card currently on top of the play pile
-     * @param game    the active game model, which may be used for more advanced strategies in future versions
+     * @param game    the active game model, whose card tracker breaks ties between wild colors
      * @return the index of the selected card to play, or 0 to draw
      */
     @Override
     public int chooseCard(Player player, Card topCard, UNO_Model game) {
-        ArrayList<Card> hand = player.getHand();
+        // The first legal move is the first playable card, or 0 to draw if there is none
+        UNO_Model.legalMoves(player, topCard, firstMove);
+        int move = firstMove[0];
+        chosenColor = null;
+        if (move != UNO_Model.DRAW_MOVE && game != null && player.getHand().get(move - 1).getType().isWildCard()) {
+            chosenColor = wildColor(player, game.getCardTracker(), topCard.getActiveSide());
+        }
+        return move;
+    }
 
-        // Look for first playable card
-        for (int i = 0; i < hand.size(); i++) {
-            Card card = hand.get(i);
-            if (card.playableOnTop(topCard)) {
-                return i + 1; // Convert to 1-based index
+    /**
+     * Returns the color held most often on a side, breaking ties toward the color
+     * with the fewest cards the table has not seen.
+     *
+     * @param player the AI player
+     * @param tracker the game's public information
+     * @param lightSide true if the light side is active
+     * @return the chosen color, or null if the hand holds only wild cards
+     */
+    private static CardColor wildColor(Player player, CardTracker tracker, boolean lightSide) {
+        CardColor best = null;
+        int bestCount = 0;
+        int bestUnknown = 0;
+        for (CardColor color : COLORS) {
+            int count = color == CardColor.WILD ? 0 : player.colorCount(color, lightSide);
+            if (count == 0) {
+                continue;
+            }
+            int unknown = tracker.getUnknownCount(color, lightSide);
+            if (count > bestCount || count == bestCount && unknown < bestUnknown) {
+                best = color;
+                bestCount = count;
+                bestUnknown = unknown;
             }
         }
-
-        // No playable card found, draw
-        return 0;
+        return best;
     }
 
 
@@ -64,7 +95,7 @@ public class BasicAIStrategy implements AIStrategy {
      * This implementation examines the AI player's hand and selects the color
      * that appears most frequently. If the AI's hand contains only wild cards,
      * it defaults to the first available color on the current side of the UNO
-     * Flip! deck (light or dark).
+     * Flip! deck (light or dark). A color already picked with the card is used instead.
      *
      * @param aiPlayer    the AI-controlled player making the choice
      * @param isLightSide true if the light side of the deck is active, false if the dark side is active
@@ -72,39 +103,34 @@ public class BasicAIStrategy implements AIStrategy {
      */
     @Override
     public CardColor chooseWildColor(Player aiPlayer, boolean isLightSide) {
-        // Count color frequencies in hand
-        Map<CardColor, Integer> colorCounts = new HashMap<>();
-
-        for (Card card : aiPlayer.getHand()) {
-            CardColor color = card.getColor();
-            if (color != CardColor.WILD) { // Don't count wild cards
-                colorCounts.put(color, colorCounts.getOrDefault(color, 0) + 1);
-            }
+        CardColor picked = chosenColor;
+        chosenColor = null;
+        if (picked != null && aiPlayer.colorCount(picked, isLightSide) > 0) {
+            return picked;
         }
 
-        // Choose the most frequent color
-        CardColor bestColor = null;
-        int maxCount = -1;
-
-        for (Map.Entry<CardColor, Integer> entry : colorCounts.entrySet()) {
-            if (entry.getValue() > maxCount) {
-                maxCount = entry.getValue();
-                bestColor = entry.getKey();
-            }
-        }
+        // Choose the most frequent color, read from the player's hand index (wild cards are not counted)
+        CardColor bestColor = aiPlayer.mostCommonColor(isLightSide);
 
         // If no colors found (only wild cards), choose a default
         if (bestColor == null) {
-            CardColor[] availableColors = isLightSide ?
-                    new CardColor[]{CardColor.RED, CardColor.BLUE, CardColor.GREEN, CardColor.YELLOW} :
-                    new CardColor[]{CardColor.TEAL, CardColor.ORANGE, CardColor.PURPLE, CardColor.PINK};
-            bestColor = availableColors[0];
+            bestColor = isLightSide ? CardColor.RED : CardColor.TEAL; // first color of the active side
         }
 
         return bestColor;
     }
 
 
+    /**
+     * Stores the generator provided by the game for random decisions.
+     *
+     * @param random the generator for this strategy
+     */
+    @Override
+    public void setRandomGenerator(RandomGenerator random) {
+        this.random = random;
+    }
+
     /**
      * Returns the artificial delay applied before the AI performs its action.
      * This delay simulates thinking time to make AI behavior appear more natural.
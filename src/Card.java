@@ -15,9 +15,13 @@ import java.io.Serializable;
  *
  * @version 4.0, December 05, 2025
  */
-abstract public class Card implements Serializable {
+abstract public class Card implements Serializable, Cloneable {
+    // Side shown by this card; for a card in a game this is relative to the game's side (true = same side)
     protected boolean isLightSideActive;
 
+    // Side of the game this card belongs to, or null for a card created outside a Deck
+    private GameSide gameSide;
+
     @Serial
     private static final long serialVersionUID = 1L;
 
@@ -28,6 +32,9 @@ abstract public class Card implements Serializable {
     protected CardType lightType;
     protected CardType darkType;
 
+    // Stable 0 – 111 ID of the physical card within a deck (see CardIds), or -1 if not dealt from a Deck
+    private int id = -1;
+
     /**
      * Defines the effect or action that this card performs when played.
      *
@@ -40,11 +47,14 @@ abstract public class Card implements Serializable {
 
     /**
      * Determines whether this card can legally be played on top of another card.
+     * The rules for every card class are resolved by the {@link Playability} table.
      *
      * @param otherCard the {@link Card} currently on top of the play pile
      * @return boolean. true if this card can be played on top of otherCard, false otherwise
      */
-    public abstract boolean playableOnTop(Card otherCard);
+    public boolean playableOnTop(Card otherCard) {
+        return Playability.isPlayable(this, otherCard);
+    }
 
 
     /**
@@ -53,7 +63,7 @@ abstract public class Card implements Serializable {
      * @return the {@link CardType} for the active side, either light or dark
      */
     public CardType getType() {
-        if (isLightSideActive) {
+        if (getActiveSide()) {
             return lightType;
         } else {
             return darkType;
@@ -66,7 +76,7 @@ abstract public class Card implements Serializable {
      * @return the {@link CardColor} for the active side, light or dark
      */
     public CardColor getColor() {
-        if (isLightSideActive) {
+        if (getActiveSide()) {
             return lightColor;
         } else {
             return darkColor;
@@ -89,7 +99,10 @@ abstract public class Card implements Serializable {
      * @return boolean. true if the light side is active; false if otherwise (darkside activated)
      */
     public boolean getActiveSide() {
-        return isLightSideActive;
+        if (gameSide == null) {
+            return isLightSideActive;
+        }
+        return isLightSideActive == gameSide.isLightSide();
     }
 
 
@@ -99,7 +112,60 @@ abstract public class Card implements Serializable {
      * @param activeSide true to activate the light side, false to activate the dark side
      */
     public void setActiveSide(boolean activeSide) {
-        this.isLightSideActive = activeSide;
+        if (gameSide == null) {
+            this.isLightSideActive = activeSide;
+        } else {
+            this.isLightSideActive = activeSide == gameSide.isLightSide();
+        }
+    }
+
+
+    /**
+     * Makes the card follow the given game side. Called by {@link Deck} while building a new deck,
+     * when every card still shows its light side.
+     *
+     * @param gameSide the side of the game the card belongs to
+     */
+    void bindGameSide(GameSide gameSide) {
+        this.gameSide = gameSide;
+    }
+
+
+    /**
+     * Returns a copy of this card, showing the same side and colors, that follows
+     * another game's side. Used when a game is forked.
+     *
+     * @param gameSide the side of the game the copy belongs to
+     * @return the copy
+     */
+    Card copyFor(GameSide gameSide) {
+        try {
+            Card copy = (Card) clone();
+            copy.gameSide = gameSide;
+            return copy;
+        } catch (CloneNotSupportedException e) {
+            throw new AssertionError(e); // Card is Cloneable
+        }
+    }
+
+
+    /**
+     * Returns the card's stable ID in the compact representation.
+     *
+     * @return the ID between 0 and 111, or -1 if the card was not created by a {@link Deck}
+     */
+    public int getId() {
+        return id;
+    }
+
+
+    /**
+     * Assigns the card's stable ID. Called by {@link Deck} while building a new deck.
+     *
+     * @param id the ID between 0 and 111
+     */
+    void setId(int id) {
+        this.id = id;
     }
 
 
@@ -108,9 +174,9 @@ abstract public class Card implements Serializable {
      * Prints the color and type of the currently activated side
      */
     public void printCard(){
-        if(isLightSideActive){
+        if(getActiveSide()){
             System.out.println(this.lightColor + "  " + this.lightType);
-        } else if (!isLightSideActive) {
+        } else {
             System.out.println(this.darkColor + "  " + this.darkType);
         }
     }
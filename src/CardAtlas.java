@@ -0,0 +1,263 @@
+import javax.imageio.ImageIO;
+import javax.imageio.stream.MemoryCacheImageInputStream;
+import java.awt.image.BufferedImage;
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.*;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+
+/**
+ * The CardAtlas class packs every card face into a single file and reads the
+ * faces back from it, so the game opens one file at startup instead of one per
+ * card, and can find its images inside a packaged jar.
+ * The atlas starts with an index giving, for each face, its path under the
+ * asset folder (such as "light/red/2.png") and where its PNG data lies in the
+ * file; the PNG data of every face follows the index. On disk the atlas is
+ * memory-mapped and each face is decoded straight from its slice of the
+ * mapping the first time it is asked for.
+ * Run this class's {@code main} method to rebuild the atlas after changing the
+ * images in the asset folder.
+ *
+ * @author Ahmad El-Jabi 101303269
+ * @author Atik Mahmud 101318070
+ * @author Aryan Singh 101299776
+ * @author Jonathan Gitej 101294584
+ *
+ * @version 4.0, December 05, 2025
+ */
+public class CardAtlas {
+    public static final String FILE_NAME = "cards.atlas";
+
+    private static final int MAGIC = 0x554E4F41; // "UNOA"
+    private static final int VERSION = 1;
+
+    private final ByteBuffer data;
+    private final HashMap<String, int[]> index; // path -> {offset, length}
+
+    /**
+     * Creates an atlas over the given contents.
+     *
+     * @param data the whole atlas file
+     * @param index the offset and length of each face, by path
+     */
+    private CardAtlas(ByteBuffer data, HashMap<String, int[]> index) {
+        this.data = data;
+        this.index = index;
+    }
+
+    /**
+     * Opens the atlas of an asset folder: the atlas file in the folder if there
+     * is one, otherwise the atlas packaged on the classpath (inside the jar).
+     *
+     * @param assetRoot the asset folder
+     * @return the atlas, or null if there is none or it cannot be read
+     */
+    public static CardAtlas open(String assetRoot) {
+        Path file = Paths.get(assetRoot, FILE_NAME);
+        try {
+            if (Files.isRegularFile(file)) {
+                return load(file);
+            }
+            try (InputStream in = CardAtlas.class.getResourceAsStream("/" + FILE_NAME)) {
+                if (in != null) {
+                    return read(ByteBuffer.wrap(in.readAllBytes()));
+                }
+            }
+        } catch (IOException e) {
+            System.out.println("Could not load card atlas: " + e.getMessage());
+        }
+        return null;
+    }
+
+    /**
+     * Memory-maps an atlas file.
+     *
+     * @param file the atlas file
+     * @return the atlas
+     * @throws IOException if the file cannot be read or is not an atlas
+     */
+    public static CardAtlas load(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            // The mapping stays valid after the channel is closed
+            return read(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+        }
+    }
+
+    /**
+     * Reads the index of an atlas held in memory.
+     *
+     * @param data the whole atlas file
+     * @return the atlas
+     * @throws IOException if the data is not an atlas
+     */
+    public static CardAtlas read(ByteBuffer data) throws IOException {
+        try {
+            ByteBuffer header = data.duplicate();
+            if (header.getInt() != MAGIC || header.getInt() != VERSION) {
+                throw new IOException("not a card atlas");
+            }
+
+            int count = header.getInt();
+            HashMap<String, int[]> index = new HashMap<>();
+            for (int i = 0; i < count; i++) {
+                byte[] name = new byte[header.getShort()];
+                header.get(name);
+                int offset = header.getInt();
+                int length = header.getInt();
+                if (offset < 0 || length < 0 || offset > data.limit() - length) {
+                    throw new IOException("corrupt card atlas");
+                }
+                index.put(new String(name, "UTF-8"), new int[]{offset, length});
+            }
+            return new CardAtlas(data, index);
+        } catch (RuntimeException e) {
+            throw new IOException("corrupt card atlas", e);
+        }
+    }
+
+    /**
+     * Returns whether the atlas holds the face with the given path.
+     *
+     * @param path the path under the asset folder, such as "light/red/2.png"
+     * @return true if the face is in the atlas
+     */
+    public boolean contains(String path) {
+        return index.containsKey(path);
+    }
+
+    /**
+     * Returns the number of faces in the atlas.
+     *
+     * @return the face count
+     */
+    public int size() {
+        return index.size();
+    }
+
+    /**
+     * Decodes the face with the given path. Safe to call from several threads at once.
+     *
+     * @param path the path under the asset folder, such as "light/red/2.png"
+     * @return the image, or null if the face is not in the atlas or cannot be decoded
+     */
+    public BufferedImage getImage(String path) {
+        int[] entry = index.get(path);
+        if (entry == null) {
+            return null;
+        }
+
+        // An absolute slice leaves the shared buffer's position alone
+        ByteBuffer slice = data.slice(entry[0], entry[1]);
+        try {
+            // ImageIO.read closes the stream
+            return ImageIO.read(new MemoryCacheImageInputStream(new ByteBufferInputStream(slice)));
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Packs every PNG under the light/ and dark/ folders of an asset folder into an atlas file.
+     *
+     * @param assetRoot the asset folder
+     * @param out the atlas file to write
+     * @return the number of faces written
+     * @throws IOException if an image or the atlas cannot be read or written
+     */
+    public static int write(Path assetRoot, Path out) throws IOException {
+        List<String> names = new ArrayList<>();
+        for (String side : new String[]{"light", "dark"}) {
+            Path sideFolder = assetRoot.resolve(side);
+            if (Files.isDirectory(sideFolder)) {
+                try (var paths = Files.walk(sideFolder)) {
+                    paths.filter(p -> p.toString().endsWith(".png"))
+                            .forEach(p -> names.add(assetRoot.relativize(p).toString().replace(File.separatorChar, '/')));
+                }
+            }
+        }
+        Collections.sort(names);
+
+        byte[][] encodedNames = new byte[names.size()][];
+        int headerSize = 12;
+        for (int i = 0; i < names.size(); i++) {
+            encodedNames[i] = names.get(i).getBytes("UTF-8");
+            headerSize += 2 + encodedNames[i].length + 8;
+        }
+
+        try (DataOutputStream dataOut = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(out)))) {
+            dataOut.writeInt(MAGIC);
+            dataOut.writeInt(VERSION);
+            dataOut.writeInt(names.size());
+
+            long offset = headerSize;
+            for (int i = 0; i < names.size(); i++) {
+                long length = Files.size(assetRoot.resolve(names.get(i)));
+                dataOut.writeShort(encodedNames[i].length);
+                dataOut.write(encodedNames[i]);
+                dataOut.writeInt((int) offset);
+                dataOut.writeInt((int) length);
+                offset += length;
+            }
+            for (String name : names) {
+                Files.copy(assetRoot.resolve(name), dataOut);
+            }
+        }
+        return names.size();
+    }
+
+    /**
+     * Builds the atlas file from the card images.
+     * Usage: {@code java CardAtlas [assetFolder [atlasFile]]}, by default
+     * {@code assets} and {@code assets/cards.atlas}.
+     *
+     * @param args the optional asset folder and atlas file
+     * @throws IOException if the images or the atlas cannot be read or written
+     */
+    public static void main(String[] args) throws IOException {
+        Path assetRoot = Paths.get(args.length > 0 ? args[0] : "assets");
+        Path out = args.length > 1 ? Paths.get(args[1]) : assetRoot.resolve(FILE_NAME);
+
+        int count = write(assetRoot, out);
+        System.out.println("Wrote " + count + " card faces to " + out + " (" + Files.size(out) + " bytes)");
+    }
+
+    /**
+     * Reads a byte buffer as a stream, without copying it.
+     */
+    private static final class ByteBufferInputStream extends InputStream {
+        private final ByteBuffer buffer;
+
+        /**
+         * Creates a stream over the remaining bytes of a buffer.
+         *
+         * @param buffer the buffer, whose position is moved as the stream is read
+         */
+        ByteBufferInputStream(ByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        @Override
+        public int read() {
+            return buffer.hasRemaining() ? buffer.get() & 0xFF : -1;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) {
+            if (!buffer.hasRemaining()) {
+                return -1;
+            }
+            int n = Math.min(len, buffer.remaining());
+            buffer.get(b, off, n);
+            return n;
+        }
+
+        @Override
+        public int available() {
+            return buffer.remaining();
+        }
+    }
+}
@@ -1,7 +1,5 @@
 import java.awt.*;
 import java.awt.image.BufferedImage;
-import java.io.File;
-import javax.imageio.ImageIO;
 import javax.swing.*;
 
 /**
@@ -19,6 +17,9 @@ import javax.swing.*;
  * @version 4.0, December 05, 2025
  */
 public class CardComponent extends JPanel {
+    public static final int CARD_WIDTH = 100;  // preferred size of a card component
+    public static final int CARD_HEIGHT = 140;
+
     private Card card;           // The actual card data from model
     private int cardIndex;       // Position in player's hand
     private boolean isPlayable;  // Highlight if playable
@@ -38,7 +39,7 @@ public class CardComponent extends JPanel {
         this.isPlayable = false;
 
         setLayout(new BorderLayout());
-        setPreferredSize(new Dimension(100, 140)); //size of card
+        setPreferredSize(new Dimension(CARD_WIDTH, CARD_HEIGHT)); //size of card
 
         loadCardImage();
         initializeComponents(controller);
@@ -92,8 +93,6 @@ public class CardComponent extends JPanel {
      */
     private void stylizeCard(Graphics g) {
         Graphics2D g2 = (Graphics2D) g;
-        g2.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
-        g2.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
         g2.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
 
         if (cardImage != null) {
@@ -116,7 +115,8 @@ public class CardComponent extends JPanel {
             int x = (panelWidth - scaledWidth) / 2;
             int y = (panelHeight - scaledHeight) / 2;
 
-            g2.drawImage(cardImage, x, y, scaledWidth, scaledHeight, null);
+            // Copy of the image already scaled to this size, so repainting does not rescale it
+            ScaledImageCache.getShared().draw(g2, cardImage, x, y, scaledWidth, scaledHeight);
         } else {
             g.setColor(Color.LIGHT_GRAY);
             g.fillRect(0, 0, getWidth(), getHeight());
@@ -155,6 +155,27 @@ public class CardComponent extends JPanel {
         return cardIndex;
     }
 
+    /**
+     * Makes this component show another card, so that it can be reused instead of creating a new one.
+     *
+     * @param card the card to show
+     * @param index the index of the card in the player's hand
+     */
+    public void setCard(Card card, int index) {
+        this.card = card;
+        this.cardIndex = index;
+        refreshImage();
+    }
+
+    /**
+     * Updates the index of this card in the player's hand, as when an earlier card was played.
+     *
+     * @param cardIndex the card's new index position
+     */
+    public void setCardIndex(int cardIndex) {
+        this.cardIndex = cardIndex;
+    }
+
     /**
      * Returns the {@link Card} object associated with this component.
      *
@@ -196,63 +217,23 @@ public class CardComponent extends JPanel {
     }
 
     /**
-     * Generates the image path based on the card’s color, type, and active side.
-     *
-     * @return the relative file path of the card image
+     * Loads the appropriate image for the card from the shared {@link CardImageCache},
+     * which reads each image from disk only once.
+     * If the image cannot be found, the card keeps a placeholder display.
      */
-    private String getImagePath() {
-        String sideFolder = card.getActiveSide() ? "light" : "dark";
-        String basePath = "assets/" + sideFolder + "/";
-
-
-        String colorFolder = switch (card.getColor()) {
-            case RED -> "red";
-            case BLUE -> "blue";
-            case YELLOW -> "yellow";
-            case GREEN -> "green";
-            case WILD -> "wild";
-            case PURPLE -> "purple";
-            case PINK -> "pink";
-            case ORANGE -> "orange";
-            case TEAL -> "teal";
-        };
-
-        // Map special names
-        String typeName = switch (card.getType()) {
-            case ONE -> "0";
-            case TWO -> "1";
-            case THREE -> "2";
-            case FOUR -> "3";
-            case FIVE -> "4";
-            case SIX -> "5";
-            case SEVEN -> "6";
-            case EIGHT -> "7";
-            case NINE -> "8";
-            case DRAW_ONE, DRAW_FIVE -> "10";
-            case FLIP, DARK_FLIP -> "9";
-            case SKIP, SKIP_EVERYONE -> "11";
-            case LIGHT_REVERSE, DARK_REVERSE -> "12";
-            case WILD, DARK_WILD-> "15";
-            case DRAW_TWO, DRAW_COLOR -> "16";
-        };
-        return basePath + colorFolder + "/" + typeName + ".png";
+    private void loadCardImage() {
+        cardImage = CardImageCache.getShared().getImage(card);
     }
 
     /**
-     * Loads the appropriate image for the card
-     * If the image cannot be found, logs a warning message and leaves
-     * the card with a placeholder display.
+     * Shows the card's current image, in case its side or color changed since
+     * this component was created, and repaints if it did.
      */
-    private void loadCardImage() {
-        String imagePath = getImagePath();
-        try {
-            cardImage = ImageIO.read(new File(imagePath));
-        } catch (Exception e) {
-            System.out.println("Could not load card image: " + imagePath);
-            cardImage = null;
+    public void refreshImage() {
+        BufferedImage image = CardImageCache.getShared().getImage(card);
+        if (image != cardImage) {
+            cardImage = image;
+            repaint();
         }
     }
 }
-
-
-
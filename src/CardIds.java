@@ -0,0 +1,91 @@
+import java.util.SplittableRandom;
+
+/**
+ * The CardIds class describes the 112 physical cards of an UNO Flip! deck by
+ * their stable IDs. Every {@link Deck} numbers its cards 0 – 111 in the order it
+ * creates them, so an ID always names the same face pair (for example, the first
+ * red / teal five). These tables let the compact simulation state
+ * ({@link CompactGameState}) look up a card's color and type on either side
+ * without touching any {@link Card} object.
+ *
+ * @author Ahmad El-Jabi 101303269
+ * @author Atik Mahmud 101318070
+ * @author Aryan Singh 101299776
+ * @author Jonathan Gitej 101294584
+ *
+ * @version 4.0, December 05, 2025
+ */
+public final class CardIds {
+    public static final int CARD_COUNT = 112; // number of physical cards in a deck
+    public static final int NO_CARD = -1;     // returned when there is no card to report
+
+    private static final CardColor[] COLORS = CardColor.values();
+    private static final CardType[] TYPES = CardType.values();
+
+    // Ordinals of each card's color and type on each side, indexed by ID
+    private static final byte[] LIGHT_COLOR = new byte[CARD_COUNT];
+    private static final byte[] DARK_COLOR = new byte[CARD_COUNT];
+    private static final byte[] LIGHT_TYPE = new byte[CARD_COUNT];
+    private static final byte[] DARK_TYPE = new byte[CARD_COUNT];
+
+    static {
+        // Any deck works: IDs are assigned before the deck is shuffled
+        for (Card card : new Deck(new SplittableRandom(0)).getDeck()) {
+            int id = card.getId();
+            LIGHT_COLOR[id] = (byte) card.lightColor.ordinal();
+            DARK_COLOR[id] = (byte) card.darkColor.ordinal();
+            LIGHT_TYPE[id] = (byte) card.lightType.ordinal();
+            DARK_TYPE[id] = (byte) card.darkType.ordinal();
+        }
+    }
+
+    /**
+     * Prevents instantiation; all members are static.
+     */
+    private CardIds() {
+    }
+
+    /**
+     * Returns the printed color of a card on the given side.
+     *
+     * @param id the card ID
+     * @param lightSide true for the light side, false for the dark side
+     * @return the {@link CardColor} on that side
+     */
+    public static CardColor color(int id, boolean lightSide) {
+        return COLORS[colorOrdinal(id, lightSide)];
+    }
+
+    /**
+     * Returns the type of a card on the given side.
+     *
+     * @param id the card ID
+     * @param lightSide true for the light side, false for the dark side
+     * @return the {@link CardType} on that side
+     */
+    public static CardType type(int id, boolean lightSide) {
+        return TYPES[typeOrdinal(id, lightSide)];
+    }
+
+    /**
+     * Returns the ordinal of a card's printed color on the given side.
+     *
+     * @param id the card ID
+     * @param lightSide true for the light side, false for the dark side
+     * @return the {@link CardColor} ordinal on that side
+     */
+    public static int colorOrdinal(int id, boolean lightSide) {
+        return lightSide ? LIGHT_COLOR[id] : DARK_COLOR[id];
+    }
+
+    /**
+     * Returns the ordinal of a card's type on the given side.
+     *
+     * @param id the card ID
+     * @param lightSide true for the light side, false for the dark side
+     * @return the {@link CardType} ordinal on that side
+     */
+    public static int typeOrdinal(int id, boolean lightSide) {
+        return lightSide ? LIGHT_TYPE[id] : DARK_TYPE[id];
+    }
+}
@@ -0,0 +1,338 @@
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import javax.imageio.ImageIO;
+
+/**
+ * The CardImageCache class decodes each card image at most once and shares it
+ * between all {@link CardComponent}s. Images are keyed by side, color and type,
+ * which is everything the image of a card depends on.
+ * Lookups of an image that is already loaded take no lock; a missing image is
+ * decoded while holding a lock for its key only, so that two threads asking for
+ * the same image decode it once while other images load in parallel.
+ * Images that cannot be read are remembered as missing and are not read again.
+ * Images come from the asset folder's {@link CardAtlas} when there is one,
+ * which is a single mapped file and is also found inside a packaged jar; an
+ * image missing from the atlas is read from its own file.
+ * {@link #preload()} decodes every image in the background at startup, so
+ * that the first hand shown does not wait for the disk.
+ *
+ * @author Ahmad El-Jabi 101303269
+ * @author Atik Mahmud 101318070
+ * @author Aryan Singh 101299776
+ * @author Jonathan Gitej 101294584
+ *
+ * @version 4.0, December 05, 2025
+ */
+public class CardImageCache {
+    private static final CardColor[] COLORS = CardColor.values();
+    private static final CardType[] TYPES = CardType.values();
+    private static final int KEY_COUNT = 2 * COLORS.length * TYPES.length;
+
+    // Stored in place of an image that could not be read
+    private static final BufferedImage MISSING = new BufferedImage(1, 1, BufferedImage.TYPE_INT_ARGB);
+
+    private static final CardImageCache SHARED = new CardImageCache("assets");
+
+    private final String assetRoot;
+    private final CardAtlas atlas; // null if the asset folder has no atlas
+    private final AtomicReferenceArray<BufferedImage> images = new AtomicReferenceArray<>(KEY_COUNT);
+    private final Object[] locks = new Object[KEY_COUNT];
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+
+    /**
+     * Creates an empty cache that reads images from the given folder, or from its atlas if it has one.
+     *
+     * @param assetRoot the folder holding the light/ and dark/ image folders
+     */
+    public CardImageCache(String assetRoot) {
+        this(assetRoot, CardAtlas.open(assetRoot));
+    }
+
+    /**
+     * Creates an empty cache that reads images from the given atlas, falling back to the given folder.
+     *
+     * @param assetRoot the folder holding the light/ and dark/ image folders
+     * @param atlas the atlas to read images from first, or null to only read image files
+     */
+    public CardImageCache(String assetRoot, CardAtlas atlas) {
+        this.assetRoot = assetRoot;
+        this.atlas = atlas;
+        for (int i = 0; i < KEY_COUNT; i++) {
+            locks[i] = new Object();
+        }
+    }
+
+    /**
+     * Returns the cache shared by the whole application.
+     *
+     * @return the shared cache reading from the assets folder
+     */
+    public static CardImageCache getShared() {
+        return SHARED;
+    }
+
+    /**
+     * Returns the image of a card as it currently shows.
+     *
+     * @param card the card
+     * @return the decoded image, or null if it could not be read
+     */
+    public BufferedImage getImage(Card card) {
+        return getImage(card.getActiveSide(), card.getColor(), card.getType());
+    }
+
+    /**
+     * Returns the image for the given side, color and type, decoding it on first use.
+     * The returned image is shared and must not be modified.
+     *
+     * @param lightSide true for the light side
+     * @param color the card color
+     * @param type the card type
+     * @return the decoded image, or null if it could not be read
+     */
+    public BufferedImage getImage(boolean lightSide, CardColor color, CardType type) {
+        int key = key(lightSide, color, type);
+        BufferedImage image = images.get(key);
+        if (image == null) {
+            synchronized (locks[key]) {
+                image = images.get(key);
+                if (image == null) {
+                    misses.incrementAndGet();
+                    image = read(entryName(lightSide, color, type));
+                    images.set(key, image);
+                    return image == MISSING ? null : image;
+                }
+            }
+        }
+        hits.incrementAndGet();
+        return image == MISSING ? null : image;
+    }
+
+    /**
+     * Decodes every card image that exists, in parallel on background threads
+     * (one per processor, and at least two so that reading overlaps decoding).
+     * The threads are daemons and stop once every image is loaded.
+     *
+     * @return a future completed with the number of images decoded once they are all loaded
+     */
+    public CompletableFuture<Integer> preload() {
+        int threads = Math.max(2, Runtime.getRuntime().availableProcessors());
+        ExecutorService executor = Executors.newFixedThreadPool(threads, task -> {
+            Thread thread = new Thread(task, "card-image-preloader");
+            thread.setDaemon(true);
+            return thread;
+        });
+        CompletableFuture<Integer> loaded = preload(executor);
+        loaded.whenComplete((decoded, error) -> executor.shutdown());
+        return loaded;
+    }
+
+    /**
+     * Decodes every card image that exists, in parallel on the given executor.
+     * Each image file is decoded once, even when several card types share it,
+     * and images already loaded are skipped. Lookups made meanwhile either find
+     * the image loaded or wait for its decoding instead of reading it again.
+     *
+     * @param executor the executor to decode on
+     * @return a future completed with the number of images decoded once they are all loaded
+     */
+    public CompletableFuture<Integer> preload(Executor executor) {
+        // Group the slots by image, so that shared images are decoded once
+        Map<String, List<Integer>> keysByEntry = new LinkedHashMap<>();
+        for (boolean lightSide : new boolean[]{true, false}) {
+            for (CardColor color : COLORS) {
+                for (CardType type : TYPES) {
+                    String entryName = entryName(lightSide, color, type);
+                    if (hasImage(entryName)) {
+                        keysByEntry.computeIfAbsent(entryName, name -> new ArrayList<>()).add(key(lightSide, color, type));
+                    }
+                }
+            }
+        }
+
+        List<CompletableFuture<Boolean>> tasks = new ArrayList<>();
+        for (Map.Entry<String, List<Integer>> entry : keysByEntry.entrySet()) {
+            tasks.add(CompletableFuture.supplyAsync(() -> preloadEntry(entry.getKey(), entry.getValue()), executor));
+        }
+        return CompletableFuture.allOf(tasks.toArray(CompletableFuture<?>[]::new)).thenApply(done -> {
+            int decoded = 0;
+            for (CompletableFuture<Boolean> task : tasks) {
+                if (task.join()) {
+                    decoded++;
+                }
+            }
+            return decoded;
+        });
+    }
+
+    /**
+     * Decodes one image into every empty slot that shows it.
+     *
+     * @param entryName the path of the image under the asset folder
+     * @param keys the slots showing the image
+     * @return true if the image was decoded, false if every slot was already loaded or the file could not be read
+     */
+    private boolean preloadEntry(String entryName, List<Integer> keys) {
+        BufferedImage image = null;
+        for (int key : keys) {
+            synchronized (locks[key]) {
+                if (images.get(key) == null) {
+                    if (image == null) {
+                        misses.incrementAndGet();
+                        image = read(entryName);
+                    }
+                    images.set(key, image);
+                }
+            }
+        }
+        return image != null && image != MISSING;
+    }
+
+    /**
+     * Returns the number of lookups answered without reading a file.
+     *
+     * @return the hit count
+     */
+    public long getHits() {
+        return hits.get();
+    }
+
+    /**
+     * Returns the number of lookups that had to read a file.
+     *
+     * @return the miss count
+     */
+    public long getMisses() {
+        return misses.get();
+    }
+
+    /**
+     * Forgets every image and resets the counters.
+     */
+    public void clear() {
+        for (int i = 0; i < KEY_COUNT; i++) {
+            synchronized (locks[i]) {
+                images.set(i, null);
+            }
+        }
+        hits.set(0);
+        misses.set(0);
+    }
+
+    /**
+     * Returns the slot of the given side, color and type.
+     *
+     * @param lightSide true for the light side
+     * @param color the card color
+     * @param type the card type
+     * @return the slot index
+     */
+    private static int key(boolean lightSide, CardColor color, CardType type) {
+        return ((lightSide ? 0 : 1) * COLORS.length + color.ordinal()) * TYPES.length + type.ordinal();
+    }
+
+    /**
+     * Returns whether an image exists in the atlas or as a file.
+     *
+     * @param entryName the path of the image under the asset folder
+     * @return true if the image can be read
+     */
+    private boolean hasImage(String entryName) {
+        return (atlas != null && atlas.contains(entryName)) || new File(assetRoot, entryName).isFile();
+    }
+
+    /**
+     * Decodes an image from the atlas, or from its file if the atlas does not have it.
+     *
+     * @param entryName the path of the image under the asset folder
+     * @return the image, or {@link #MISSING} if it could not be read
+     */
+    private BufferedImage read(String entryName) {
+        if (atlas != null && atlas.contains(entryName)) {
+            BufferedImage image = atlas.getImage(entryName);
+            if (image != null) {
+                return image;
+            }
+        }
+
+        String path = assetRoot + "/" + entryName;
+        try {
+            BufferedImage image = ImageIO.read(new File(path));
+            if (image != null) {
+                return image;
+            }
+        } catch (Exception e) {
+            // reported below
+        }
+        System.out.println("Could not load card image: " + path);
+        return MISSING;
+    }
+
+    /**
+     * Generates the image path for a card's side, color and type.
+     *
+     * @param lightSide true for the light side
+     * @param color the card color
+     * @param type the card type
+     * @return the file path of the card image
+     */
+    String imagePath(boolean lightSide, CardColor color, CardType type) {
+        return assetRoot + "/" + entryName(lightSide, color, type);
+    }
+
+    /**
+     * Generates the path of a card's image under the asset folder, which is also its name in the atlas.
+     *
+     * @param lightSide true for the light side
+     * @param color the card color
+     * @param type the card type
+     * @return the path, such as "light/red/2.png"
+     */
+    static String entryName(boolean lightSide, CardColor color, CardType type) {
+        String sideFolder = lightSide ? "light" : "dark";
+        String basePath = sideFolder + "/";
+
+        String colorFolder = switch (color) {
+            case RED -> "red";
+            case BLUE -> "blue";
+            case YELLOW -> "yellow";
+            case GREEN -> "green";
+            case WILD -> "wild";
+            case PURPLE -> "purple";
+            case PINK -> "pink";
+            case ORANGE -> "orange";
+            case TEAL -> "teal";
+        };
+
+        // Map special names
+        String typeName = switch (type) {
+            case ONE -> "0";
+            case TWO -> "1";
+            case THREE -> "2";
+            case FOUR -> "3";
+            case FIVE -> "4";
+            case SIX -> "5";
+            case SEVEN -> "6";
+            case EIGHT -> "7";
+            case NINE -> "8";
+            case DRAW_ONE, DRAW_FIVE -> "10";
+            case FLIP, DARK_FLIP -> "9";
+            case SKIP, SKIP_EVERYONE -> "11";
+            case LIGHT_REVERSE, DARK_REVERSE -> "12";
+            case WILD, DARK_WILD-> "15";
+            case DRAW_TWO, DRAW_COLOR -> "16";
+        };
+        return basePath + colorFolder + "/" + typeName + ".png";
+    }
+}
@@ -0,0 +1,317 @@
+import java.io.Serializable;
+import java.util.Arrays;
+
+/**
+ * The CardTracker class keeps count of the public information of a round: the
+ * cards that everyone has seen on the play pile, which cards each seat has
+ * picked up as a penalty from a draw card (they are dealt while the whole table
+ * watches), and which cards are still unknown to the table (in the draw deck or
+ * in someone's hand).
+ * The {@link UNO_Model} updates it as cards move (plays, penalty draws and
+ * reshuffles, and the undo and redo of each), so every question is answered in
+ * constant time instead of walking the play pile. All AI players at a table
+ * share the model's tracker; a player's own unknown pool is the table's pool
+ * minus its own hand.
+ * Counts are kept for both sides of every card, so a flip changes nothing here;
+ * colors are the printed ones, not the color chosen for a played wild card.
+ *
+ * @author Ahmad El-Jabi 101303269
+ * @author Atik Mahmud 101318070
+ * @author Aryan Singh 101299776
+ * @author Jonathan Gitej 101294584
+ *
+ * @version 4.0, December 05, 2025
+ */
+public class CardTracker implements Serializable {
+    private static final long serialVersionUID = 1L;
+
+    private static final int WORDS = 2; // 112 cards fit in two 64-bit words
+    private static final int LIGHT = 0;
+    private static final int DARK = 1;
+    private static final long[] ALL_CARDS = {-1L, (1L << (CardIds.CARD_COUNT - 64)) - 1};
+
+    // Number of cards in a full deck with each color and type key, by side
+    private static final int[][] KEY_TOTALS = new int[2][Playability.KEY_COUNT];
+    // Number of cards in a full deck of each color, by side
+    private static final int[][] COLOR_TOTALS = new int[2][CardColor.values().length];
+
+    static {
+        for (int id = 0; id < CardIds.CARD_COUNT; id++) {
+            KEY_TOTALS[LIGHT][keyOf(id, true)]++;
+            KEY_TOTALS[DARK][keyOf(id, false)]++;
+            COLOR_TOTALS[LIGHT][CardIds.colorOrdinal(id, true)]++;
+            COLOR_TOTALS[DARK][CardIds.colorOrdinal(id, false)]++;
+        }
+    }
+
+    private final long[] seen = new long[WORDS];   // cards on the play pile
+    private int seenCount;
+    private final int[][] colorCounts = new int[2][CardColor.values().length]; // seen cards by side and color
+    private final int[][] typeCounts = new int[2][CardType.values().length];   // seen cards by side and type
+    private final int[][] keyCounts = new int[2][Playability.KEY_COUNT];       // seen cards by side and key
+    private final int[] penaltyCards;                                         // cards picked up as penalties, by seat
+    private final long[] penaltyHands;                                        // bits of those cards, WORDS per seat
+
+    /**
+     * Creates an empty tracker for a table.
+     *
+     * @param numPlayers the number of seats
+     */
+    public CardTracker(int numPlayers) {
+        penaltyCards = new int[numPlayers];
+        penaltyHands = new long[numPlayers * WORDS];
+    }
+
+    /**
+     * Creates a tracker holding the same information as another.
+     *
+     * @param other the tracker to copy
+     */
+    public CardTracker(CardTracker other) {
+        System.arraycopy(other.seen, 0, seen, 0, WORDS);
+        seenCount = other.seenCount;
+        for (int side = LIGHT; side <= DARK; side++) {
+            System.arraycopy(other.colorCounts[side], 0, colorCounts[side], 0, colorCounts[side].length);
+            System.arraycopy(other.typeCounts[side], 0, typeCounts[side], 0, typeCounts[side].length);
+            System.arraycopy(other.keyCounts[side], 0, keyCounts[side], 0, keyCounts[side].length);
+        }
+        penaltyCards = other.penaltyCards.clone();
+        penaltyHands = other.penaltyHands.clone();
+    }
+
+    /**
+     * Returns the {@link Playability} key of a card's printed side.
+     *
+     * @param id the card ID
+     * @param lightSide true for the light side
+     * @return the key
+     */
+    private static int keyOf(int id, boolean lightSide) {
+        return Playability.key(CardIds.colorOrdinal(id, lightSide), CardIds.typeOrdinal(id, lightSide));
+    }
+
+    /**
+     * Forgets everything, as at the start of a round.
+     */
+    public void reset() {
+        clearSeen();
+        Arrays.fill(penaltyCards, 0);
+        Arrays.fill(penaltyHands, 0);
+    }
+
+    /**
+     * Forgets the seen cards.
+     */
+    private void clearSeen() {
+        seen[0] = 0;
+        seen[1] = 0;
+        seenCount = 0;
+        for (int side = LIGHT; side <= DARK; side++) {
+            Arrays.fill(colorCounts[side], 0);
+            Arrays.fill(typeCounts[side], 0);
+            Arrays.fill(keyCounts[side], 0);
+        }
+    }
+
+    /**
+     * Records a card put face up on the play pile.
+     * Cards without an ID (not dealt from a {@link Deck}) are ignored.
+     *
+     * @param id the card ID
+     */
+    public void cardPlayed(int id) {
+        count(id, 1);
+    }
+
+    /**
+     * Records a card taken back off the play pile, when a play is undone.
+     *
+     * @param id the card ID
+     */
+    public void cardUnplayed(int id) {
+        count(id, -1);
+    }
+
+    /**
+     * Records that the play pile was shuffled back into the deck, leaving only its top card.
+     *
+     * @param topId the ID of the card left on the pile
+     */
+    public void pileReshuffled(int topId) {
+        // Penalty cards that were played go back into the deck, where nobody knows them any more.
+        // Undoing the reshuffle does not bring this back, so the tracker may then know less, never more.
+        for (int i = 0; i < penaltyHands.length; i++) {
+            penaltyHands[i] &= ~seen[i % WORDS];
+        }
+        clearSeen();
+        cardPlayed(topId);
+    }
+
+    /**
+     * Records a card picked up by a seat because of a draw card played on it.
+     *
+     * @param seat the seat that picked the card up
+     * @param id the card ID
+     */
+    public void penaltyDrawn(int seat, int id) {
+        penaltyCards[seat]++;
+        if (id >= 0) {
+            penaltyHands[seat * WORDS + (id >>> 6)] |= 1L << id;
+        }
+    }
+
+    /**
+     * Takes back a penalty card, when its draw is undone.
+     *
+     * @param seat the seat that had picked the card up
+     * @param id the card ID
+     */
+    public void penaltyUndrawn(int seat, int id) {
+        penaltyCards[seat]--;
+        if (id >= 0) {
+            penaltyHands[seat * WORDS + (id >>> 6)] &= ~(1L << id);
+        }
+    }
+
+    /**
+     * Adds or removes a card from the seen cards.
+     *
+     * @param id the card ID, ignored if negative
+     * @param delta 1 to add the card, -1 to remove it
+     */
+    private void count(int id, int delta) {
+        if (id < 0 || isSeen(id) == (delta > 0)) {
+            return;
+        }
+        seen[id >>> 6] ^= 1L << id;
+        seenCount += delta;
+        for (int side = LIGHT; side <= DARK; side++) {
+            boolean lightSide = side == LIGHT;
+            colorCounts[side][CardIds.colorOrdinal(id, lightSide)] += delta;
+            typeCounts[side][CardIds.typeOrdinal(id, lightSide)] += delta;
+            keyCounts[side][keyOf(id, lightSide)] += delta;
+        }
+    }
+
+    /**
+     * Returns whether a card is on the play pile.
+     *
+     * @param id the card ID
+     * @return true if everyone has seen the card
+     */
+    public boolean isSeen(int id) {
+        return (seen[id >>> 6] & (1L << id)) != 0;
+    }
+
+    /**
+     * Returns the number of cards on the play pile.
+     *
+     * @return the number of seen cards
+     */
+    public int getSeenCount() {
+        return seenCount;
+    }
+
+    /**
+     * Returns the number of seen cards of a color.
+     *
+     * @param color the printed color
+     * @param lightSide true to count light sides, false for dark sides
+     * @return the number of seen cards
+     */
+    public int getSeenCount(CardColor color, boolean lightSide) {
+        return colorCounts[lightSide ? LIGHT : DARK][color.ordinal()];
+    }
+
+    /**
+     * Returns the number of seen cards of a type.
+     *
+     * @param type the printed type
+     * @param lightSide true to count light sides, false for dark sides
+     * @return the number of seen cards
+     */
+    public int getSeenCount(CardType type, boolean lightSide) {
+        return typeCounts[lightSide ? LIGHT : DARK][type.ordinal()];
+    }
+
+    /**
+     * Returns the number of seen cards of a color and type.
+     *
+     * @param color the printed color
+     * @param type the printed type
+     * @param lightSide true to count light sides, false for dark sides
+     * @return the number of seen cards
+     */
+    public int getSeenCount(CardColor color, CardType type, boolean lightSide) {
+        return keyCounts[lightSide ? LIGHT : DARK][Playability.key(color, type)];
+    }
+
+    /**
+     * Returns how many cards of a color and type have not been seen.
+     *
+     * @param color the printed color
+     * @param type the printed type
+     * @param lightSide true for light sides, false for dark sides
+     * @return the number of such cards in the deck or in hands
+     */
+    public int getUnknownCount(CardColor color, CardType type, boolean lightSide) {
+        int side = lightSide ? LIGHT : DARK;
+        int key = Playability.key(color, type);
+        return KEY_TOTALS[side][key] - keyCounts[side][key];
+    }
+
+    /**
+     * Returns how many cards of a color have not been seen.
+     *
+     * @param color the printed color
+     * @param lightSide true for light sides, false for dark sides
+     * @return the number of such cards in the deck or in hands
+     */
+    public int getUnknownCount(CardColor color, boolean lightSide) {
+        int side = lightSide ? LIGHT : DARK;
+        return COLOR_TOTALS[side][color.ordinal()] - colorCounts[side][color.ordinal()];
+    }
+
+    /**
+     * Returns the number of cards not on the play pile.
+     *
+     * @return the size of the unknown pool
+     */
+    public int getUnknownCount() {
+        return CardIds.CARD_COUNT - seenCount;
+    }
+
+    /**
+     * Returns 64 cards of the unknown pool as a bit mask: bit {@code id % 64} of
+     * word {@code id / 64} is set if card {@code id} is not on the play pile.
+     *
+     * @param word 0 or 1
+     * @return the bits of the unknown cards
+     */
+    public long getUnknownWord(int word) {
+        return ~seen[word] & ALL_CARDS[word];
+    }
+
+    /**
+     * Returns how many cards a seat has picked up as penalties this round.
+     *
+     * @param seat the seat
+     * @return the number of penalty cards
+     */
+    public int getPenaltyCards(int seat) {
+        return penaltyCards[seat];
+    }
+
+    /**
+     * Returns 64 of the cards a seat is known to hold, because it picked them up
+     * as penalties this round and has not played them, in the same layout as
+     * {@link #getUnknownWord(int)}.
+     *
+     * @param seat the seat
+     * @param word 0 or 1
+     * @return the bits of the known cards
+     */
+    public long getPenaltyHandWord(int seat, int word) {
+        return penaltyHands[seat * WORDS + word] & ~seen[word];
+    }
+}
@@ -0,0 +1,404 @@
+import java.util.List;
+import java.util.random.RandomGenerator;
+
+/**
+ * The CompactGameState class is a flat, copyable snapshot of an UNO Flip! game
+ * built on the card IDs from {@link CardIds}, intended for simulations that need
+ * to copy and change game states millions of times.
+ * Each hand is a 112-bit set held in two {@code long} words, the draw deck and
+ * the play pile are byte arrays of card IDs with the top card last, and the rest
+ * of the state is a handful of scalars. The whole state fits in a few cache lines
+ * and {@link #copyFrom(CompactGameState)} copies it with {@link System#arraycopy}
+ * and no allocation. The {@link Card}, {@link Player}, {@link Deck} and
+ * {@link UNO_Model} objects used by the GUI are not changed; a compact state is
+ * taken from them with {@link #capture(UNO_Model)}.
+ *
+ * @author Ahmad El-Jabi 101303269
+ * @author Atik Mahmud 101318070
+ * @author Aryan Singh 101299776
+ * @author Jonathan Gitej 101294584
+ *
+ * @version 4.0, December 05, 2025
+ */
+public class CompactGameState {
+    private static final int WORDS_PER_HAND = 2; // 112 cards fit in two 64-bit words
+
+    private final int numPlayers;
+    private final long[] hands;   // bit id of words [2 * seat, 2 * seat + 1] is set if the seat holds card id
+    private final byte[] deck;    // draw deck, next card to draw last
+    private int deckSize;
+    private final byte[] pile;    // play pile, top card last
+    private int pileSize;
+
+    private int currentPlayer;    // seat whose turn it is
+    private boolean clockwise;    // direction of play
+    private boolean lightSide;    // which side of every card is active
+    private int topColor;         // ordinal of the top card's color in play (the chosen color for wild cards)
+
+    /**
+     * Creates an empty state for the given number of players.
+     *
+     * @param numPlayers the number of seats (2 – 4)
+     */
+    public CompactGameState(int numPlayers) {
+        this.numPlayers = numPlayers;
+        this.hands = new long[numPlayers * WORDS_PER_HAND];
+        this.deck = new byte[CardIds.CARD_COUNT];
+        this.pile = new byte[CardIds.CARD_COUNT];
+        this.clockwise = true;
+        this.lightSide = true;
+        this.topColor = CardColor.WILD.ordinal();
+    }
+
+    /**
+     * Builds the compact form of a game's current state.
+     *
+     * @param model the game to capture
+     * @return a new compact state equal to the model's state
+     * @throws IllegalStateException if a card in the game was not created by a {@link Deck}
+     */
+    public static CompactGameState capture(UNO_Model model) {
+        List<Player> players = model.getPlayers();
+        CompactGameState state = new CompactGameState(players.size());
+
+        for (int seat = 0; seat < players.size(); seat++) {
+            for (Card card : players.get(seat).getHand()) {
+                state.addToHand(seat, idOf(card));
+            }
+        }
+        for (Card card : model.getPlayDeck().getDeck()) {
+            state.addToDeck(idOf(card));
+        }
+        for (Card card : model.getPlayPile()) {
+            state.pushPile(idOf(card));
+        }
+
+        state.currentPlayer = model.getCurrentPlayerIndex();
+        state.clockwise = model.getDirection() == Direction.CLOCKWISE;
+        Card top = model.topCard();
+        if (top != null) {
+            state.lightSide = top.getActiveSide();
+            state.topColor = top.getColor().ordinal();
+        }
+        return state;
+    }
+
+    /**
+     * Returns a card's ID, checking that it belongs to a deck.
+     *
+     * @param card the card
+     * @return the card's ID
+     */
+    private static int idOf(Card card) {
+        int id = card.getId();
+        if (id < 0) {
+            throw new IllegalStateException("Card has no ID: " + card.getClass().getSimpleName());
+        }
+        return id;
+    }
+
+    /**
+     * Overwrites this state with another one for the same number of players, without allocating.
+     *
+     * @param other the state to copy
+     */
+    public void copyFrom(CompactGameState other) {
+        System.arraycopy(other.hands, 0, hands, 0, hands.length);
+        System.arraycopy(other.deck, 0, deck, 0, other.deckSize);
+        System.arraycopy(other.pile, 0, pile, 0, other.pileSize);
+        deckSize = other.deckSize;
+        pileSize = other.pileSize;
+        currentPlayer = other.currentPlayer;
+        clockwise = other.clockwise;
+        lightSide = other.lightSide;
+        topColor = other.topColor;
+    }
+
+    /**
+     * Returns an independent copy of this state.
+     *
+     * @return the copy
+     */
+    public CompactGameState copy() {
+        CompactGameState copy = new CompactGameState(numPlayers);
+        copy.copyFrom(this);
+        return copy;
+    }
+
+    // Hands
+
+    /**
+     * Checks whether a seat holds a card.
+     *
+     * @param seat the seat
+     * @param id the card ID
+     * @return true if the card is in that seat's hand
+     */
+    public boolean hasCard(int seat, int id) {
+        return (hands[seat * WORDS_PER_HAND + (id >>> 6)] & (1L << id)) != 0;
+    }
+
+    /**
+     * Puts a card into a seat's hand.
+     *
+     * @param seat the seat
+     * @param id the card ID
+     */
+    public void addToHand(int seat, int id) {
+        hands[seat * WORDS_PER_HAND + (id >>> 6)] |= 1L << id;
+    }
+
+    /**
+     * Takes a card out of a seat's hand.
+     *
+     * @param seat the seat
+     * @param id the card ID
+     */
+    public void removeFromHand(int seat, int id) {
+        hands[seat * WORDS_PER_HAND + (id >>> 6)] &= ~(1L << id);
+    }
+
+    /**
+     * Empties a seat's hand.
+     *
+     * @param seat the seat
+     */
+    public void clearHand(int seat) {
+        hands[seat * WORDS_PER_HAND] = 0;
+        hands[seat * WORDS_PER_HAND + 1] = 0;
+    }
+
+    /**
+     * Returns the number of cards a seat holds.
+     *
+     * @param seat the seat
+     * @return the hand size
+     */
+    public int handSize(int seat) {
+        int base = seat * WORDS_PER_HAND;
+        return Long.bitCount(hands[base]) + Long.bitCount(hands[base + 1]);
+    }
+
+    /**
+     * Finds the lowest card ID at or above {@code fromId} in a seat's hand, so that a hand
+     * can be walked without allocating: {@code for (int id = s.nextCardInHand(seat, 0); id >= 0;
+     * id = s.nextCardInHand(seat, id + 1))}.
+     *
+     * @param seat the seat
+     * @param fromId the ID to start searching from
+     * @return the next card ID in the hand, or {@link CardIds#NO_CARD} if there is none
+     */
+    public int nextCardInHand(int seat, int fromId) {
+        int base = seat * WORDS_PER_HAND;
+        for (int word = fromId >>> 6; word < WORDS_PER_HAND && fromId < CardIds.CARD_COUNT; word++) {
+            long bits = hands[base + word] & (-1L << fromId);
+            if (bits != 0) {
+                return (word << 6) + Long.numberOfTrailingZeros(bits);
+            }
+            fromId = (word + 1) << 6;
+        }
+        return CardIds.NO_CARD;
+    }
+
+    /**
+     * Returns one 64-card word of a seat's hand bitset.
+     *
+     * @param seat the seat
+     * @param word 0 for IDs 0 – 63, 1 for IDs 64 – 111
+     * @return the bits of that word
+     */
+    public long handWord(int seat, int word) {
+        return hands[seat * WORDS_PER_HAND + word];
+    }
+
+    // Draw deck
+
+    /**
+     * Returns the number of cards left in the draw deck.
+     *
+     * @return the deck size
+     */
+    public int deckSize() {
+        return deckSize;
+    }
+
+    /**
+     * Returns the card at a position of the draw deck (the last position is drawn next).
+     *
+     * @param index the position
+     * @return the card ID
+     */
+    public int deckCard(int index) {
+        return deck[index];
+    }
+
+    /**
+     * Puts a card on the end of the draw deck, where it will be drawn next.
+     *
+     * @param id the card ID
+     */
+    public void addToDeck(int id) {
+        deck[deckSize++] = (byte) id;
+    }
+
+    /**
+     * Removes the next card from the draw deck.
+     *
+     * @return the card ID, or {@link CardIds#NO_CARD} if the deck is empty
+     */
+    public int drawFromDeck() {
+        return deckSize == 0 ? CardIds.NO_CARD : deck[--deckSize];
+    }
+
+    /**
+     * Empties the draw deck.
+     */
+    public void clearDeck() {
+        deckSize = 0;
+    }
+
+    /**
+     * Shuffles the draw deck in place with a Fisher–Yates shuffle.
+     *
+     * @param random the generator to shuffle with
+     */
+    public void shuffleDeck(RandomGenerator random) {
+        for (int i = deckSize - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            byte card = deck[i];
+            deck[i] = deck[j];
+            deck[j] = card;
+        }
+    }
+
+    // Play pile
+
+    /**
+     * Returns the number of cards on the play pile.
+     *
+     * @return the pile size
+     */
+    public int pileSize() {
+        return pileSize;
+    }
+
+    /**
+     * Returns the card at a position of the play pile (the last position is the top).
+     *
+     * @param index the position
+     * @return the card ID
+     */
+    public int pileCard(int index) {
+        return pile[index];
+    }
+
+    /**
+     * Returns the card on top of the play pile.
+     *
+     * @return the card ID, or {@link CardIds#NO_CARD} if the pile is empty
+     */
+    public int topCard() {
+        return pileSize == 0 ? CardIds.NO_CARD : pile[pileSize - 1];
+    }
+
+    /**
+     * Puts a card on top of the play pile.
+     *
+     * @param id the card ID
+     */
+    public void pushPile(int id) {
+        pile[pileSize++] = (byte) id;
+    }
+
+    /**
+     * Removes the card on top of the play pile.
+     *
+     * @return the card ID, or {@link CardIds#NO_CARD} if the pile is empty
+     */
+    public int popPile() {
+        return pileSize == 0 ? CardIds.NO_CARD : pile[--pileSize];
+    }
+
+    // Turn state
+
+    /**
+     * Returns the number of seats.
+     *
+     * @return the number of players
+     */
+    public int getNumPlayers() {
+        return numPlayers;
+    }
+
+    /**
+     * Returns the seat whose turn it is.
+     *
+     * @return the current seat
+     */
+    public int getCurrentPlayer() {
+        return currentPlayer;
+    }
+
+    /**
+     * Sets the seat whose turn it is.
+     *
+     * @param currentPlayer the current seat
+     */
+    public void setCurrentPlayer(int currentPlayer) {
+        this.currentPlayer = currentPlayer;
+    }
+
+    /**
+     * Returns whether play moves clockwise.
+     *
+     * @return true for clockwise, false for counterclockwise
+     */
+    public boolean isClockwise() {
+        return clockwise;
+    }
+
+    /**
+     * Sets the direction of play.
+     *
+     * @param clockwise true for clockwise, false for counterclockwise
+     */
+    public void setClockwise(boolean clockwise) {
+        this.clockwise = clockwise;
+    }
+
+    /**
+     * Returns whether the light side of every card is active.
+     *
+     * @return true for the light side, false for the dark side
+     */
+    public boolean isLightSide() {
+        return lightSide;
+    }
+
+    /**
+     * Sets which side of every card is active.
+     *
+     * @param lightSide true for the light side, false for the dark side
+     */
+    public void setLightSide(boolean lightSide) {
+        this.lightSide = lightSide;
+    }
+
+    /**
+     * Returns the color in play on top of the pile; for a wild card this is the chosen color.
+     *
+     * @return the {@link CardColor} ordinal in play
+     */
+    public int getTopColor() {
+        return topColor;
+    }
+
+    /**
+     * Sets the color in play on top of the pile.
+     *
+     * @param topColor the {@link CardColor} ordinal in play
+     */
+    public void setTopColor(int topColor) {
+        this.topColor = topColor;
+    }
+}
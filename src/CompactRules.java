@@ -0,0 +1,315 @@
+import java.util.random.RandomGenerator;
+
+/**
+ * The CompactRules class plays UNO Flip! turns on a {@link CompactGameState},
+ * following the same rules as the card actions of the {@link UNO_Model}, so
+ * that simulations can play thousands of rounds without touching any
+ * {@link Card} or {@link Player} object.
+ * A move is an {@code int}: either {@link #DRAW}, or a card ID together with the
+ * color chosen for it when it is a wild card (see {@link #playMove(int, int)}).
+ * {@link #apply(CompactGameState, int, RandomGenerator)} plays a whole turn:
+ * the move, the card's effect including any penalty draws, and the hand-off to
+ * the next player after skips. As in the game, a player may only draw when no
+ * card in their hand can be played, and a drawn card ends the turn.
+ *
+ * @author Ahmad El-Jabi 101303269
+ * @author Atik Mahmud 101318070
+ * @author Aryan Singh 101299776
+ * @author Jonathan Gitej 101294584
+ *
+ * @version 4.0, December 05, 2025
+ */
+public final class CompactRules {
+    public static final int DRAW = -1;         // move that draws a card
+    public static final int NO_WINNER = -1;    // returned by apply while the round goes on
+    public static final int MAX_MOVES = 4 * CardIds.CARD_COUNT + 1; // enough room for any list of legal moves
+
+    // Moves are card ID + (color ordinal + 1) * COLOR_SHIFT, so every move is below MOVE_LIMIT
+    private static final int COLOR_SHIFT = 1 << 7;
+    public static final int MOVE_LIMIT = (CardColor.values().length + 1) * COLOR_SHIFT;
+
+    private static final CardType[] TYPES = CardType.values();
+    private static final int WILD = CardColor.WILD.ordinal();
+    private static final int[] LIGHT_COLORS = {CardColor.RED.ordinal(), CardColor.BLUE.ordinal(),
+            CardColor.YELLOW.ordinal(), CardColor.GREEN.ordinal()};
+    private static final int[] DARK_COLORS = {CardColor.PURPLE.ordinal(), CardColor.PINK.ordinal(),
+            CardColor.ORANGE.ordinal(), CardColor.TEAL.ordinal()};
+
+    /**
+     * Prevents instantiation; all members are static.
+     */
+    private CompactRules() {
+    }
+
+    /**
+     * Returns the move that plays a card.
+     *
+     * @param id the card ID
+     * @param colorOrdinal the {@link CardColor} ordinal chosen for a wild card, or -1 for other cards
+     * @return the move
+     */
+    public static int playMove(int id, int colorOrdinal) {
+        return id + (colorOrdinal + 1) * COLOR_SHIFT;
+    }
+
+    /**
+     * Returns the card played by a move.
+     *
+     * @param move a move other than {@link #DRAW}
+     * @return the card ID
+     */
+    public static int cardOf(int move) {
+        return move & (COLOR_SHIFT - 1);
+    }
+
+    /**
+     * Returns the color chosen by a move.
+     *
+     * @param move a move other than {@link #DRAW}
+     * @return the {@link CardColor} ordinal, or -1 if the card is not a wild card
+     */
+    public static int colorOf(int move) {
+        return move / COLOR_SHIFT - 1;
+    }
+
+    /**
+     * Returns the colors a wild card may be given on a side.
+     *
+     * @param lightSide true for the light side
+     * @return the four {@link CardColor} ordinals of that side (shared, must not be changed)
+     */
+    static int[] sideColors(boolean lightSide) {
+        return lightSide ? LIGHT_COLORS : DARK_COLORS;
+    }
+
+    /**
+     * Returns the {@link Playability} key of the top card, using the color in play.
+     *
+     * @param state the game
+     * @return the top card's key
+     */
+    public static int topKey(CompactGameState state) {
+        return Playability.key(state.getTopColor(), CardIds.typeOrdinal(state.topCard(), state.isLightSide()));
+    }
+
+    /**
+     * Checks whether a card may be played on the top card.
+     *
+     * @param state the game
+     * @param id the card ID
+     * @param topKey the key of the top card, from {@link #topKey(CompactGameState)}
+     * @return true if the card is playable
+     */
+    public static boolean isPlayable(CompactGameState state, int id, int topKey) {
+        boolean lightSide = state.isLightSide();
+        return Playability.isPlayable(Playability.key(CardIds.colorOrdinal(id, lightSide), CardIds.typeOrdinal(id, lightSide)), topKey);
+    }
+
+    /**
+     * Checks whether a card is a wild card (its holder picks a color) on the active side.
+     *
+     * @param state the game
+     * @param id the card ID
+     * @return true for a wild card
+     */
+    public static boolean isWild(CompactGameState state, int id) {
+        return TYPES[CardIds.typeOrdinal(id, state.isLightSide())].isWildCard();
+    }
+
+    /**
+     * Writes the current player's legal moves into the given array: every playable
+     * card (a wild card once per color of the active side), or {@link #DRAW} alone
+     * if nothing can be played.
+     *
+     * @param state the game
+     * @param moves the array to fill, at least {@link #MAX_MOVES} long
+     * @return the number of moves written
+     */
+    public static int legalMoves(CompactGameState state, int[] moves) {
+        int seat = state.getCurrentPlayer();
+        int topKey = topKey(state);
+        int[] colors = sideColors(state.isLightSide());
+        int count = 0;
+
+        for (int id = state.nextCardInHand(seat, 0); id >= 0; id = state.nextCardInHand(seat, id + 1)) {
+            if (isPlayable(state, id, topKey)) {
+                if (isWild(state, id)) {
+                    for (int color : colors) {
+                        moves[count++] = playMove(id, color);
+                    }
+                } else {
+                    moves[count++] = playMove(id, -1);
+                }
+            }
+        }
+
+        if (count == 0) {
+            moves[count++] = DRAW;
+        }
+        return count;
+    }
+
+    /**
+     * Plays one turn for the current player: the move and the card's effect, then
+     * passes the turn on unless the player emptied their hand.
+     *
+     * @param state the game, changed in place
+     * @param move a legal move for the current player
+     * @param random the generator used if the draw deck has to be reshuffled
+     * @return the seat that won the round with this move, or {@link #NO_WINNER}
+     */
+    public static int apply(CompactGameState state, int move, RandomGenerator random) {
+        int seat = state.getCurrentPlayer();
+        int skips = 0;
+
+        if (move == DRAW) {
+            draw(state, seat, 1, random);
+        } else {
+            int id = cardOf(move);
+            boolean lightSide = state.isLightSide();
+            state.removeFromHand(seat, id);
+            state.pushPile(id);
+            state.setTopColor(colorOf(move) >= 0 ? colorOf(move) : CardIds.colorOrdinal(id, lightSide));
+
+            int next = nextSeat(state, seat, 1);
+            switch (TYPES[CardIds.typeOrdinal(id, lightSide)]) {
+                case DRAW_ONE -> {
+                    draw(state, next, 1, random);
+                    skips = 1;
+                }
+                case DRAW_FIVE -> {
+                    draw(state, next, 5, random);
+                    skips = 1;
+                }
+                case DRAW_TWO -> {
+                    draw(state, next, 2, random);
+                    skips = 1;
+                }
+                case DRAW_COLOR -> {
+                    drawUntilColor(state, next, colorOf(move), random);
+                    skips = 1;
+                }
+                case LIGHT_REVERSE, DARK_REVERSE -> {
+                    if (state.getNumPlayers() == 2) {
+                        skips = 1; // acts as a skip with two players
+                    } else {
+                        state.setClockwise(!state.isClockwise());
+                    }
+                }
+                case SKIP -> skips = 1;
+                case SKIP_EVERYONE -> skips = state.getNumPlayers() - 1;
+                case FLIP, DARK_FLIP -> {
+                    state.setLightSide(!lightSide);
+                    state.setTopColor(CardIds.colorOrdinal(id, !lightSide));
+                }
+                default -> {
+                    // number cards and plain wild cards have no further effect
+                }
+            }
+
+            if (state.handSize(seat) == 0) {
+                return seat;
+            }
+        }
+
+        state.setCurrentPlayer(nextSeat(state, seat, skips + 1));
+        return NO_WINNER;
+    }
+
+    /**
+     * Returns the points a seat's hand is worth to the round winner.
+     *
+     * @param state the game
+     * @param seat the seat
+     * @return the total point value of the hand on the active side
+     */
+    public static int handPoints(CompactGameState state, int seat) {
+        boolean lightSide = state.isLightSide();
+        int points = 0;
+        for (int id = state.nextCardInHand(seat, 0); id >= 0; id = state.nextCardInHand(seat, id + 1)) {
+            points += TYPES[CardIds.typeOrdinal(id, lightSide)].getPointValue();
+        }
+        return points;
+    }
+
+    /**
+     * Returns the seat a number of places away in the direction of play.
+     *
+     * @param state the game
+     * @param seat the starting seat
+     * @param steps the number of places to move
+     * @return the seat reached
+     */
+    public static int nextSeat(CompactGameState state, int seat, int steps) {
+        int n = state.getNumPlayers();
+        return state.isClockwise() ? (seat + steps) % n : ((seat - steps) % n + n) % n;
+    }
+
+    /**
+     * Deals cards to a seat, reshuffling the play pile into the deck when it runs out.
+     *
+     * @param state the game
+     * @param seat the seat receiving the cards
+     * @param count the number of cards
+     * @param random the generator for reshuffles
+     */
+    private static void draw(CompactGameState state, int seat, int count, RandomGenerator random) {
+        for (int i = 0; i < count; i++) {
+            if (dealTo(state, seat, random) == CardIds.NO_CARD) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * Deals cards to a seat until it receives one of the given color (Wild Draw Color).
+     *
+     * @param state the game
+     * @param seat the seat receiving the cards
+     * @param colorOrdinal the chosen {@link CardColor} ordinal
+     * @param random the generator for reshuffles
+     */
+    private static void drawUntilColor(CompactGameState state, int seat, int colorOrdinal, RandomGenerator random) {
+        int id;
+        do {
+            id = dealTo(state, seat, random);
+        } while (id != CardIds.NO_CARD && CardIds.colorOrdinal(id, state.isLightSide()) != colorOrdinal);
+    }
+
+    /**
+     * Deals one card to a seat, reshuffling first if the deck is empty.
+     *
+     * @param state the game
+     * @param seat the seat receiving the card
+     * @param random the generator for reshuffles
+     * @return the card ID dealt, or {@link CardIds#NO_CARD} if no card is left
+     */
+    private static int dealTo(CompactGameState state, int seat, RandomGenerator random) {
+        if (state.deckSize() == 0) {
+            reshuffle(state, random);
+        }
+        int id = state.drawFromDeck();
+        if (id != CardIds.NO_CARD) {
+            state.addToHand(seat, id);
+        }
+        return id;
+    }
+
+    /**
+     * Moves every card of the play pile except the top one into the deck and shuffles it.
+     *
+     * @param state the game
+     * @param random the generator to shuffle with
+     */
+    private static void reshuffle(CompactGameState state, RandomGenerator random) {
+        if (state.pileSize() <= 1) {
+            return;
+        }
+        int top = state.popPile();
+        while (state.pileSize() > 0) {
+            state.addToDeck(state.popPile());
+        }
+        state.shuffleDeck(random);
+        state.pushPile(top);
+    }
+}
@@ -1,6 +1,7 @@
 import java.io.Serial;
 import java.io.Serializable;
 import java.util.*;
+import java.util.random.RandomGenerator;
 
 /**
  * Represents the deck of UNO Flip cards used during gameplay.
@@ -16,18 +17,61 @@ import java.util.*;
 public class Deck implements Serializable {
     //Holds every card that’s still in the deck either not dealt, not in hands, or not on the display pile.
     private ArrayList<Card> deck;
+    // Source of randomness for shuffles; owned by the game so that games can be replayed from a seed
+    private transient RandomGenerator random;
+    // Active side shared by every card of this deck
+    private GameSide gameSide;
 
     @Serial
     private static final long serialVersionUID = 1L;
 
     /**
      * Constructs a new deck and initializes it with all UNO Flip cards.
+     * The deck is shuffled with a fresh, randomly seeded generator.
      */
     public Deck() {
-        deck = new ArrayList<>();
+        this(new SplittableRandom());
+    }
+
+    /**
+     * Constructs a new deck, initializes it with all UNO Flip cards and shuffles
+     * it with the given generator. Two decks built from generators in the same
+     * state contain the cards in the same order.
+     *
+     * @param random the generator used for this deck's shuffles
+     */
+    public Deck(RandomGenerator random) {
+        this(random, new GameSide());
+    }
+
+    /**
+     * Constructs a new, shuffled deck whose cards all follow the given game side,
+     * so that flipping the game side flips every card at once.
+     *
+     * @param random the generator used for this deck's shuffles
+     * @param gameSide the side of the game the cards belong to, on its light side
+     */
+    public Deck(RandomGenerator random, GameSide gameSide) {
+        this.deck = new ArrayList<>();
+        this.random = random;
+        this.gameSide = gameSide;
         initializeDeck();
     }
 
+    /**
+     * Constructs a deck holding the given cards, without building or shuffling a new set.
+     * Used when a game is forked.
+     *
+     * @param cards the cards of the deck, bottom first; the list is used as is
+     * @param random the generator used for this deck's shuffles
+     * @param gameSide the side of the game the cards belong to
+     */
+    Deck(ArrayList<Card> cards, RandomGenerator random, GameSide gameSide) {
+        this.deck = cards;
+        this.random = random;
+        this.gameSide = gameSide;
+    }
+
     /**
      * Initializes the full UNO Flip deck with all card types, colors, and sides.
      * Ensures the deck contains the correct total number of cards before play.
@@ -109,8 +153,15 @@ public class Deck implements Serializable {
             }
         }
 
+        // Number the cards in creation order, so the same physical card always has the same ID,
+        // and make every card follow the game's side
+        for (int i = 0; i < deck.size(); i++) {
+            deck.get(i).setId(i);
+            deck.get(i).bindGameSide(gameSide);
+        }
+
         // Shuffles arraylist of cards
-        Collections.shuffle(deck);
+        shuffle();
     }
 
     /**
@@ -157,10 +208,50 @@ public class Deck implements Serializable {
     }
 
     /**
-     * Randomly shuffles the cards in the deck.
+     * Randomly shuffles the cards in the deck using the deck's generator.
      */
     public void shuffle() {
-        Collections.shuffle(deck);
+        Collections.shuffle(deck, getRandom());
+    }
+
+    /**
+     * Returns the side shared by the cards this deck was built with.
+     *
+     * @return the deck's {@link GameSide}
+     */
+    public GameSide getGameSide() {
+        return gameSide;
+    }
+
+    /**
+     * Sets the side shared by this deck's cards, for a deck saved before decks had one.
+     *
+     * @param gameSide the side of the game the deck belongs to
+     */
+    void bindGameSide(GameSide gameSide) {
+        this.gameSide = gameSide;
+    }
+
+    /**
+     * Returns the generator used for shuffling. A deck read back from a save
+     * file gets a new randomly seeded generator.
+     *
+     * @return the deck's {@link RandomGenerator}
+     */
+    public RandomGenerator getRandom() {
+        if (random == null) {
+            random = new SplittableRandom();
+        }
+        return random;
+    }
+
+    /**
+     * Replaces the generator used for shuffling.
+     *
+     * @param random the new {@link RandomGenerator}
+     */
+    public void setRandom(RandomGenerator random) {
+        this.random = random;
     }
 
 }
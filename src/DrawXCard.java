@@ -42,19 +42,18 @@ public class DrawXCard extends Card {
      */
     @Override
     public boolean action(UNO_Model model, Player player){
-        if(isLightSideActive) {
+        if(getActiveSide()) {
             // Light side: DRAW_ONE - next player draws one card and loses turn
             Player nextPlayer = model.getNextPlayer(player);
 
-            Card card = model.getPlayDeck().drawCardFromDeck();
+            Card card = model.dealCardTo(nextPlayer);
             if (card == null) {
                 model.prepareEvent(GameEvent.EventType.MESSAGE, "No more cards left!");
                 model.notifyViews();
                 return false;
             }
 
-            nextPlayer.drawCardToHand(card);
-            model.prepareEvent(GameEvent.EventType.MESSAGE, nextPlayer.getName() +" draws 1 card and loses their turn!");
+            model.prepareEvent(GameEvent.EventType.MESSAGE, p -> p.getName() + " draws 1 card and loses their turn!", nextPlayer);
             model.notifyViews();
 
             // Skip the next player's turn
@@ -65,17 +64,15 @@ public class DrawXCard extends Card {
             Player nextPlayer = model.getNextPlayer(player);
 
             for(int i = 0; i < 5; i++){
-                Card card = model.getPlayDeck().drawCardFromDeck();
+                Card card = model.dealCardTo(nextPlayer);
 
                 if (card == null) {
-                    model.prepareEvent(GameEvent.EventType.MESSAGE, "No more cards left after drawing " + i + " cards!");
+                    model.prepareEvent(GameEvent.EventType.MESSAGE, drawn -> "No more cards left after drawing " + drawn + " cards!", i);
                     model.notifyViews();
                     return false;
                 }
-
-                nextPlayer.drawCardToHand(card);
             }
-            model.prepareEvent(GameEvent.EventType.MESSAGE, nextPlayer.getName() + " draws 5 cards and loses their turn!");
+            model.prepareEvent(GameEvent.EventType.MESSAGE, p -> p.getName() + " draws 5 cards and loses their turn!", nextPlayer);
             model.notifyViews();
 
             // Skip the next player's turn
@@ -85,17 +82,4 @@ public class DrawXCard extends Card {
         return true;
     }
 
-    /**
-     * Determines whether this DrawX card can be played on top of the given card.
-     * The card is playable if it matches the top card by color or by type,
-     * following standard UNO rules.
-     *
-     * @param otherCard the card currently on top of the play pile
-     * @return true if this card is playable on top of the given card, false otherwise
-     */
-    @Override
-    public boolean playableOnTop(Card otherCard){
-        return getColor() == otherCard.getColor() || getType() == otherCard.getType();
-    }
-
 }
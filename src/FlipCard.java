@@ -40,22 +40,9 @@ public class FlipCard extends Card {
         model.flipGameSide();
 
         // Notify view of which side game has been flipped to
-        model.prepareEvent(GameEvent.EventType.MESSAGE, "Game flipped to " + (isLightSideActive ? "LIGHT" : "DARK") + " SIDE");
+        model.prepareEvent(GameEvent.EventType.MESSAGE, card -> "Game flipped to " + (card.getActiveSide() ? "LIGHT" : "DARK") + " SIDE", this);
         model.notifyViews();
         return true;
     }
 
-    /**
-     * Determines whether this card can be legally played on top of another card.
-     * The card is playable if it shares the same color or type as the top card.
-     *
-     * @param otherCard The card currently on top of the play pile.
-     * @return boolean. true if this card can be played; false otherwise.
-     */
-    // Card can be played if top card is same type or same color
-    @Override
-    public boolean playableOnTop(Card otherCard){
-        return getColor() == otherCard.getColor() || getType() == otherCard.getType();
-    }
-
 }
@@ -0,0 +1,269 @@
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Stack;
+
+/**
+ * A single reversible change to the cards of a game, recorded by the {@link UNO_Model}
+ * as it happens so that it can later be undone and redone.
+ * A command keeps only what it changed (which card moved and from where), never a copy
+ * of the game, so recording one costs a few bytes and undoing it takes constant time.
+ * Changes to the turn flow (current player, skips, direction, active side and the wild
+ * color choice) are not commands; {@link UndoHistory} stores them once per step.
+ *
+ * @author Ahmad El-Jabi 101303269
+ * @author Atik Mahmud 101318070
+ * @author Aryan Singh 101299776
+ * @author Jonathan Gitej 101294584
+ *
+ * @version 4.0, December 05, 2025
+ */
+public interface GameCommand extends Serializable {
+
+    /**
+     * Reverts the change, leaving the game as it was just before the command was recorded.
+     *
+     * @param model the game the command was recorded in
+     */
+    void undo(UNO_Model model);
+
+    /**
+     * Applies the change again after it was undone.
+     *
+     * @param model the game the command was recorded in
+     */
+    void redo(UNO_Model model);
+
+    /**
+     * A card played from a player's hand onto the play pile.
+     */
+    final class PlayCard implements GameCommand {
+        private static final long serialVersionUID = 1L;
+
+        private final Player player;
+        private final Card card;
+        private final int cardNumber; // 1-based position the card was played from
+
+        /**
+         * Records a card played from the given position of a player's hand.
+         *
+         * @param player the player who played the card
+         * @param card the card played
+         * @param cardNumber the 1-based position of the card in the hand
+         */
+        PlayCard(Player player, Card card, int cardNumber) {
+            this.player = player;
+            this.card = card;
+            this.cardNumber = cardNumber;
+        }
+
+        @Override
+        public void undo(UNO_Model model) {
+            Stack<Card> pile = model.getPlayPile();
+            if (!pile.isEmpty() && pile.peek() == card) {
+                pile.pop();
+            } else {
+                pile.remove(card);
+            }
+            player.returnCardToHand(cardNumber, card);
+            model.getCardTracker().cardUnplayed(card.getId());
+        }
+
+        @Override
+        public void redo(UNO_Model model) {
+            if (cardNumber <= player.handSize() && player.getCardInHand(cardNumber) == card) {
+                player.removeCard(cardNumber);
+            } else {
+                player.removeCard(card);
+            }
+            model.getPlayPile().push(card);
+            model.getCardTracker().cardPlayed(card.getId());
+        }
+    }
+
+    /**
+     * A card taken from the draw deck into a player's hand.
+     * Undoing it puts the card back where it was drawn from, so an undone and
+     * redone game stays the same as a replay of its moves, and the game's
+     * random generator is left alone.
+     */
+    final class DrawCard implements GameCommand {
+        private static final long serialVersionUID = 1L;
+
+        private final Player player;
+        private final Card card;
+        private final boolean penalty; // dealt by a draw card rather than drawn by the player
+        private final int deckPosition; // index the card had in the draw deck
+
+        /**
+         * Records a card drawn into a player's hand.
+         *
+         * @param player the player who drew the card
+         * @param card the card drawn
+         * @param penalty true if a draw card played on the player dealt it
+         * @param deckPosition the index the card had in the draw deck before it was drawn
+         */
+        DrawCard(Player player, Card card, boolean penalty, int deckPosition) {
+            this.player = player;
+            this.card = card;
+            this.penalty = penalty;
+            this.deckPosition = deckPosition;
+        }
+
+        @Override
+        public void undo(UNO_Model model) {
+            player.removeCard(card);
+            if (penalty) {
+                model.getCardTracker().penaltyUndrawn(model.getPlayers().indexOf(player), card.getId());
+            }
+            ArrayList<Card> deck = model.getPlayDeck().getDeck();
+            deck.add(Math.min(deckPosition, deck.size()), card);
+        }
+
+        @Override
+        public void redo(UNO_Model model) {
+            ArrayList<Card> deck = model.getPlayDeck().getDeck();
+            if (deckPosition < deck.size() && deck.get(deckPosition) == card) {
+                deck.remove(deckPosition);
+            } else {
+                deck.remove(card);
+            }
+            player.drawCardToHand(card);
+            if (penalty) {
+                model.getCardTracker().penaltyDrawn(model.getPlayers().indexOf(player), card.getId());
+            }
+        }
+    }
+
+    /**
+     * The play pile, except its top card, shuffled back into the draw deck.
+     * This is the only command that holds whole piles; it is recorded only when
+     * the deck runs out.
+     */
+    final class Reshuffle implements GameCommand {
+        private static final long serialVersionUID = 1L;
+
+        private final Card[] pileBefore; // play pile below the top card, bottom first
+        private final Card[] deckBefore;
+        private final Card[] deckAfter;
+
+        /**
+         * Records a reshuffle.
+         *
+         * @param pileBefore the cards moved from the play pile, bottom first
+         * @param deckBefore the draw deck before the reshuffle
+         * @param deckAfter the draw deck after the reshuffle
+         */
+        Reshuffle(Card[] pileBefore, Card[] deckBefore, Card[] deckAfter) {
+            this.pileBefore = pileBefore;
+            this.deckBefore = deckBefore;
+            this.deckAfter = deckAfter;
+        }
+
+        @Override
+        public void undo(UNO_Model model) {
+            setDeck(model, deckBefore);
+            Stack<Card> pile = model.getPlayPile();
+            Card top = pile.pop();
+            for (Card card : pileBefore) {
+                pile.push(card);
+                model.getCardTracker().cardPlayed(card.getId());
+            }
+            pile.push(top);
+        }
+
+        @Override
+        public void redo(UNO_Model model) {
+            Stack<Card> pile = model.getPlayPile();
+            Card top = pile.pop();
+            pile.clear();
+            pile.push(top);
+            setDeck(model, deckAfter);
+            model.getCardTracker().pileReshuffled(top.getId());
+        }
+
+        /**
+         * Replaces the contents of the draw deck.
+         *
+         * @param model the game
+         * @param cards the new deck contents, bottom first
+         */
+        private static void setDeck(UNO_Model model, Card[] cards) {
+            ArrayList<Card> deck = model.getPlayDeck().getDeck();
+            deck.clear();
+            for (Card card : cards) {
+                deck.add(card);
+            }
+        }
+    }
+
+    /**
+     * The colors of a wild card changed when its color was chosen.
+     */
+    final class ChooseColor implements GameCommand {
+        private static final long serialVersionUID = 1L;
+
+        private final Card card;
+        private final CardColor lightBefore;
+        private final CardColor darkBefore;
+        private final CardColor lightAfter;
+        private final CardColor darkAfter;
+
+        /**
+         * Records a wild card's color change; the card must already show its new colors.
+         *
+         * @param card the wild card
+         * @param lightBefore its light side color before the choice
+         * @param darkBefore its dark side color before the choice
+         */
+        ChooseColor(Card card, CardColor lightBefore, CardColor darkBefore) {
+            this.card = card;
+            this.lightBefore = lightBefore;
+            this.darkBefore = darkBefore;
+            this.lightAfter = card.lightColor;
+            this.darkAfter = card.darkColor;
+        }
+
+        @Override
+        public void undo(UNO_Model model) {
+            card.lightColor = lightBefore;
+            card.darkColor = darkBefore;
+        }
+
+        @Override
+        public void redo(UNO_Model model) {
+            card.lightColor = lightAfter;
+            card.darkColor = darkAfter;
+        }
+    }
+
+    /**
+     * Points added to a player's score.
+     */
+    final class AddScore implements GameCommand {
+        private static final long serialVersionUID = 1L;
+
+        private final Player player;
+        private final int points;
+
+        /**
+         * Records points added to a score.
+         *
+         * @param player the player who scored
+         * @param points the points added
+         */
+        AddScore(Player player, int points) {
+            this.player = player;
+            this.points = points;
+        }
+
+        @Override
+        public void undo(UNO_Model model) {
+            player.addScore(-points);
+        }
+
+        @Override
+        public void redo(UNO_Model model) {
+            player.addScore(points);
+        }
+    }
+}
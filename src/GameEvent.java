@@ -3,6 +3,7 @@ import jdk.jfr.Event;
 import java.io.Serial;
 import java.io.Serializable;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 /**
@@ -43,6 +44,7 @@ public class GameEvent extends Event implements Serializable {
     private final boolean enableDrawButton;
     private final CardColor wildColorChoice;
     private final Map<String, Object> data;
+    private List<GameEvent> events; // the events combined into this one, in order (null if not combined)
 
 
 
@@ -61,6 +63,35 @@ public class GameEvent extends Event implements Serializable {
         this.data = new HashMap<>();
     }
 
+    /**
+     * Combines the events raised during one action into a single event. The result
+     * carries the state of the last event and lists all of them, in order, in
+     * {@link #getEvents()}, so that a view can update once per action.
+     *
+     * @param events the events raised, oldest first (at least one)
+     * @return the combined event, or the only event if there is just one
+     */
+    public static GameEvent combine(List<GameEvent> events) {
+        GameEvent last = events.get(events.size() - 1);
+        if (events.size() == 1) {
+            return last;
+        }
+
+        GameEvent combined = new GameEvent(last.type, last.currentPlayer, last.winningPlayer, last.card,
+                last.message, last.direction, last.enableNextPlayer, last.enableDrawButton, last.wildColorChoice);
+        combined.events = List.copyOf(events);
+        return combined;
+    }
+
+    /**
+     * Returns the events this event stands for: the events it combines, or just itself.
+     *
+     * @return the events, oldest first
+     */
+    public List<GameEvent> getEvents() {
+        return events != null ? events : List.of(this);
+    }
+
     // Getters
     public EventType getType() { return type; }
     public Player getCurrentPlayer() { return currentPlayer; }
@@ -0,0 +1,103 @@
+import java.util.SplittableRandom;
+
+/**
+ * The GameRules class is the pure form of the UNO Flip! rules: it turns a
+ * {@link GameState} and a move into the state after the move, without changing
+ * anything. The same state and move always give the same result, and any
+ * number of threads may call it at once on shared states.
+ * Moves are encoded as in {@link CompactRules}: {@link CompactRules#DRAW}, or a
+ * card together with the color chosen for a wild card. A move plays a whole
+ * turn, including the card's effect, any penalty draws and the hand-off to the
+ * next player. Reshuffles of an empty deck use the state's seed, and every new
+ * state gets a seed derived from the old one, so a round replays exactly from
+ * its first state and its list of moves.
+ * The {@link UNO_Model} that drives the GUI plays by the same rules through its
+ * card actions; {@link UNO_Model#getGameState()} captures its position in this form.
+ *
+ * @author Ahmad El-Jabi 101303269
+ * @author Atik Mahmud 101318070
+ * @author Aryan Singh 101299776
+ * @author Jonathan Gitej 101294584
+ *
+ * @version 4.0, December 05, 2025
+ */
+public final class GameRules {
+
+    /**
+     * Prevents instantiation; all members are static.
+     */
+    private GameRules() {
+    }
+
+    /**
+     * Writes the current player's legal moves into the given array (see
+     * {@link CompactRules#legalMoves(CompactGameState, int[])}).
+     *
+     * @param state the position
+     * @param moves the array to fill, at least {@link CompactRules#MAX_MOVES} long
+     * @return the number of moves written, or 0 if the round is over
+     */
+    public static int legalMoves(GameState state, int[] moves) {
+        if (state.isRoundOver()) {
+            return 0;
+        }
+        return CompactRules.legalMoves(state.compact(), moves);
+    }
+
+    /**
+     * Checks whether a move is legal for the current player.
+     *
+     * @param state the position
+     * @param move the move
+     * @return true if the move may be played
+     */
+    public static boolean isLegal(GameState state, int move) {
+        int[] moves = new int[CompactRules.MAX_MOVES];
+        int count = legalMoves(state, moves);
+        for (int i = 0; i < count; i++) {
+            if (moves[i] == move) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns the state after the current player makes a move. The given state is not changed.
+     *
+     * @param state the position before the move
+     * @param move a legal move for the current player
+     * @return the position after the move, with the next player to move or the round won
+     * @throws IllegalStateException if the round is already over
+     * @throws IllegalArgumentException if the move is not legal
+     */
+    public static GameState apply(GameState state, int move) {
+        if (state.isRoundOver()) {
+            throw new IllegalStateException("The round is over");
+        }
+        if (!isLegal(state, move)) {
+            throw new IllegalArgumentException("Illegal move: " + move);
+        }
+
+        CompactGameState next = state.toCompact();
+        SplittableRandom random = new SplittableRandom(state.getSeed());
+        int winner = CompactRules.apply(next, move, random);
+        return GameState.next(next, random.nextLong(), winner);
+    }
+
+    /**
+     * Plays a list of moves from a state, as when replaying a recorded round.
+     *
+     * @param state the first position
+     * @param moves the moves in order
+     * @return the position after the last move
+     * @throws IllegalStateException if the round ends before the last move
+     * @throws IllegalArgumentException if a move is not legal
+     */
+    public static GameState replay(GameState state, int... moves) {
+        for (int move : moves) {
+            state = apply(state, move);
+        }
+        return state;
+    }
+}
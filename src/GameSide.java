@@ -0,0 +1,54 @@
+import java.io.Serial;
+import java.io.Serializable;
+
+/**
+ * The GameSide class holds which side (light or dark) is active for a whole game.
+ * Every card dealt from a {@link Deck} refers to its game's GameSide and
+ * resolves its active color and type against it, so a FLIP card only has to
+ * toggle this one flag instead of flipping each of the 112 cards.
+ *
+ * @author Ahmad El-Jabi 101303269
+ * @author Atik Mahmud 101318070
+ * @author Aryan Singh 101299776
+ * @author Jonathan Gitej 101294584
+ *
+ * @version 4.0, December 05, 2025
+ */
+public class GameSide implements Serializable {
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    private boolean lightSide; // true while the light side is active
+
+    /**
+     * Creates a game side starting on the light side.
+     */
+    public GameSide() {
+        this.lightSide = true;
+    }
+
+    /**
+     * Returns whether the light side is active.
+     *
+     * @return true for the light side, false for the dark side
+     */
+    public boolean isLightSide() {
+        return lightSide;
+    }
+
+    /**
+     * Sets the active side.
+     *
+     * @param lightSide true for the light side, false for the dark side
+     */
+    public void setLightSide(boolean lightSide) {
+        this.lightSide = lightSide;
+    }
+
+    /**
+     * Switches to the other side.
+     */
+    public void flip() {
+        lightSide = !lightSide;
+    }
+}
@@ -0,0 +1,274 @@
+/**
+ * The GameState class is an immutable value holding an UNO Flip! position
+ * between two turns: every hand, the draw deck in order, the play pile, the
+ * color in play, the active side, the direction, whose turn it is, the round's
+ * winner if there is one, and the seed that decides the next reshuffle.
+ * A state never changes after it is built; {@link GameRules#apply(GameState, int)}
+ * returns a new state instead. States can therefore be shared between threads
+ * without locks, kept as a replay of a round, or compared with
+ * {@link #equals(Object)} to verify that two ways of playing agree.
+ * The position is stored in a private {@link CompactGameState} that is never
+ * handed out; {@link #toCompact()} returns a copy for code that plays in place.
+ *
+ * @author Ahmad El-Jabi 101303269
+ * @author Atik Mahmud 101318070
+ * @author Aryan Singh 101299776
+ * @author Jonathan Gitej 101294584
+ *
+ * @version 4.0, December 05, 2025
+ */
+public final class GameState {
+    private final CompactGameState state; // never changed after construction
+    private final long seed;              // seed of the next reshuffle
+    private final int winner;             // seat that won the round, or CompactRules.NO_WINNER
+
+    /**
+     * Creates a state around a compact state that nothing else refers to.
+     *
+     * @param state the position, owned by this object from now on
+     * @param seed the seed of the next reshuffle
+     * @param winner the seat that won the round, or {@link CompactRules#NO_WINNER}
+     */
+    private GameState(CompactGameState state, long seed, int winner) {
+        this.state = state;
+        this.seed = seed;
+        this.winner = winner;
+    }
+
+    /**
+     * Creates a state from a copy of a compact state.
+     *
+     * @param state the position to copy
+     * @param seed the seed of the next reshuffle
+     * @return the immutable state
+     */
+    public static GameState of(CompactGameState state, long seed) {
+        return new GameState(state.copy(), seed, CompactRules.NO_WINNER);
+    }
+
+    /**
+     * Captures the position of a game. The round's winner is taken from the game.
+     *
+     * @param model the game
+     * @param seed the seed of the next reshuffle
+     * @return the immutable state
+     * @throws IllegalStateException if a card in the game was not created by a {@link Deck}
+     */
+    public static GameState of(UNO_Model model, long seed) {
+        Player roundWinner = model.isRoundOver() ? model.getRoundWinningPlayer() : null;
+        int winner = roundWinner == null ? CompactRules.NO_WINNER : model.getPlayers().indexOf(roundWinner);
+        return new GameState(CompactGameState.capture(model), seed, winner);
+    }
+
+    /**
+     * Returns the state that follows a turn. Used by {@link GameRules} only.
+     *
+     * @param state the new position, owned by the new state
+     * @param seed the seed of the next reshuffle
+     * @param winner the seat that won with the turn, or {@link CompactRules#NO_WINNER}
+     * @return the new state
+     */
+    static GameState next(CompactGameState state, long seed, int winner) {
+        return new GameState(state, seed, winner);
+    }
+
+    /**
+     * Returns the position for read-only use by {@link GameRules}.
+     *
+     * @return the compact state, which must not be changed
+     */
+    CompactGameState compact() {
+        return state;
+    }
+
+    /**
+     * Returns a changeable copy of the position.
+     *
+     * @return a new compact state
+     */
+    public CompactGameState toCompact() {
+        return state.copy();
+    }
+
+    /**
+     * Returns the seed that decides the next reshuffle.
+     *
+     * @return the seed
+     */
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * Returns the seat that won the round.
+     *
+     * @return the seat, or {@link CompactRules#NO_WINNER} while the round goes on
+     */
+    public int getWinner() {
+        return winner;
+    }
+
+    /**
+     * Returns whether the round has been won.
+     *
+     * @return true if a seat has emptied its hand
+     */
+    public boolean isRoundOver() {
+        return winner != CompactRules.NO_WINNER;
+    }
+
+    /**
+     * Returns the number of seats.
+     *
+     * @return the number of players
+     */
+    public int getNumPlayers() {
+        return state.getNumPlayers();
+    }
+
+    /**
+     * Returns the seat whose turn it is.
+     *
+     * @return the current seat
+     */
+    public int getCurrentPlayer() {
+        return state.getCurrentPlayer();
+    }
+
+    /**
+     * Returns whether play goes clockwise.
+     *
+     * @return true for clockwise
+     */
+    public boolean isClockwise() {
+        return state.isClockwise();
+    }
+
+    /**
+     * Returns whether the light side is active.
+     *
+     * @return true for the light side
+     */
+    public boolean isLightSide() {
+        return state.isLightSide();
+    }
+
+    /**
+     * Returns the color in play.
+     *
+     * @return the {@link CardColor} ordinal
+     */
+    public int getTopColor() {
+        return state.getTopColor();
+    }
+
+    /**
+     * Returns the card on top of the play pile.
+     *
+     * @return the card ID, or {@link CardIds#NO_CARD} if the pile is empty
+     */
+    public int topCard() {
+        return state.topCard();
+    }
+
+    /**
+     * Returns the number of cards in a seat's hand.
+     *
+     * @param seat the seat
+     * @return the hand size
+     */
+    public int handSize(int seat) {
+        return state.handSize(seat);
+    }
+
+    /**
+     * Checks whether a seat holds a card.
+     *
+     * @param seat the seat
+     * @param id the card ID
+     * @return true if the card is in the hand
+     */
+    public boolean hasCard(int seat, int id) {
+        return state.hasCard(seat, id);
+    }
+
+    /**
+     * Returns the number of cards in the draw deck.
+     *
+     * @return the deck size
+     */
+    public int deckSize() {
+        return state.deckSize();
+    }
+
+    /**
+     * Returns the number of cards on the play pile.
+     *
+     * @return the pile size
+     */
+    public int pileSize() {
+        return state.pileSize();
+    }
+
+    /**
+     * Compares two states card by card: the same hands, the same deck in the
+     * same order, the same pile, the same turn flow, winner and seed.
+     *
+     * @param other the object to compare with
+     * @return true if the states are equal
+     */
+    @Override
+    public boolean equals(Object other) {
+        if (this == other) {
+            return true;
+        }
+        if (!(other instanceof GameState)) {
+            return false;
+        }
+        GameState that = (GameState) other;
+        CompactGameState a = state;
+        CompactGameState b = that.state;
+        if (seed != that.seed || winner != that.winner || a.getNumPlayers() != b.getNumPlayers()
+                || a.getCurrentPlayer() != b.getCurrentPlayer() || a.isClockwise() != b.isClockwise()
+                || a.isLightSide() != b.isLightSide() || a.getTopColor() != b.getTopColor()
+                || a.deckSize() != b.deckSize() || a.pileSize() != b.pileSize()) {
+            return false;
+        }
+        for (int seat = 0; seat < a.getNumPlayers(); seat++) {
+            if (a.handWord(seat, 0) != b.handWord(seat, 0) || a.handWord(seat, 1) != b.handWord(seat, 1)) {
+                return false;
+            }
+        }
+        for (int i = 0; i < a.deckSize(); i++) {
+            if (a.deckCard(i) != b.deckCard(i)) {
+                return false;
+            }
+        }
+        for (int i = 0; i < a.pileSize(); i++) {
+            if (a.pileCard(i) != b.pileCard(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns a hash code consistent with {@link #equals(Object)}.
+     *
+     * @return the hash code
+     */
+    @Override
+    public int hashCode() {
+        long hash = seed * 31 + winner;
+        hash = hash * 31 + state.getCurrentPlayer();
+        hash = hash * 31 + state.getTopColor();
+        hash = hash * 31 + (state.isClockwise() ? 1 : 0) + (state.isLightSide() ? 2 : 0);
+        for (int seat = 0; seat < state.getNumPlayers(); seat++) {
+            hash = hash * 31 + state.handWord(seat, 0);
+            hash = hash * 31 + state.handWord(seat, 1);
+        }
+        hash = hash * 31 + state.deckSize();
+        hash = hash * 31 + state.topCard();
+        return Long.hashCode(hash);
+    }
+}
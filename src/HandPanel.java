@@ -0,0 +1,361 @@
+import javax.swing.*;
+import javax.swing.event.ChangeListener;
+import java.awt.*;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+
+/**
+ * The HandPanel class shows the current player's hand as a row of
+ * {@link CardComponent}s after a fixed header component (the draw button).
+ * Instead of rebuilding every component on each game event, the panel keeps
+ * one component per card, keyed by card identity, and reconciles the row with
+ * the hand: components of cards still in hand are kept and only re-flagged,
+ * new cards get new components and cards that left the hand are removed.
+ * The layout is only invalidated when the row actually changed.
+ * Inside a scroll pane, the panel is as wide as the whole hand but only the
+ * cards within the visible part of the viewport (plus a couple on each side)
+ * have components; scrolling moves this window and recycles the components
+ * of the cards that scrolled out of view, so a hand of a hundred cards costs
+ * no more than the few that fit on screen.
+ *
+ * @author Ahmad El-Jabi 101303269
+ * @author Atik Mahmud 101318070
+ * @author Aryan Singh 101299776
+ * @author Jonathan Gitej 101294584
+ *
+ * @version 4.0, December 05, 2025
+ */
+public class HandPanel extends JPanel {
+    private static final int GAP = 5;          // space around and between cards
+    private static final int OVERSCAN = 2;     // cards kept on each side of the visible ones
+    private static final int MAX_POOLED = 32;  // spare components kept for reuse
+
+    private final JComponent header;
+
+    // Component of each card currently shown, and a spare map reused while reconciling
+    private IdentityHashMap<Card, CardComponent> shown = new IdentityHashMap<>();
+    private IdentityHashMap<Card, CardComponent> previous = new IdentityHashMap<>();
+    private final ArrayDeque<CardComponent> pool = new ArrayDeque<>(); // components of cards scrolled out of view
+    private int componentsCreated; // total card components created by this panel
+
+    // The hand being shown and what is needed to show its cards
+    private final ArrayList<Card> cards = new ArrayList<>();
+    private Player player;
+    private UNO_Model model;
+    private UNO_Controller controller;
+    private long[] playableMask = new long[1]; // bit i set if the i-th card (1-based) may be played
+    private boolean handDisabled; // set by setHandEnabled(false) until the next update
+
+    // Window of hand positions that have components: first (inclusive) to last (exclusive)
+    private int first;
+    private int last;
+
+    private JViewport viewport;
+    private final ChangeListener scrollListener = e -> updateWindow();
+
+    /**
+     * Creates an empty hand panel.
+     *
+     * @param header the component shown before the cards, such as the draw button
+     */
+    public HandPanel(JComponent header) {
+        super(null); // cards are placed in fixed slots by doLayout
+        this.header = header;
+        add(header);
+    }
+
+    /**
+     * Updates the panel to show the given player's hand, reusing the components
+     * of the cards that were already shown.
+     *
+     * @param player the player whose hand is shown
+     * @param model the game, used to tell which cards are playable
+     * @param controller the controller that receives the cards' "Use" button clicks
+     */
+    public void showHand(Player player, UNO_Model model, UNO_Controller controller) {
+        boolean resized = cards.size() != player.handSize();
+        this.player = player;
+        this.model = model;
+        this.controller = controller;
+        cards.clear();
+        cards.addAll(player.getHand());
+        updatePlayable();
+        handDisabled = false;
+
+        attachViewport();
+        reconcile();
+        if (resized) {
+            revalidate(); // the panel's width follows the hand size
+        }
+    }
+
+    /**
+     * Works out which cards in hand may be played, filling the reused mask from
+     * the model's legal moves. The mask only grows when the hand outgrows it.
+     */
+    private void updatePlayable() {
+        int words = (cards.size() >>> 6) + 1;
+        if (playableMask.length < words) {
+            playableMask = new long[words];
+        }
+        if (model.getPlayPileSize() > 0) {
+            UNO_Model.legalMoveMask(player, model.topCard(), playableMask);
+        } else {
+            Arrays.fill(playableMask, 0L);
+        }
+    }
+
+    /**
+     * Removes every card from the panel, keeping only the header.
+     */
+    public void clearHand() {
+        cards.clear();
+        reconcile();
+        revalidate();
+        repaint();
+    }
+
+    /**
+     * Enables or disables the "Use" button of every card until the hand is shown again.
+     *
+     * @param enabled true to enable the buttons, false to disable them
+     */
+    public void setHandEnabled(boolean enabled) {
+        handDisabled = !enabled;
+        for (CardComponent cardComp : shown.values()) {
+            cardComp.getUseButton().setEnabled(enabled);
+        }
+    }
+
+    /**
+     * Returns the component showing the given card.
+     *
+     * @param card the card
+     * @return its component, or null if the card is not shown or is out of view
+     */
+    public CardComponent getCardComponent(Card card) {
+        return shown.get(card);
+    }
+
+    /**
+     * Returns the component showing the card at the given position in the hand.
+     *
+     * @param index the 0-based position in the hand
+     * @return its component, or null if there is no such card or it is out of view
+     */
+    public CardComponent getCardComponentAt(int index) {
+        return index >= 0 && index < cards.size() ? shown.get(cards.get(index)) : null;
+    }
+
+    /**
+     * Returns how many card components this panel has created so far.
+     *
+     * @return the number of components created
+     */
+    public int getComponentsCreated() {
+        return componentsCreated;
+    }
+
+    /**
+     * Returns the size needed to show the header and every card of the hand in one row.
+     *
+     * @return the preferred size
+     */
+    @Override
+    public Dimension getPreferredSize() {
+        if (isPreferredSizeSet()) {
+            return super.getPreferredSize();
+        }
+        Insets insets = getInsets();
+        Dimension headerSize = header.getPreferredSize();
+        int width = insets.left + insets.right + GAP + headerSize.width + GAP
+                + cards.size() * (CardComponent.CARD_WIDTH + GAP);
+        int height = insets.top + insets.bottom + 2 * GAP + Math.max(headerSize.height, CardComponent.CARD_HEIGHT);
+        return new Dimension(width, height);
+    }
+
+    /**
+     * Places the header and every card component in its slot. The row is centered
+     * when it is narrower than the panel.
+     */
+    @Override
+    public void doLayout() {
+        Insets insets = getInsets();
+        Dimension headerSize = header.getPreferredSize();
+        int rowHeight = Math.max(headerSize.height, CardComponent.CARD_HEIGHT);
+        int top = insets.top + GAP;
+
+        header.setBounds(rowStart(), top + (rowHeight - headerSize.height) / 2, headerSize.width, headerSize.height);
+        for (int i = 0; i < getComponentCount(); i++) {
+            Component component = getComponent(i);
+            if (component instanceof CardComponent) {
+                CardComponent cardComp = (CardComponent) component;
+                component.setBounds(slotX(cardComp.getCardIndex() - 1), top + (rowHeight - CardComponent.CARD_HEIGHT) / 2,
+                        CardComponent.CARD_WIDTH, CardComponent.CARD_HEIGHT);
+            }
+        }
+    }
+
+    /**
+     * Returns the x coordinate where the row starts, centering it if the panel is wider.
+     *
+     * @return the left edge of the header
+     */
+    private int rowStart() {
+        Insets insets = getInsets();
+        int extra = getWidth() - getPreferredSize().width;
+        return insets.left + GAP + Math.max(0, extra / 2);
+    }
+
+    /**
+     * Returns the x coordinate of the card at the given hand position.
+     *
+     * @param index the 0-based position in the hand
+     * @return the left edge of its slot
+     */
+    private int slotX(int index) {
+        return rowStart() + header.getPreferredSize().width + GAP + index * (CardComponent.CARD_WIDTH + GAP);
+    }
+
+    /**
+     * Listens to the scroll pane the panel is shown in, if any, so that the window of
+     * components follows the visible area.
+     */
+    private void attachViewport() {
+        JViewport parent = getParent() instanceof JViewport ? (JViewport) getParent() : null;
+        if (parent != viewport) {
+            if (viewport != null) {
+                viewport.removeChangeListener(scrollListener);
+            }
+            viewport = parent;
+            if (viewport != null) {
+                viewport.addChangeListener(scrollListener);
+            }
+        }
+    }
+
+    /**
+     * Moves the window of components after the viewport scrolled or was resized.
+     */
+    private void updateWindow() {
+        int oldFirst = first;
+        int oldLast = last;
+        computeWindow();
+        if (first != oldFirst || last != oldLast) {
+            reconcile();
+        }
+    }
+
+    /**
+     * Works out which hand positions are visible, with a margin of {@link #OVERSCAN}
+     * cards on each side. Without a viewport every card is visible.
+     */
+    private void computeWindow() {
+        if (viewport == null) {
+            first = 0;
+            last = cards.size();
+            return;
+        }
+
+        Rectangle view = viewport.getViewRect();
+        int slot = CardComponent.CARD_WIDTH + GAP;
+        int start = slotX(0);
+        first = Math.max(0, Math.floorDiv(view.x - start, slot) - OVERSCAN);
+        last = Math.min(cards.size(), Math.max(0, Math.floorDiv(view.x + view.width - start, slot) + 1 + OVERSCAN));
+        if (first > last) {
+            first = last;
+        }
+    }
+
+    /**
+     * Brings the components in line with the cards in the window: keeps and
+     * re-flags the ones still needed, takes new ones from the pool (or creates
+     * them) and returns the ones no longer needed to the pool.
+     */
+    private void reconcile() {
+        computeWindow();
+        boolean changed = false;
+
+        if (getComponentCount() == 0 || getComponent(0) != header) {
+            add(header, 0);
+            changed = true;
+        }
+
+        // Swap the maps: every card still in the window moves its component from previous to shown
+        IdentityHashMap<Card, CardComponent> swap = previous;
+        previous = shown;
+        shown = swap;
+        for (int i = first; i < last; i++) {
+            CardComponent cardComp = previous.remove(cards.get(i));
+            if (cardComp != null) {
+                shown.put(cards.get(i), cardComp);
+            }
+        }
+
+        // What is left belongs to cards that left the window, so it can be recycled right away
+        for (CardComponent cardComp : previous.values()) {
+            if (pool.size() < MAX_POOLED) {
+                pool.add(cardComp);
+            }
+        }
+        previous.clear();
+
+        for (int i = first; i < last; i++) {
+            Card card = cards.get(i);
+            CardComponent cardComp = shown.get(card);
+            if (cardComp == null) {
+                cardComp = pool.poll();
+                if (cardComp != null) {
+                    cardComp.setCard(card, i + 1);
+                } else {
+                    cardComp = new CardComponent(card, i + 1, controller);
+                    componentsCreated++;
+                }
+                shown.put(card, cardComp);
+            }
+
+            // Components before this position are already in place, so a moved component comes from the right
+            int position = i - first + 1;
+            if (getComponentCount() <= position || getComponent(position) != cardComp) {
+                add(cardComp, position);
+                changed = true;
+            }
+
+            boolean playable = (playableMask[(i + 1) >>> 6] & (1L << (i + 1))) != 0;
+            updateCard(cardComp, i + 1, playable, !handDisabled && !player.isPlayerAI() && playable);
+        }
+
+        // Whatever is left after the window is a recycled component that was not needed
+        while (getComponentCount() > last - first + 1) {
+            remove(getComponentCount() - 1);
+            changed = true;
+        }
+
+        if (changed) {
+            validate();
+            repaint();
+        }
+    }
+
+    /**
+     * Re-flags a card component that is kept between updates.
+     *
+     * @param cardComp the component
+     * @param cardIndex the 1-based position of its card in the hand
+     * @param playable whether the card can be played on the top card
+     * @param usable whether its "Use" button should be enabled
+     */
+    private void updateCard(CardComponent cardComp, int cardIndex, boolean playable, boolean usable) {
+        cardComp.setCardIndex(cardIndex);
+        cardComp.refreshImage(); // the card may have been flipped or had its wild color reset
+        if (cardComp.isPlayable() != playable) {
+            cardComp.setPlayable(playable);
+        }
+
+        JButton useButton = cardComp.getUseButton();
+        useButton.setEnabled(usable);
+        useButton.setForeground(playable ? UIManager.getColor("Button.foreground") : Color.GRAY);
+    }
+}
@@ -0,0 +1,150 @@
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * The HeadlessGameEngine class plays UNO Flip! rounds between AI players
+ * without any view, timer or event dispatch thread.
+ * It puts a {@link UNO_Model} into headless mode and drives every turn
+ * synchronously: the current AI chooses and performs its move, any pending
+ * wild color is applied from the strategy's choice, and the turn is advanced.
+ * This makes it possible to evaluate {@link AIStrategy} implementations by
+ * simulating a large number of rounds as fast as the CPU allows.
+ * A model without views builds no events or status messages, so once warmed
+ * up a turn between {@link BasicAIStrategy} players allocates nothing; only
+ * dealing a new round creates objects (the fresh deck).
+ *
+ * @author Ahmad El-Jabi 101303269
+ * @author Atik Mahmud 101318070
+ * @author Aryan Singh 101299776
+ * @author Jonathan Gitej 101294584
+ *
+ * @version 4.0, December 05, 2025
+ */
+public class HeadlessGameEngine {
+    // A round that runs this long has stalled (e.g. no cards left to draw)
+    public static final int DEFAULT_MAX_TURNS = 2000;
+
+    private final UNO_Model model;
+    private int maxTurns;
+    private int turnsPlayed; // turns taken in the most recent round
+
+    /**
+     * Creates an engine with one AI seat per strategy, in turn order.
+     *
+     * @param strategies the strategy for each seat (2 – 4 seats)
+     */
+    public HeadlessGameEngine(List<AIStrategy> strategies) {
+        this(strategies, new SplittableRandom().nextLong());
+    }
+
+    /**
+     * Creates an engine with one AI seat per strategy whose rounds are replayed
+     * exactly whenever the same seed and strategies are used.
+     *
+     * @param strategies the strategy for each seat (2 – 4 seats)
+     * @param seed the seed for the game's random generator
+     */
+    public HeadlessGameEngine(List<AIStrategy> strategies, long seed) {
+        ArrayList<String> names = new ArrayList<>();
+        ArrayList<Boolean> isAI = new ArrayList<>();
+        for (int i = 0; i < strategies.size(); i++) {
+            names.add("AI " + (i + 1));
+            isAI.add(true);
+        }
+
+        this.model = new UNO_Model(strategies.size(), names, isAI, seed);
+        this.model.setHeadless(true);
+        for (int i = 0; i < strategies.size(); i++) {
+            model.getPlayers().get(i).setAiStrategy(strategies.get(i));
+        }
+        this.model.setSeed(seed);
+        this.maxTurns = DEFAULT_MAX_TURNS;
+    }
+
+    /**
+     * Deals a new round and plays it to completion.
+     *
+     * @return the {@link Player} who won the round, or null if the round stalled
+     *         before anyone emptied their hand
+     */
+    public Player playRound() {
+        model.startNewRound();
+        turnsPlayed = 0;
+
+        while (!model.isRoundOver() && turnsPlayed < maxTurns) {
+            playTurn();
+        }
+        return model.getRoundWinningPlayer();
+    }
+
+    /**
+     * Plays a single turn for the current player: the move itself, the wild color
+     * choice if one is needed, and the hand-off to the next player.
+     */
+    public void playTurn() {
+        model.performAITurn();
+
+        if (model.isWaitingForColorSelection()) {
+            model.applyWildColorSelection(chooseColor());
+        }
+
+        if (!model.isRoundOver()) {
+            model.moveToNextPlayer();
+        }
+        turnsPlayed++;
+    }
+
+    /**
+     * Returns the color picked in advance by the AI that played the wild card,
+     * or asks its strategy again if none was stored.
+     *
+     * @return the color to apply to the wild card on top of the play pile
+     */
+    private CardColor chooseColor() {
+        CardColor color = model.getWildColorChoice();
+        if (color == null || color == CardColor.WILD) {
+            Player player = model.getCurrentPlayer();
+            color = player.getAIStrategy().chooseWildColor(player, model.topCard().getActiveSide());
+        }
+        return color;
+    }
+
+    /**
+     * Assigns the strategy that plays from the given seat in the following rounds.
+     * Call {@link UNO_Model#setSeed(long)} afterwards to give it a seeded generator.
+     *
+     * @param seat the 0-based seat in turn order
+     * @param strategy the {@link AIStrategy} for that seat
+     */
+    public void setStrategy(int seat, AIStrategy strategy) {
+        model.getPlayers().get(seat).setAiStrategy(strategy);
+    }
+
+    /**
+     * Returns the number of turns taken in the most recent round.
+     *
+     * @return the round length in turns
+     */
+    public int getTurnsPlayed() {
+        return turnsPlayed;
+    }
+
+    /**
+     * Sets how many turns a round may take before it is abandoned as stalled.
+     *
+     * @param maxTurns the turn limit per round
+     */
+    public void setMaxTurns(int maxTurns) {
+        this.maxTurns = maxTurns;
+    }
+
+    /**
+     * Returns the model being driven by this engine.
+     *
+     * @return the headless {@link UNO_Model}
+     */
+    public UNO_Model getModel() {
+        return model;
+    }
+}
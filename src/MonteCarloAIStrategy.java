@@ -0,0 +1,749 @@
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.random.RandomGenerator;
+
+/**
+ * This class provides a search-based AI for UNO Flip! using Information-Set
+ * Monte Carlo Tree Search (single-observer ISMCTS).
+ * The AI cannot see its opponents' hands or the order of the draw deck, so each
+ * search iteration first deals the unseen cards at random. The unseen cards are
+ * the game's {@link CardTracker} unknown pool minus the AI's own hand; every
+ * opponent keeps the penalty cards the tracker saw it pick up and is dealt the
+ * rest of its hand at random, and the remaining cards form the deck, which keeps
+ * the sample consistent with everything the AI can see. The iteration then walks a
+ * tree of moves that is shared by all samples, choosing among the moves legal
+ * in this sample by UCB, adds one new move, and finishes the round with a fast
+ * random playout on a {@link CompactGameState} using {@link CompactRules}.
+ * The search is root-parallel: the iteration budget is split between several
+ * independent trees searched on a {@link ForkJoinPool}, and their root visit
+ * counts are added up to pick the move. Every tree gets its own generator split
+ * from the strategy's, so the same seed and budget always choose the same move.
+ * Playing strength grows with the number of iterations. The AI can be given a
+ * fixed number of iterations per decision, which replays exactly, or a deadline:
+ * it then keeps searching until the deadline and plays the best move found so
+ * far, so its delay is spent thinking rather than waiting. Decisions are
+ * remembered in a {@link TranspositionTable} keyed on the game's position hash,
+ * so a position met again (after an undo, for example) reuses a search that
+ * was at least as long as the one asked for. A decision under a deadline has
+ * no fixed length, so it reuses any remembered search that ran at least
+ * {@link #getReuseIterations()} iterations. Interrupting the
+ * thread that asked for the move stops the search early, which is how a
+ * cancelled AI turn gives its processors back.
+ *
+ * @author Ahmad El-Jabi 101303269
+ * @author Atik Mahmud 101318070
+ * @author Aryan Singh 101299776
+ * @author Jonathan Gitej 101294584
+ *
+ * @version 4.0, December 05, 2025
+ */
+public class MonteCarloAIStrategy implements AIStrategy {
+    public static final int DEFAULT_ITERATIONS = 2000;
+    public static final int MAX_TIMED_ITERATIONS = 1_000_000; // bounds the tree size of a long deadline
+
+    private static final double EXPLORATION = 0.7;   // UCB exploration constant
+    private static final int MAX_PLAYOUT_TURNS = 300; // playouts that run longer are scored by hand size
+    private static final int DEADLINE_CHECK = 32;     // iterations between two looks at the clock
+    private static final long NO_DEADLINE = Long.MAX_VALUE;
+    private static final int TABLE_SIZE = 4096;       // positions remembered between decisions
+
+    private final BasicAIStrategy fallback = new BasicAIStrategy(0); // picks colors when no search chose one
+    private int delay_ms;
+    private int iterations;
+    private int threads;
+    private int reuseIterations; // iterations a remembered search needs to answer a timed decision
+    private transient RandomGenerator random;  // set by the game when it is seeded
+    private transient ForkJoinPool pool;       // pool the trees are searched on; null for the common pool
+    private transient CardColor chosenColor;   // color picked with the last wild card chosen
+    private transient int lastIterations;      // iterations run by the last search
+    private transient TranspositionTable table; // moves chosen before, by position hash
+
+    /**
+     * Constructs a search AI with the default iteration budget, searching one tree per processor.
+     *
+     * @param delay_ms the delay, in milliseconds, that the AI should wait before performing an action
+     */
+    public MonteCarloAIStrategy(int delay_ms) {
+        this(delay_ms, DEFAULT_ITERATIONS, Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Constructs a search AI with the given budget.
+     *
+     * @param delay_ms the delay, in milliseconds, that the AI should wait before performing an action
+     * @param iterations the number of search iterations per decision, shared between the trees
+     * @param threads the number of trees searched in parallel
+     */
+    public MonteCarloAIStrategy(int delay_ms, int iterations, int threads) {
+        if (iterations < 1 || threads < 1) {
+            throw new IllegalArgumentException("iterations and threads must be positive");
+        }
+        this.delay_ms = delay_ms;
+        this.iterations = iterations;
+        this.threads = threads;
+        this.reuseIterations = iterations;
+    }
+
+    /**
+     * Searches for the best move for the AI player, running the configured number of iterations.
+     *
+     * @param player  the AI player taking the turn
+     * @param topCard the card currently on top of the play pile
+     * @param game    the active game model
+     * @return the index of the selected card to play (1-based), or 0 to draw
+     */
+    @Override
+    public int chooseCard(Player player, Card topCard, UNO_Model game) {
+        return chooseMove(player, game, iterations, iterations, NO_DEADLINE);
+    }
+
+    /**
+     * Searches for the best move for the AI player until the deadline, then plays
+     * the best move found so far. At least one iteration runs per tree.
+     *
+     * @param player  the AI player taking the turn
+     * @param topCard the card currently on top of the play pile
+     * @param game    the active game model
+     * @param deadlineNanos the {@link System#nanoTime()} value by which the choice must be made
+     * @return the index of the selected card to play (1-based), or 0 to draw
+     */
+    @Override
+    public int chooseCard(Player player, Card topCard, UNO_Model game, long deadlineNanos) {
+        return chooseMove(player, game, MAX_TIMED_ITERATIONS, getReuseIterations(), deadlineNanos);
+    }
+
+    /**
+     * Returns true: the delay is spent searching.
+     *
+     * @return true
+     */
+    @Override
+    public boolean usesThinkingTime() {
+        return true;
+    }
+
+    /**
+     * Searches for the best move and turns it into a hand index.
+     *
+     * @param player the AI player taking the turn
+     * @param game the active game model
+     * @param budget the maximum number of iterations
+     * @param reuseWeight the fewest iterations a remembered search needs to be reused
+     * @param deadline the {@link System#nanoTime()} value to stop at, or {@link #NO_DEADLINE}
+     * @return the index of the selected card to play (1-based), or 0 to draw
+     */
+    private int chooseMove(Player player, UNO_Model game, int budget, int reuseWeight, long deadline) {
+        chosenColor = null;
+        int seat = game.getPlayers().indexOf(player);
+        CompactGameState root = CompactGameState.capture(game);
+        root.setCurrentPlayer(seat);
+        long[] hidden = hiddenCards(root, game.getCardTracker());
+
+        // The position hash covers whose turn it is, so only reuse decisions for the current player
+        boolean remember = player == game.getCurrentPlayer();
+        long hash = game.getStateHash();
+        int move;
+        if (remember && table().getWeight(hash) >= reuseWeight && isLegal(root, table.getMove(hash))) {
+            move = table.getMove(hash);
+            lastIterations = 0;
+        } else {
+            move = search(root, hidden, budget, deadline);
+            if (remember) {
+                table.put(hash, move, lastIterations);
+            }
+        }
+        if (move == CompactRules.DRAW) {
+            return 0;
+        }
+
+        if (CompactRules.colorOf(move) >= 0) {
+            chosenColor = CardColor.values()[CompactRules.colorOf(move)];
+        }
+        ArrayList<Card> hand = player.getHand();
+        int id = CompactRules.cardOf(move);
+        for (int i = 0; i < hand.size(); i++) {
+            if (hand.get(i).getId() == id) {
+                return i + 1;
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * Returns what the current player of a position knows about the cards it cannot
+     * see. Words 0 and 1 hold the tracker's unknown pool minus the player's own hand;
+     * words {@code 2 + 2 * s} and {@code 3 + 2 * s} hold the cards of that pool that
+     * seat {@code s} is known to hold from its penalty draws. Bit {@code id % 64} of
+     * a pair's word {@code id / 64} stands for card {@code id}.
+     *
+     * @param root the position, with the searching seat to move
+     * @param tracker the game's public information
+     * @return the bit masks of the hidden cards
+     */
+    static long[] hiddenCards(CompactGameState root, CardTracker tracker) {
+        int me = root.getCurrentPlayer();
+        long[] hidden = new long[2 + 2 * root.getNumPlayers()];
+        for (int word = 0; word < 2; word++) {
+            hidden[word] = tracker.getUnknownWord(word) & ~root.handWord(me, word);
+            for (int seat = 0; seat < root.getNumPlayers(); seat++) {
+                if (seat != me) {
+                    hidden[2 + 2 * seat + word] = tracker.getPenaltyHandWord(seat, word) & hidden[word];
+                }
+            }
+        }
+        return hidden;
+    }
+
+    /**
+     * Deals one sample of the cards a player cannot see, as a search iteration does.
+     *
+     * @param game the game
+     * @param player the player the sample is dealt for
+     * @param seed the seed of the deal
+     * @return the game with the hidden cards dealt at random
+     */
+    static CompactGameState sampleDeal(UNO_Model game, Player player, long seed) {
+        CompactGameState root = CompactGameState.capture(game);
+        root.setCurrentPlayer(game.getPlayers().indexOf(player));
+        TreeSearch tree = new TreeSearch(root, hiddenCards(root, game.getCardTracker()), new SplittableRandom(seed));
+        tree.game.copyFrom(root);
+        tree.determinize();
+        return tree.game;
+    }
+
+    /**
+     * Returns the table of remembered decisions, creating it on first use.
+     *
+     * @return the transposition table
+     */
+    private TranspositionTable table() {
+        if (table == null) {
+            table = new TranspositionTable(TABLE_SIZE);
+        }
+        return table;
+    }
+
+    /**
+     * Checks that a remembered move is legal in a position, in case two positions share a hash.
+     *
+     * @param state the position
+     * @param move the move
+     * @return true if the move is among the position's legal moves
+     */
+    private static boolean isLegal(CompactGameState state, int move) {
+        int[] legal = new int[CompactRules.MAX_MOVES];
+        int count = CompactRules.legalMoves(state, legal);
+        for (int i = 0; i < count; i++) {
+            if (legal[i] == move) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns the best move for the current player of a game, searching the trees
+     * in parallel when more than one is configured.
+     *
+     * @param root the game, with the AI as the current player
+     * @param hidden the cards the AI cannot see, as built by {@link #hiddenCards}
+     * @param budget the maximum number of iterations, shared between the trees
+     * @param deadline the {@link System#nanoTime()} value to stop at, or {@link #NO_DEADLINE}
+     * @return the chosen move
+     */
+    int search(CompactGameState root, long[] hidden, int budget, long deadline) {
+        int[] legal = new int[CompactRules.MAX_MOVES];
+        int legalCount = CompactRules.legalMoves(root, legal);
+        if (legalCount == 1) {
+            lastIterations = 0;
+            return legal[0]; // nothing to decide
+        }
+
+        RandomGenerator source = random != null ? random : new SplittableRandom();
+        int trees = Math.min(threads, budget);
+        int[] visits = new int[CompactRules.MOVE_LIMIT + 1];
+        lastIterations = 0;
+
+        if (trees == 1) {
+            addVisits(visits, new TreeSearch(root, hidden, new SplittableRandom(source.nextLong())).run(budget, deadline, null));
+        } else {
+            ForkJoinPool searchPool = pool != null ? pool : ForkJoinPool.commonPool();
+            List<ForkJoinTask<Node>> tasks = new ArrayList<>();
+            AtomicBoolean stop = new AtomicBoolean();
+            for (int t = 0; t < trees; t++) {
+                TreeSearch tree = new TreeSearch(root, hidden, new SplittableRandom(source.nextLong()));
+                int treeBudget = budget / trees + (t < budget % trees ? 1 : 0);
+                tasks.add(searchPool.submit(() -> tree.run(treeBudget, deadline, stop)));
+            }
+
+            // Wait interruptibly, so that interrupting the caller stops every tree
+            boolean interrupted = false;
+            for (ForkJoinTask<Node> task : tasks) {
+                while (true) {
+                    try {
+                        addVisits(visits, task.get());
+                        break;
+                    } catch (InterruptedException e) {
+                        interrupted = true;
+                        stop.set(true);
+                    } catch (ExecutionException e) {
+                        throw new IllegalStateException("search failed", e.getCause());
+                    }
+                }
+            }
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        // The most visited move is the most robust choice
+        int best = legal[0];
+        for (int i = 1; i < legalCount; i++) {
+            if (visits[legal[i] + 1] > visits[best + 1]) {
+                best = legal[i];
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Adds the visit counts of a tree's root moves to the totals.
+     *
+     * @param visits visit totals indexed by move + 1
+     * @param root the root of a searched tree
+     */
+    private void addVisits(int[] visits, Node root) {
+        lastIterations += root.visits;
+        for (Node child : root.children) {
+            visits[child.move + 1] += child.visits;
+        }
+    }
+
+    /**
+     * Returns the color picked by the search together with the wild card, or the
+     * most common color in hand if the search did not pick one.
+     *
+     * @param aiPlayer    the AI-controlled player making the choice
+     * @param isLightSide true if the light side of the deck is active, false if the dark side is active
+     * @return the {@link CardColor} chosen for the wild card
+     */
+    @Override
+    public CardColor chooseWildColor(Player aiPlayer, boolean isLightSide) {
+        CardColor color = chosenColor;
+        chosenColor = null;
+        if (color != null && (isLightSide ? color.isLight() : color.isDark())) {
+            return color;
+        }
+        return fallback.chooseWildColor(aiPlayer, isLightSide);
+    }
+
+    /**
+     * Stores the generator provided by the game; every search splits its trees' generators from it.
+     *
+     * @param random the generator for this strategy
+     */
+    @Override
+    public void setRandomGenerator(RandomGenerator random) {
+        this.random = random;
+    }
+
+    /**
+     * Sets the pool the trees are searched on, instead of the common fork/join pool.
+     *
+     * @param pool the pool to search on, or null for the common pool
+     */
+    public void setPool(ForkJoinPool pool) {
+        this.pool = pool;
+    }
+
+    /**
+     * Returns the number of iterations the last search ran, in all trees together.
+     *
+     * @return the iterations of the last decision, 0 if there was only one legal move
+     */
+    public int getLastIterations() {
+        return lastIterations;
+    }
+
+    /**
+     * Returns the number of search iterations per decision.
+     *
+     * @return the iteration budget
+     */
+    public int getIterations() {
+        return iterations;
+    }
+
+    /**
+     * Returns how many iterations a remembered search must have run to answer a
+     * decision under a deadline. It starts at the iteration budget.
+     *
+     * @return the minimum weight of a reused decision
+     */
+    public int getReuseIterations() {
+        return reuseIterations > 0 ? reuseIterations : iterations; // games saved before it existed hold 0
+    }
+
+    /**
+     * Sets how many iterations a remembered search must have run to answer a
+     * decision under a deadline instead of searching again.
+     *
+     * @param reuseIterations the minimum weight of a reused decision, at least 1
+     */
+    public void setReuseIterations(int reuseIterations) {
+        if (reuseIterations < 1) {
+            throw new IllegalArgumentException("reuseIterations must be positive");
+        }
+        this.reuseIterations = reuseIterations;
+    }
+
+    /**
+     * Returns the artificial delay applied before the AI performs its action.
+     *
+     * @return the delay duration in milliseconds
+     */
+    @Override
+    public int getDelayMilliseconds() {
+        return delay_ms;
+    }
+
+    /**
+     * Sets the artificial delay that the AI should wait before executing an action.
+     *
+     * @param delayMilliseconds the new delay time, in milliseconds
+     */
+    @Override
+    public void setDelayMilliseconds(int delayMilliseconds) {
+        this.delay_ms = delayMilliseconds;
+    }
+
+    /**
+     * A node of the search tree: the move that led to it, who made it, and its statistics.
+     */
+    private static final class Node {
+        private final int move;          // move from the parent, or DRAW for the root
+        private final int seat;          // seat that made the move
+        private final Node parent;
+        private final ArrayList<Node> children = new ArrayList<>(4);
+        private int visits;
+        private int availability;        // iterations in which the move was legal
+        private double reward;           // total reward for the seat that made the move
+
+        /**
+         * Creates a node.
+         *
+         * @param move the move from the parent
+         * @param seat the seat that made the move
+         * @param parent the parent node, or null for the root
+         */
+        Node(int move, int seat, Node parent) {
+            this.move = move;
+            this.seat = seat;
+            this.parent = parent;
+        }
+
+        /**
+         * Returns the child reached by a move.
+         *
+         * @param move the move
+         * @return the child, or null if the move has not been tried from this node
+         */
+        Node child(int move) {
+            for (Node child : children) {
+                if (child.move == move) {
+                    return child;
+                }
+            }
+            return null;
+        }
+    }
+
+    /**
+     * One search tree with its own generator and scratch state, run on a single thread.
+     */
+    private static final class TreeSearch {
+        private final CompactGameState root;
+        private final SplittableRandom rng;
+        private final int me;                        // seat the search plays for
+        private final CompactGameState game;         // scratch copy played on by each iteration
+        private final int[] moves = new int[CompactRules.MAX_MOVES];
+        private final int[] unseen;                  // hidden cards no seat is known to hold, reshuffled by each deal
+        private final int[][] known;                 // hidden cards each seat is known to hold
+        private final double[] rewards;
+        private final int[] colorCounts = new int[CardColor.values().length];
+        private final Node[] legalChildren = new Node[CompactRules.MAX_MOVES];
+
+        /**
+         * Creates a search from the given position.
+         *
+         * @param root the game, with the searching seat to move
+         * @param hidden the cards the searching seat cannot see, as built by {@link #hiddenCards}
+         * @param rng the generator for this tree
+         */
+        TreeSearch(CompactGameState root, long[] hidden, SplittableRandom rng) {
+            this.root = root;
+            this.rng = rng;
+            this.me = root.getCurrentPlayer();
+            this.game = root.copy();
+            this.rewards = new double[root.getNumPlayers()];
+
+            int seats = root.getNumPlayers();
+            long[] free = {hidden[0], hidden[1]};
+            known = new int[seats][];
+            for (int seat = 0; seat < seats; seat++) {
+                known[seat] = cardsOf(hidden[2 + 2 * seat], hidden[3 + 2 * seat]);
+                free[0] &= ~hidden[2 + 2 * seat];
+                free[1] &= ~hidden[3 + 2 * seat];
+            }
+            unseen = cardsOf(free[0], free[1]);
+        }
+
+        /**
+         * Lists the cards of a two-word bit mask.
+         *
+         * @param low the bits of cards 0 to 63
+         * @param high the bits of cards 64 and up
+         * @return the card IDs, in increasing order
+         */
+        private static int[] cardsOf(long low, long high) {
+            int[] ids = new int[Long.bitCount(low) + Long.bitCount(high)];
+            int count = 0;
+            for (long bits = low; bits != 0; bits &= bits - 1) {
+                ids[count++] = Long.numberOfTrailingZeros(bits);
+            }
+            for (long bits = high; bits != 0; bits &= bits - 1) {
+                ids[count++] = 64 + Long.numberOfTrailingZeros(bits);
+            }
+            return ids;
+        }
+
+        /**
+         * Runs iterations until the budget is used up, the deadline has passed, the
+         * stop flag is set or the running thread is interrupted.
+         *
+         * @param iterations the iteration budget
+         * @param deadline the {@link System#nanoTime()} value to stop at
+         * @param stop set when the search should end early; null if the tree runs on the caller's thread
+         * @return the root of the tree
+         */
+        Node run(int iterations, long deadline, AtomicBoolean stop) {
+            Node rootNode = new Node(CompactRules.DRAW, -1, null);
+            for (int i = 0; i < iterations; i++) {
+                if (i > 0 && i % DEADLINE_CHECK == 0
+                        && (Thread.currentThread().isInterrupted() || stop != null && stop.get() || deadline != NO_DEADLINE && System.nanoTime() - deadline >= 0)) {
+                    break;
+                }
+                iterate(rootNode);
+            }
+            return rootNode;
+        }
+
+        /**
+         * Runs one iteration: sample the hidden cards, select and expand, play out, and back up the result.
+         *
+         * @param rootNode the root of the tree
+         */
+        private void iterate(Node rootNode) {
+            game.copyFrom(root);
+            determinize();
+
+            Node node = rootNode;
+            int winner = CompactRules.NO_WINNER;
+            while (winner == CompactRules.NO_WINNER) {
+                int seat = game.getCurrentPlayer();
+                int count = CompactRules.legalMoves(game, moves);
+
+                // Moves legal in this sample: count their availability and look for one never tried
+                int legalTried = 0;
+                int untried = 0;
+                for (int i = 0; i < count; i++) {
+                    Node child = node.child(moves[i]);
+                    if (child == null) {
+                        moves[untried++] = moves[i];
+                    } else {
+                        child.availability++;
+                        legalChildren[legalTried++] = child;
+                    }
+                }
+
+                if (untried > 0) {
+                    int move = moves[rng.nextInt(untried)];
+                    Node child = new Node(move, seat, node);
+                    child.availability = 1;
+                    node.children.add(child);
+                    node = child;
+                    winner = CompactRules.apply(game, move, rng);
+                    break;
+                }
+
+                node = select(legalChildren, legalTried);
+                winner = CompactRules.apply(game, node.move, rng);
+            }
+
+            if (winner == CompactRules.NO_WINNER) {
+                winner = playout();
+            }
+            score(winner);
+
+            for (; node != null; node = node.parent) {
+                node.visits++;
+                if (node.seat >= 0) {
+                    node.reward += rewards[node.seat];
+                }
+            }
+        }
+
+        /**
+         * Picks the child with the best upper confidence bound.
+         *
+         * @param children the children legal in this sample
+         * @param count the number of children
+         * @return the selected child
+         */
+        private Node select(Node[] children, int count) {
+            Node best = null;
+            double bestValue = Double.NEGATIVE_INFINITY;
+            for (int i = 0; i < count; i++) {
+                Node child = children[i];
+                double value = child.reward / child.visits
+                        + EXPLORATION * Math.sqrt(Math.log(child.availability) / child.visits);
+                if (value > bestValue) {
+                    bestValue = value;
+                    best = child;
+                }
+            }
+            return best;
+        }
+
+        /**
+         * Deals the cards the searching seat cannot see at random: each opponent gets
+         * the cards it is known to hold and is filled up to its hand size from the
+         * rest, which then become the draw deck.
+         */
+        void determinize() {
+            int count = unseen.length;
+            for (int i = count - 1; i > 0; i--) {
+                int j = rng.nextInt(i + 1);
+                int card = unseen[i];
+                unseen[i] = unseen[j];
+                unseen[j] = card;
+            }
+
+            int next = 0;
+            for (int seat = 0; seat < game.getNumPlayers(); seat++) {
+                if (seat != me) {
+                    int handSize = game.handSize(seat);
+                    game.clearHand(seat);
+                    for (int i = 0; i < known[seat].length && i < handSize; i++) {
+                        game.addToHand(seat, known[seat][i]);
+                    }
+                    for (int i = known[seat].length; i < handSize && next < count; i++) {
+                        game.addToHand(seat, unseen[next++]);
+                    }
+                }
+            }
+            game.clearDeck();
+            while (next < count) {
+                game.addToDeck(unseen[next++]);
+            }
+        }
+
+        /**
+         * Plays the round out with random cards, giving wild cards the most common color in hand.
+         *
+         * @return the winning seat, or {@link CompactRules#NO_WINNER} if the playout was cut short
+         */
+        private int playout() {
+            for (int turn = 0; turn < MAX_PLAYOUT_TURNS; turn++) {
+                int move = randomMove();
+                int winner = CompactRules.apply(game, move, rng);
+                if (winner != CompactRules.NO_WINNER) {
+                    return winner;
+                }
+            }
+            return CompactRules.NO_WINNER;
+        }
+
+        /**
+         * Picks a random playable card for the current player, or draws if there is none.
+         *
+         * @return the move
+         */
+        private int randomMove() {
+            int seat = game.getCurrentPlayer();
+            int topKey = CompactRules.topKey(game);
+            int count = 0;
+            for (int id = game.nextCardInHand(seat, 0); id >= 0; id = game.nextCardInHand(seat, id + 1)) {
+                if (CompactRules.isPlayable(game, id, topKey)) {
+                    moves[count++] = id;
+                }
+            }
+            if (count == 0) {
+                return CompactRules.DRAW;
+            }
+
+            int id = moves[rng.nextInt(count)];
+            return CompactRules.playMove(id, CompactRules.isWild(game, id) ? mostCommonColor(seat) : -1);
+        }
+
+        /**
+         * Returns the most common color of the active side in a seat's hand.
+         *
+         * @param seat the seat
+         * @return the {@link CardColor} ordinal, the side's first color if the hand has none
+         */
+        private int mostCommonColor(int seat) {
+            int[] colors = CompactRules.sideColors(game.isLightSide());
+            Arrays.fill(colorCounts, 0);
+            boolean lightSide = game.isLightSide();
+            for (int id = game.nextCardInHand(seat, 0); id >= 0; id = game.nextCardInHand(seat, id + 1)) {
+                colorCounts[CardIds.colorOrdinal(id, lightSide)]++;
+            }
+
+            int best = colors[0];
+            for (int color : colors) {
+                if (colorCounts[color] > colorCounts[best]) {
+                    best = color;
+                }
+            }
+            return best;
+        }
+
+        /**
+         * Sets each seat's reward: 1 for the winner, or, if the playout was cut short,
+         * shared between the seats holding the fewest cards.
+         *
+         * @param winner the winning seat, or {@link CompactRules#NO_WINNER}
+         */
+        private void score(int winner) {
+            int seats = rewards.length;
+            if (winner != CompactRules.NO_WINNER) {
+                for (int seat = 0; seat < seats; seat++) {
+                    rewards[seat] = seat == winner ? 1 : 0;
+                }
+                return;
+            }
+
+            int fewest = Integer.MAX_VALUE;
+            int leaders = 0;
+            for (int seat = 0; seat < seats; seat++) {
+                int size = game.handSize(seat);
+                if (size < fewest) {
+                    fewest = size;
+                    leaders = 1;
+                } else if (size == fewest) {
+                    leaders++;
+                }
+            }
+            for (int seat = 0; seat < seats; seat++) {
+                rewards[seat] = game.handSize(seat) == fewest ? 1.0 / leaders : 0;
+            }
+        }
+    }
+}
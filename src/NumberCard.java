@@ -37,23 +37,10 @@ public class NumberCard extends Card {
      */
     @Override
     public boolean action(UNO_Model model, Player player){
-        model.prepareEvent(GameEvent.EventType.MESSAGE, player.getName() + " played a " + (isLightSideActive ? this.lightColor : this.darkColor) + " " + this.lightType);
+        model.prepareEvent(GameEvent.EventType.MESSAGE, (card, p) ->
+                p.getName() + " played a " + (card.getActiveSide() ? card.lightColor : card.darkColor) + " " + card.lightType, this, player);
         model.notifyViews();
         //Numbered Card have no special effect
         return true;
     }
-
-
-    /**
-     * Determines whether this card can be legally played on top of another card.
-     * The card is playable if it shares the same color or number as the top card.
-     *
-     * @param otherCard The card currently on top of the play pile.
-     * @return boolean. true if this card can be played; false otherwise.
-     */
-    // Card can be played if top card is same type or same color
-    @Override
-    public boolean playableOnTop(Card otherCard){
-        return getColor() == otherCard.getColor() || getType() == otherCard.getType();
-    }
 }
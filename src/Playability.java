@@ -0,0 +1,126 @@
+/**
+ * The Playability class answers "can this card be played on that top card?"
+ * with a single array lookup instead of a virtual {@link Card#playableOnTop(Card)}
+ * call per pair.
+ * A card is described by a key combining its effective (active-side, possibly
+ * chosen) {@link CardColor} and its {@link CardType}. For every key the table
+ * stores a bitset of the top-card keys it may be played on, following the UNO
+ * Flip! rules: wild cards are always playable, and any other card must match
+ * the top card's color or type. The whole table is under 5 KB.
+ *
+ * @author Ahmad El-Jabi 101303269
+ * @author Atik Mahmud 101318070
+ * @author Aryan Singh 101299776
+ * @author Jonathan Gitej 101294584
+ *
+ * @version 4.0, December 05, 2025
+ */
+public final class Playability {
+    private static final CardColor[] COLORS = CardColor.values();
+    private static final CardType[] TYPES = CardType.values();
+
+    public static final int KEY_COUNT = COLORS.length * TYPES.length; // one key per color and type pair
+    private static final int WORDS_PER_KEY = (KEY_COUNT + 63) >>> 6;
+
+    // Bit topKey of words [cardKey * WORDS_PER_KEY ...] is set if cardKey may be played on topKey
+    private static final long[] PLAYABLE = new long[KEY_COUNT * WORDS_PER_KEY];
+
+    // Printed key of each card ID, light side first, then dark side
+    private static final short[] CARD_KEYS = new short[2 * CardIds.CARD_COUNT];
+
+    static {
+        for (CardColor color : COLORS) {
+            for (CardType type : TYPES) {
+                int cardKey = key(color, type);
+                boolean wild = type.isWildCard() || color == CardColor.WILD;
+
+                for (CardColor topColor : COLORS) {
+                    for (CardType topType : TYPES) {
+                        if (wild || color == topColor || type == topType) {
+                            int topKey = key(topColor, topType);
+                            PLAYABLE[cardKey * WORDS_PER_KEY + (topKey >>> 6)] |= 1L << topKey;
+                        }
+                    }
+                }
+            }
+        }
+
+        for (int id = 0; id < CardIds.CARD_COUNT; id++) {
+            CARD_KEYS[id] = (short) key(CardIds.colorOrdinal(id, true), CardIds.typeOrdinal(id, true));
+            CARD_KEYS[CardIds.CARD_COUNT + id] = (short) key(CardIds.colorOrdinal(id, false), CardIds.typeOrdinal(id, false));
+        }
+    }
+
+    /**
+     * Prevents instantiation; all members are static.
+     */
+    private Playability() {
+    }
+
+    /**
+     * Returns the key of a color and type pair.
+     *
+     * @param color the effective color
+     * @param type the type
+     * @return the key, between 0 and {@link #KEY_COUNT} - 1
+     */
+    public static int key(CardColor color, CardType type) {
+        return key(color.ordinal(), type.ordinal());
+    }
+
+    /**
+     * Returns the key of a color and type pair given by their ordinals.
+     *
+     * @param colorOrdinal the effective {@link CardColor} ordinal
+     * @param typeOrdinal the {@link CardType} ordinal
+     * @return the key, between 0 and {@link #KEY_COUNT} - 1
+     */
+    public static int key(int colorOrdinal, int typeOrdinal) {
+        return colorOrdinal * TYPES.length + typeOrdinal;
+    }
+
+    /**
+     * Returns the key of a card's active side.
+     *
+     * @param card the card
+     * @return the key of its current color and type
+     */
+    public static int key(Card card) {
+        return key(card.getColor(), card.getType());
+    }
+
+    /**
+     * Returns the key of a card's printed side, looked up by card ID. For a card
+     * in hand this equals {@link #key(Card)}: only a wild card's color changes in
+     * play, and a wild card is playable whatever its color.
+     *
+     * @param id the card ID
+     * @param lightSide true for the light side, false for the dark side
+     * @return the key of the printed color and type on that side
+     */
+    public static int cardKey(int id, boolean lightSide) {
+        return CARD_KEYS[lightSide ? id : CardIds.CARD_COUNT + id];
+    }
+
+    /**
+     * Checks whether a card may be played on a top card, both given by key.
+     *
+     * @param cardKey the key of the card to play
+     * @param topKey the key of the top card of the play pile
+     * @return true if the move is legal
+     */
+    public static boolean isPlayable(int cardKey, int topKey) {
+        return (PLAYABLE[cardKey * WORDS_PER_KEY + (topKey >>> 6)] & (1L << topKey)) != 0;
+    }
+
+    /**
+     * Checks whether a card may be played on a top card.
+     *
+     * @param card the card to play
+     * @param top the top card of the play pile
+     * @return true if the move is legal
+     */
+    public static boolean isPlayable(Card card, Card top) {
+        return isPlayable(key(card), key(top));
+    }
+}
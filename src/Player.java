@@ -16,9 +16,20 @@ import java.util.*;
 public class Player implements Serializable {
     @Serial
     private static final long serialVersionUID = 1L;
+    private static final CardColor[] COLORS = CardColor.values();
+    private static final int LIGHT = 0; // index of the light side in the hand index
+    private static final int DARK = 1;  // index of the dark side in the hand index
+
     private String name;
     private ArrayList<Card> hand;
     private int score;
+
+    // Hand index: counts of the cards in hand by side and color / type, kept up to date as cards come and go.
+    // Wild cards are counted separately and not by color, since their color changes when one is chosen.
+    private transient int[][] colorCounts; // [side][CardColor ordinal]
+    private transient int[][] typeCounts;  // [side][CardType ordinal]
+    private transient int[] wildCounts;    // [side]
+    private transient int indexedModCount; // hand modification count the index reflects
     private AIStrategy aiStrategy;
     private boolean isAI;
 
@@ -30,7 +41,7 @@ public class Player implements Serializable {
      */
     public Player(String name, boolean isAI) {
         this.name = name;
-        this.hand = new ArrayList<>();
+        this.hand = new Hand();
         this.score = 0;
         this.isAI = isAI;
     }
@@ -46,12 +57,27 @@ public class Player implements Serializable {
      */
     public Player(String name, boolean isAI, AIStrategy strategy) {
         this.name = name;
-        this.hand = new ArrayList<>();
+        this.hand = new Hand();
         this.score = 0;
         this.isAI = isAI;
         this.aiStrategy = strategy;
     }
 
+    /**
+     * Returns a player with the same name, score, AI status and strategy as this
+     * one, holding the given cards. Used when a game is forked; the strategy object
+     * is shared with this player.
+     *
+     * @param cards the cards of the copy's hand
+     * @return the copy
+     */
+    Player copyWithHand(Collection<Card> cards) {
+        Player copy = new Player(name, isAI, aiStrategy);
+        copy.hand = new Hand(cards);
+        copy.score = score;
+        return copy;
+    }
+
     /**
      * Returns the player's name.
      *
@@ -67,7 +93,12 @@ public class Player implements Serializable {
      * @param drawnCard The Card drawn and added to the player's hand.
      */
     public void drawCardToHand(Card drawnCard) {
+        boolean indexed = isIndexCurrent();
         hand.add(drawnCard);
+        if (indexed) {
+            updateIndex(drawnCard, 1);
+            indexedModCount = ((Hand) hand).modifications();
+        }
     }
 
     /**
@@ -86,7 +117,43 @@ public class Player implements Serializable {
      * @param cardNumber The 1-based position of the card to remove.
      */
     public void removeCard(int cardNumber) {
-        hand.remove(cardNumber - 1);
+        boolean indexed = isIndexCurrent();
+        Card removed = hand.remove(cardNumber - 1);
+        if (indexed) {
+            updateIndex(removed, -1);
+            indexedModCount = ((Hand) hand).modifications();
+        }
+    }
+
+    /**
+     * Puts a card back into the player's hand at the given position, as when a play is undone.
+     *
+     * @param cardNumber The 1-based position the card goes back to; positions past the end add it last.
+     * @param card The Card returned to the hand.
+     */
+    public void returnCardToHand(int cardNumber, Card card) {
+        boolean indexed = isIndexCurrent();
+        hand.add(Math.min(Math.max(cardNumber - 1, 0), hand.size()), card);
+        if (indexed) {
+            updateIndex(card, 1);
+            indexedModCount = ((Hand) hand).modifications();
+        }
+    }
+
+    /**
+     * Removes the given card from the player's hand, searching from the most recently added card.
+     *
+     * @param card The Card to remove.
+     * @return boolean. true if the card was in the hand.
+     */
+    public boolean removeCard(Card card) {
+        for (int i = hand.size() - 1; i >= 0; i--) {
+            if (hand.get(i) == card) {
+                removeCard(i + 1);
+                return true;
+            }
+        }
+        return false;
     }
 
     /**
@@ -109,6 +176,7 @@ public class Player implements Serializable {
      */
     public void clearHand() {
         hand.clear();
+        rebuildIndex();
     }
 
     /**
@@ -120,6 +188,146 @@ public class Player implements Serializable {
         return hand;
     }
 
+    /**
+     * Returns how many cards in hand show the given color on the given side, not counting wild cards.
+     *
+     * @param color the color to count
+     * @param lightSide true for the light side, false for the dark side
+     * @return the number of matching cards
+     */
+    public int colorCount(CardColor color, boolean lightSide) {
+        return index()[lightSide ? LIGHT : DARK][color.ordinal()];
+    }
+
+    /**
+     * Returns how many cards in hand have the given type on the given side.
+     *
+     * @param type the type to count
+     * @param lightSide true for the light side, false for the dark side
+     * @return the number of matching cards
+     */
+    public int typeCount(CardType type, boolean lightSide) {
+        index();
+        return typeCounts[lightSide ? LIGHT : DARK][type.ordinal()];
+    }
+
+    /**
+     * Returns how many wild cards are in hand on the given side.
+     *
+     * @param lightSide true for the light side, false for the dark side
+     * @return the number of wild cards
+     */
+    public int wildCount(boolean lightSide) {
+        index();
+        return wildCounts[lightSide ? LIGHT : DARK];
+    }
+
+    /**
+     * Checks in constant time whether any card in hand can be played on the given top card:
+     * a wild card, or a card matching the top card's color or type.
+     *
+     * @param topCard the card on top of the play pile
+     * @return true if at least one card in hand is playable
+     */
+    public boolean hasPlayableCard(Card topCard) {
+        if (topCard == null) {
+            return false;
+        }
+        int side = topCard.getActiveSide() ? LIGHT : DARK;
+        index();
+        return wildCounts[side] > 0
+                || colorCounts[side][topCard.getColor().ordinal()] > 0
+                || typeCounts[side][topCard.getType().ordinal()] > 0;
+    }
+
+    /**
+     * Returns the color held most often on the given side, not counting wild cards.
+     * Ties go to the color declared first in {@link CardColor}.
+     *
+     * @param lightSide true for the light side, false for the dark side
+     * @return the most common {@link CardColor}, or null if the hand holds only wild cards
+     */
+    public CardColor mostCommonColor(boolean lightSide) {
+        int[] counts = index()[lightSide ? LIGHT : DARK];
+        CardColor best = null;
+        int bestCount = 0;
+        for (CardColor color : COLORS) {
+            if (counts[color.ordinal()] > bestCount) {
+                bestCount = counts[color.ordinal()];
+                best = color;
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Returns the color counts, first rebuilding the index if the hand was changed
+     * directly through {@link #getHand()}.
+     *
+     * @return the color counts by side
+     */
+    private int[][] index() {
+        if (!isIndexCurrent()) {
+            rebuildIndex();
+        }
+        return colorCounts;
+    }
+
+    /**
+     * Checks whether the index reflects the hand's current contents.
+     *
+     * @return true if the index is up to date
+     */
+    private boolean isIndexCurrent() {
+        return colorCounts != null
+                && hand instanceof Hand
+                && ((Hand) hand).modifications() == indexedModCount;
+    }
+
+    /**
+     * Recounts the whole hand.
+     */
+    private void rebuildIndex() {
+        if (!(hand instanceof Hand)) {
+            hand = new Hand(hand); // hand read from a game saved before the index existed
+        }
+        colorCounts = new int[2][COLORS.length];
+        typeCounts = new int[2][CardType.values().length];
+        wildCounts = new int[2];
+        for (Card card : hand) {
+            updateIndex(card, 1);
+        }
+        indexedModCount = ((Hand) hand).modifications();
+    }
+
+    /**
+     * Adds a card to, or removes it from, the counts for both of its sides.
+     *
+     * @param card the card
+     * @param delta 1 when the card enters the hand, -1 when it leaves
+     */
+    private void updateIndex(Card card, int delta) {
+        updateSide(LIGHT, card.lightColor, card.lightType, delta);
+        updateSide(DARK, card.darkColor, card.darkType, delta);
+    }
+
+    /**
+     * Updates the counts for one side of a card.
+     *
+     * @param side LIGHT or DARK
+     * @param color the card's color on that side
+     * @param type the card's type on that side
+     * @param delta 1 or -1
+     */
+    private void updateSide(int side, CardColor color, CardType type, int delta) {
+        typeCounts[side][type.ordinal()] += delta;
+        if (type.isWildCard() || color == CardColor.WILD) {
+            wildCounts[side] += delta;
+        } else {
+            colorCounts[side][color.ordinal()] += delta;
+        }
+    }
+
     /**
      * Returns the number of cards currently in the player's hand.
      *
@@ -190,4 +398,37 @@ public class Player implements Serializable {
     public void resetScore(){
         this.score = 0;
     }
+
+    /**
+     * The list holding a hand. It exposes its modification count so the player can
+     * tell when the hand was changed directly and the index must be rebuilt.
+     */
+    private static class Hand extends ArrayList<Card> {
+        @Serial
+        private static final long serialVersionUID = 1L;
+
+        /**
+         * Creates an empty hand.
+         */
+        Hand() {
+        }
+
+        /**
+         * Creates a hand holding the given cards.
+         *
+         * @param cards the cards
+         */
+        Hand(Collection<Card> cards) {
+            super(cards);
+        }
+
+        /**
+         * Returns how many times the list has been structurally modified.
+         *
+         * @return the modification count
+         */
+        int modifications() {
+            return modCount;
+        }
+    }
 }
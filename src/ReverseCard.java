@@ -45,24 +45,11 @@ public class ReverseCard extends Card {
             // Normal behavior for 3+ players
             model.flipDirection();
 
-            model.prepareEvent(GameEvent.EventType.MESSAGE, "Direction reversed! Now going " +
-                    (model.getDirection() == Direction.CLOCKWISE ? "clockwise" : "counter-clockwise"));
+            model.prepareEvent(GameEvent.EventType.MESSAGE, direction -> "Direction reversed! Now going " +
+                    (direction == Direction.CLOCKWISE ? "clockwise" : "counter-clockwise"), model.getDirection());
             model.notifyViews();
         }
         return true;
     }
 
-    /**
-     * Determines whether this card can be legally played on top of another card.
-     * The card is playable if it matches either the color or type of the top card.
-     *
-     * @param otherCard The card currently on top of the play pile.
-     * @return boolean. true if this card can be played; false otherwise.
-     */
-    // Card can be played if top card is same type or same color
-    @Override
-    public boolean playableOnTop(Card otherCard){
-        return getColor() == otherCard.getColor() || getType() == otherCard.getType();
-    }
-
 }
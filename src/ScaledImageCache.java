@@ -0,0 +1,202 @@
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * The ScaledImageCache class keeps card images already scaled to the size they
+ * are drawn at, so that repainting a card is a plain copy instead of a
+ * bilinear rescale of the full-resolution image.
+ * Entries are keyed by the source image and the target size in device pixels,
+ * which already includes the screen's scale factor. When a card is resized or
+ * moved to a screen with another scale, its old entries are no longer looked up
+ * and the least recently used entries are evicted once the cache is full.
+ * Scaled images are created compatible with the screen they are drawn on, so
+ * Java2D can keep them in video memory.
+ * The cache is meant to be used from the event dispatch thread; its methods are
+ * synchronized so that a background thread may fill it as well.
+ *
+ * @author Ahmad El-Jabi 101303269
+ * @author Atik Mahmud 101318070
+ * @author Aryan Singh 101299776
+ * @author Jonathan Gitej 101294584
+ *
+ * @version 4.0, December 05, 2025
+ */
+public class ScaledImageCache {
+    // Room for every card face at two sizes (hand and top card)
+    public static final int DEFAULT_CAPACITY = 256;
+
+    private static final ScaledImageCache SHARED = new ScaledImageCache(DEFAULT_CAPACITY);
+
+    private final int capacity;
+    private final LinkedHashMap<Key, BufferedImage> images;
+    private long hits;
+    private long misses;
+
+    /**
+     * Creates an empty cache holding at most the given number of scaled images.
+     *
+     * @param capacity the maximum number of entries
+     */
+    public ScaledImageCache(int capacity) {
+        this.capacity = capacity;
+        this.images = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, BufferedImage> eldest) {
+                return size() > ScaledImageCache.this.capacity;
+            }
+        };
+    }
+
+    /**
+     * Returns the cache shared by the whole application.
+     *
+     * @return the shared cache
+     */
+    public static ScaledImageCache getShared() {
+        return SHARED;
+    }
+
+    /**
+     * Returns the source image scaled to the given size in device pixels, scaling it on first use.
+     *
+     * @param source the full-resolution image
+     * @param width the target width in device pixels
+     * @param height the target height in device pixels
+     * @param config the configuration of the screen the image is drawn on, or null if unknown
+     * @return the scaled image
+     */
+    public synchronized BufferedImage getScaled(BufferedImage source, int width, int height, GraphicsConfiguration config) {
+        Key key = new Key(source, width, height);
+        BufferedImage scaled = images.get(key);
+        if (scaled != null) {
+            hits++;
+            return scaled;
+        }
+
+        misses++;
+        scaled = scale(source, width, height, config);
+        images.put(key, scaled);
+        return scaled;
+    }
+
+    /**
+     * Draws the source image into the given rectangle, using a copy scaled to the
+     * rectangle's size on the device so that no scaling happens while drawing.
+     *
+     * @param g the graphics to draw with
+     * @param source the full-resolution image
+     * @param x the left edge in user space
+     * @param y the top edge in user space
+     * @param width the width in user space
+     * @param height the height in user space
+     */
+    public void draw(Graphics2D g, BufferedImage source, int x, int y, int width, int height) {
+        // Size in device pixels, so the copy is drawn 1:1 on scaled (HiDPI) screens
+        double scaleX = g.getTransform().getScaleX();
+        double scaleY = g.getTransform().getScaleY();
+        int deviceWidth = Math.max(1, (int) Math.round(width * scaleX));
+        int deviceHeight = Math.max(1, (int) Math.round(height * scaleY));
+
+        BufferedImage scaled = getScaled(source, deviceWidth, deviceHeight, g.getDeviceConfiguration());
+        g.drawImage(scaled, x, y, width, height, null);
+    }
+
+    /**
+     * Returns the number of entries currently held.
+     *
+     * @return the entry count
+     */
+    public synchronized int size() {
+        return images.size();
+    }
+
+    /**
+     * Returns the number of lookups answered from the cache.
+     *
+     * @return the hit count
+     */
+    public synchronized long getHits() {
+        return hits;
+    }
+
+    /**
+     * Returns the number of lookups that had to scale an image.
+     *
+     * @return the miss count
+     */
+    public synchronized long getMisses() {
+        return misses;
+    }
+
+    /**
+     * Forgets every scaled image, for example after the screen configuration changed.
+     */
+    public synchronized void clear() {
+        images.clear();
+    }
+
+    /**
+     * Scales an image with bilinear interpolation into a new image.
+     *
+     * @param source the full-resolution image
+     * @param width the target width
+     * @param height the target height
+     * @param config the screen configuration, or null to create a plain ARGB image
+     * @return the scaled image
+     */
+    private static BufferedImage scale(BufferedImage source, int width, int height, GraphicsConfiguration config) {
+        BufferedImage scaled = config != null
+                ? config.createCompatibleImage(width, height, Transparency.TRANSLUCENT)
+                : new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB_PRE);
+
+        Graphics2D g = scaled.createGraphics();
+        try {
+            g.setComposite(AlphaComposite.Src);
+            g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            g.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            g.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+            g.drawImage(source, 0, 0, width, height, null);
+        } finally {
+            g.dispose();
+        }
+        return scaled;
+    }
+
+    /**
+     * A source image (compared by identity) and a target size.
+     */
+    private static final class Key {
+        private final BufferedImage source;
+        private final int width;
+        private final int height;
+
+        /**
+         * Creates a key.
+         *
+         * @param source the full-resolution image
+         * @param width the target width in device pixels
+         * @param height the target height in device pixels
+         */
+        Key(BufferedImage source, int width, int height) {
+            this.source = source;
+            this.width = width;
+            this.height = height;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof Key)) {
+                return false;
+            }
+            Key other = (Key) o;
+            return source == other.source && width == other.width && height == other.height;
+        }
+
+        @Override
+        public int hashCode() {
+            return (System.identityHashCode(source) * 31 + width) * 31 + height;
+        }
+    }
+}
@@ -36,10 +36,10 @@ public class SkipCard extends Card {
      */
     @Override
     public boolean action(UNO_Model model, Player player){
-        if (isLightSideActive) {
+        if (getActiveSide()) {
             // Light side: Regular Skip - skip next player
             Player nextPlayer = model.getNextPlayer(player);
-            model.prepareEvent(GameEvent.EventType.MESSAGE, "Skipping " + nextPlayer.getName() + "!");
+            model.prepareEvent(GameEvent.EventType.MESSAGE, p -> "Skipping " + p.getName() + "!", nextPlayer);
             model.notifyViews();
             model.addSkip(1);
 
@@ -53,17 +53,4 @@ public class SkipCard extends Card {
         return true;
     }
 
-    /**
-     * Determines whether this card can be legally played on top of another card.
-     * The card is playable if it shares the same color or type as the top card.
-     *
-     * @param otherCard The card currently on top of the play pile.
-     * @return boolean. true if this card can be played; false otherwise.
-     */
-    // Card can be played if top card is same type or same color
-    @Override
-    public boolean playableOnTop(Card otherCard){
-        return getColor() == otherCard.getColor() || getType() == otherCard.getType();
-    }
-
 }
@@ -0,0 +1,113 @@
+import javax.swing.SwingUtilities;
+import javax.swing.Timer;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Consumer;
+import java.util.function.IntConsumer;
+import java.util.function.IntSupplier;
+
+/**
+ * Schedules AI turns on the Swing event dispatch thread using a
+ * single-shot {@link Timer}. This keeps the "thinking" delay of the AI
+ * visible to the user and guarantees that AI moves are applied on the same
+ * thread that the GUI reads the model from.
+ * The strategy itself runs on a background thread, so the window keeps
+ * repainting and answering input while a search AI thinks; only the chosen
+ * move is passed back to the event dispatch thread. Decisions run one at a
+ * time, so a strategy is never asked for two moves at once.
+ *
+ * @author Ahmad El-Jabi 101303269
+ * @author Atik Mahmud 101318070
+ * @author Aryan Singh 101299776
+ * @author Jonathan Gitej 101294584
+ *
+ * @version 4.0, December 05, 2025
+ */
+public class SwingAITurnScheduler implements AITurnScheduler {
+    // Shared by every game; a daemon thread so it never keeps the application alive
+    private static final ExecutorService DECISIONS = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "ai-decision");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private Timer aiTimer;            // the pending AI turn, if any
+    private Future<?> pendingDecision; // the decision being worked out, if any
+    private int generation;            // bumped by every cancel, so a late result is dropped
+
+    /**
+     * Starts a single-shot timer that runs the AI turn after the delay.
+     * A previously scheduled turn is stopped first.
+     *
+     * @param delayMilliseconds how long to wait before running the turn, in milliseconds
+     * @param turn the action that performs the AI's move
+     */
+    @Override
+    public void schedule(int delayMilliseconds, Runnable turn) {
+        cancel();
+        aiTimer = new Timer(delayMilliseconds, e -> turn.run());
+        aiTimer.setRepeats(false);
+        aiTimer.start();
+    }
+
+    /**
+     * Runs the decision on the background thread and applies its result on the
+     * event dispatch thread, unless the turn was cancelled in the meantime.
+     * A decision that throws is handed to the failure action on the event dispatch thread.
+     *
+     * @param decision the strategy call that returns the chosen card index, or 0 to draw
+     * @param apply the action that plays the chosen move
+     * @param failed the action that handles a decision that threw
+     */
+    @Override
+    public void decide(IntSupplier decision, IntConsumer apply, Consumer<RuntimeException> failed) {
+        cancelDecision();
+        int requested = generation;
+        pendingDecision = DECISIONS.submit(() -> {
+            int choice;
+            try {
+                choice = decision.getAsInt();
+            } catch (RuntimeException e) {
+                // A cancelled decision may fail because it was interrupted; only report current ones
+                SwingUtilities.invokeLater(() -> {
+                    if (generation == requested) {
+                        pendingDecision = null;
+                        failed.accept(e);
+                    }
+                });
+                return;
+            }
+            SwingUtilities.invokeLater(() -> {
+                if (generation == requested) {
+                    pendingDecision = null;
+                    apply.accept(choice);
+                }
+            });
+        });
+    }
+
+    /**
+     * Stops the pending timer and interrupts a decision in progress so an
+     * outdated AI turn never runs.
+     */
+    @Override
+    public void cancel() {
+        if (aiTimer != null && aiTimer.isRunning()) {
+            aiTimer.stop();
+        }
+        aiTimer = null;
+        cancelDecision();
+    }
+
+    /**
+     * Interrupts the decision in progress, if any, and makes sure its result is dropped.
+     */
+    private void cancelDecision() {
+        if (pendingDecision != null) {
+            pendingDecision.cancel(true);
+            pendingDecision = null;
+        }
+        generation++;
+    }
+}
@@ -0,0 +1,191 @@
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.Supplier;
+
+/**
+ * The Tournament class compares {@link AIStrategy} implementations by playing
+ * a large number of headless rounds across all available cores.
+ * The requested rounds are split into batches on a {@link ForkJoinPool}; each
+ * batch owns its own {@link HeadlessGameEngine} (and therefore its own
+ * {@link UNO_Model} and {@link Deck}) and its own strategy instances, and
+ * collects a private {@link TournamentResult}. The partial results are merged
+ * as the batches are joined, so games never share mutable state.
+ * Seats are rotated from one round to the next so that every lineup entry
+ * spends the same number of rounds in each seat. Every round is seeded from the
+ * tournament seed and its round number, so a tournament is replayed exactly
+ * no matter how its rounds are spread over the worker threads.
+ *
+ * @author Ahmad El-Jabi 101303269
+ * @author Atik Mahmud 101318070
+ * @author Aryan Singh 101299776
+ * @author Jonathan Gitej 101294584
+ *
+ * @version 4.0, December 05, 2025
+ */
+public class Tournament {
+    // Rounds played by one batch before it stops splitting
+    private static final int BATCH_SIZE = 256;
+
+    // Spreads consecutive round numbers over the seed space
+    private static final long SEED_STEP = 0x9E3779B97F4A7C15L;
+
+    private final List<Supplier<AIStrategy>> lineup;
+    private final long seed;
+
+    /**
+     * Creates a tournament for the given lineup.
+     * Each supplier must return a new strategy instance every time it is called,
+     * so that every batch plays with strategies of its own.
+     *
+     * @param lineup one strategy supplier per seat (2 – 4 seats)
+     */
+    public Tournament(List<Supplier<AIStrategy>> lineup) {
+        this(lineup, new SplittableRandom().nextLong());
+    }
+
+    /**
+     * Creates a tournament for the given lineup whose rounds are all derived from the given seed.
+     *
+     * @param lineup one strategy supplier per seat (2 – 4 seats)
+     * @param seed the tournament seed
+     */
+    public Tournament(List<Supplier<AIStrategy>> lineup, long seed) {
+        if (lineup.size() < 2 || lineup.size() > 4) {
+            throw new IllegalArgumentException("A tournament needs 2 to 4 seats");
+        }
+        this.lineup = new ArrayList<>(lineup);
+        this.seed = seed;
+    }
+
+    /**
+     * Returns the seed the tournament's rounds are derived from.
+     *
+     * @return the tournament seed
+     */
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * Plays the given number of rounds on the common fork/join pool.
+     *
+     * @param games the number of rounds to play
+     * @return the merged statistics of all rounds
+     */
+    public TournamentResult run(int games) {
+        return run(games, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Plays the given number of rounds on the given pool.
+     *
+     * @param games the number of rounds to play
+     * @param pool the pool whose workers play the rounds
+     * @return the merged statistics of all rounds
+     */
+    public TournamentResult run(int games, ForkJoinPool pool) {
+        return pool.invoke(new GameBatch(0, games));
+    }
+
+    /**
+     * Plays the rounds numbered from start (inclusive) to end (exclusive) on the calling thread.
+     *
+     * @param start the number of the first round
+     * @param end the number after the last round
+     * @return the statistics of these rounds
+     */
+    private TournamentResult playBatch(int start, int end) {
+        int seats = lineup.size();
+        List<AIStrategy> strategies = new ArrayList<>();
+        for (Supplier<AIStrategy> supplier : lineup) {
+            strategies.add(supplier.get());
+        }
+
+        HeadlessGameEngine engine = new HeadlessGameEngine(strategies, seed);
+        List<Player> players = engine.getModel().getPlayers();
+        TournamentResult result = new TournamentResult(seats);
+        int[] scoresBefore = new int[seats];
+
+        for (int game = start; game < end; game++) {
+            // Seat s is played by lineup entry (s + rotation) % seats
+            int rotation = game % seats;
+            for (int seat = 0; seat < seats; seat++) {
+                engine.setStrategy(seat, strategies.get((seat + rotation) % seats));
+                scoresBefore[seat] = players.get(seat).getScore();
+            }
+            engine.getModel().setSeed(seed + game * SEED_STEP);
+
+            Player winner = engine.playRound();
+            if (winner == null) {
+                result.recordGame(-1, 0, engine.getTurnsPlayed());
+            } else {
+                int seat = players.indexOf(winner);
+                int roundPoints = winner.getScore() - scoresBefore[seat];
+                result.recordGame((seat + rotation) % seats, roundPoints, engine.getTurnsPlayed());
+            }
+        }
+        return result;
+    }
+
+    /**
+     * A range of rounds that is split in half until it is small enough to play directly.
+     */
+    private class GameBatch extends RecursiveTask<TournamentResult> {
+        private final int start;
+        private final int end;
+
+        /**
+         * Creates a batch for the rounds from start (inclusive) to end (exclusive).
+         *
+         * @param start the number of the first round
+         * @param end the number after the last round
+         */
+        GameBatch(int start, int end) {
+            this.start = start;
+            this.end = end;
+        }
+
+        /**
+         * Plays the batch directly or forks it into two halves and merges their results.
+         *
+         * @return the statistics of the rounds in this batch
+         */
+        @Override
+        protected TournamentResult compute() {
+            if (end - start <= BATCH_SIZE) {
+                return playBatch(start, end);
+            }
+
+            int middle = (start + end) >>> 1;
+            GameBatch left = new GameBatch(start, middle);
+            GameBatch right = new GameBatch(middle, end);
+            left.fork();
+            TournamentResult result = right.compute();
+            return result.merge(left.join());
+        }
+    }
+
+    /**
+     * Runs a tournament between four basic AI players and prints the results.
+     *
+     * @param args optionally, the number of rounds to play (default 100000)
+     */
+    public static void main(String[] args) {
+        int games = args.length > 0 ? Integer.parseInt(args[0]) : 100000;
+
+        List<Supplier<AIStrategy>> lineup = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            lineup.add(() -> new BasicAIStrategy(0));
+        }
+
+        long start = System.nanoTime();
+        TournamentResult result = new Tournament(lineup).run(games);
+        double seconds = (System.nanoTime() - start) / 1e9;
+
+        System.out.print(result);
+        System.out.printf("Played in %.2f s (%.0f rounds/s)%n", seconds, games / seconds);
+    }
+}
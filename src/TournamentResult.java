@@ -0,0 +1,149 @@
+/**
+ * Holds the statistics collected by a {@link Tournament}: how many rounds each
+ * lineup entry won, the points it scored and how long the rounds lasted.
+ * Every worker fills its own result object and the partial results are
+ * combined with {@link #merge(TournamentResult)} once the workers finish,
+ * so no locking is needed while games are being played.
+ *
+ * @author Ahmad El-Jabi 101303269
+ * @author Atik Mahmud 101318070
+ * @author Aryan Singh 101299776
+ * @author Jonathan Gitej 101294584
+ *
+ * @version 4.0, December 05, 2025
+ */
+public class TournamentResult {
+    private final long[] wins;   // rounds won by each lineup entry
+    private final long[] points; // points scored by each lineup entry
+    private long games;          // rounds played
+    private long stalledGames;   // rounds abandoned without a winner
+    private long totalTurns;     // turns played over all rounds
+
+    /**
+     * Creates an empty result for a lineup of the given size.
+     *
+     * @param entries the number of entries in the lineup
+     */
+    public TournamentResult(int entries) {
+        this.wins = new long[entries];
+        this.points = new long[entries];
+    }
+
+    /**
+     * Records one finished round.
+     *
+     * @param winner the lineup entry that won, or -1 if the round stalled
+     * @param roundPoints the points the winner scored in this round
+     * @param turns how many turns the round lasted
+     */
+    public void recordGame(int winner, int roundPoints, int turns) {
+        games++;
+        totalTurns += turns;
+        if (winner < 0) {
+            stalledGames++;
+        } else {
+            wins[winner]++;
+            points[winner] += roundPoints;
+        }
+    }
+
+    /**
+     * Adds the statistics of another result to this one.
+     *
+     * @param other a result for the same lineup
+     * @return this result, for chaining
+     */
+    public TournamentResult merge(TournamentResult other) {
+        for (int i = 0; i < wins.length; i++) {
+            wins[i] += other.wins[i];
+            points[i] += other.points[i];
+        }
+        games += other.games;
+        stalledGames += other.stalledGames;
+        totalTurns += other.totalTurns;
+        return this;
+    }
+
+    /**
+     * Returns the number of lineup entries.
+     *
+     * @return the size of the lineup
+     */
+    public int getEntryCount() {
+        return wins.length;
+    }
+
+    /**
+     * Returns the number of rounds played.
+     *
+     * @return the total number of rounds
+     */
+    public long getGames() {
+        return games;
+    }
+
+    /**
+     * Returns the number of rounds that stalled before anyone won.
+     *
+     * @return the number of rounds without a winner
+     */
+    public long getStalledGames() {
+        return stalledGames;
+    }
+
+    /**
+     * Returns how many rounds a lineup entry won.
+     *
+     * @param entry the lineup entry
+     * @return the number of wins
+     */
+    public long getWins(int entry) {
+        return wins[entry];
+    }
+
+    /**
+     * Returns the fraction of all rounds won by a lineup entry.
+     *
+     * @param entry the lineup entry
+     * @return the win rate between 0 and 1
+     */
+    public double getWinRate(int entry) {
+        return games == 0 ? 0 : (double) wins[entry] / games;
+    }
+
+    /**
+     * Returns the average number of points a lineup entry scored per round played.
+     *
+     * @param entry the lineup entry
+     * @return the mean score per round
+     */
+    public double getMeanScore(int entry) {
+        return games == 0 ? 0 : (double) points[entry] / games;
+    }
+
+    /**
+     * Returns the average length of a round in turns.
+     *
+     * @return the mean round length
+     */
+    public double getMeanRoundLength() {
+        return games == 0 ? 0 : (double) totalTurns / games;
+    }
+
+    /**
+     * Returns a readable table with one line per lineup entry.
+     *
+     * @return the formatted results
+     */
+    @Override
+    public String toString() {
+        StringBuilder summary = new StringBuilder();
+        summary.append(String.format("%d rounds, %d stalled, mean length %.1f turns%n",
+                games, stalledGames, getMeanRoundLength()));
+        for (int i = 0; i < wins.length; i++) {
+            summary.append(String.format("  Entry %d: win rate %.4f, mean score %.2f%n",
+                    i + 1, getWinRate(i), getMeanScore(i)));
+        }
+        return summary.toString();
+    }
+}
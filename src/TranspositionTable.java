@@ -0,0 +1,128 @@
+import java.util.Arrays;
+
+/**
+ * The TranspositionTable class remembers AI evaluations of positions, keyed on
+ * the position's Zobrist hash (see {@link UNO_Model#getStateHash()}), so that a
+ * position reached again does not have to be searched again.
+ * Each entry holds the move chosen for the position and the weight of the
+ * evaluation behind it, such as the number of search iterations. The table has
+ * a fixed number of slots and never grows: a position goes into the slot picked
+ * by its hash, replacing what was there unless that is a heavier evaluation of
+ * the same position. The full 64-bit hash is stored to tell positions sharing a
+ * slot apart.
+ * A table is not safe for use by several threads at once.
+ *
+ * @author Ahmad El-Jabi 101303269
+ * @author Atik Mahmud 101318070
+ * @author Aryan Singh 101299776
+ * @author Jonathan Gitej 101294584
+ *
+ * @version 4.0, December 05, 2025
+ */
+public class TranspositionTable {
+    private final long[] keys;
+    private final int[] moves;
+    private final int[] weights; // 0 marks an empty slot
+    private final int mask;
+    private int size;
+
+    /**
+     * Creates an empty table.
+     *
+     * @param capacity the minimum number of slots, rounded up to a power of two
+     */
+    public TranspositionTable(int capacity) {
+        if (capacity < 1 || capacity > 1 << 30) {
+            throw new IllegalArgumentException("capacity must be between 1 and 2^30");
+        }
+        int slots = Integer.highestOneBit(capacity);
+        if (slots < capacity) {
+            slots <<= 1;
+        }
+        keys = new long[slots];
+        moves = new int[slots];
+        weights = new int[slots];
+        mask = slots - 1;
+    }
+
+    /**
+     * Returns the slot of a hash.
+     *
+     * @param hash the position's hash
+     * @return the slot index
+     */
+    private int slot(long hash) {
+        // The low bits of a Zobrist hash are as random as the high ones
+        return (int) hash & mask;
+    }
+
+    /**
+     * Stores an evaluation. An evaluation of zero weight is not stored.
+     *
+     * @param hash the position's hash
+     * @param move the move chosen for the position
+     * @param weight the effort behind the evaluation, such as the number of iterations
+     */
+    public void put(long hash, int move, int weight) {
+        if (weight <= 0) {
+            return;
+        }
+        int slot = slot(hash);
+        if (weights[slot] == 0) {
+            size++;
+        } else if (keys[slot] == hash && weights[slot] > weight) {
+            return; // keep the deeper evaluation
+        }
+        keys[slot] = hash;
+        moves[slot] = move;
+        weights[slot] = weight;
+    }
+
+    /**
+     * Returns the weight of the evaluation stored for a position.
+     *
+     * @param hash the position's hash
+     * @return the weight, or 0 if the position is not in the table
+     */
+    public int getWeight(long hash) {
+        int slot = slot(hash);
+        return keys[slot] == hash ? weights[slot] : 0;
+    }
+
+    /**
+     * Returns the move stored for a position; check {@link #getWeight(long)} first.
+     *
+     * @param hash the position's hash
+     * @return the move, or 0 if the position is not in the table
+     */
+    public int getMove(long hash) {
+        int slot = slot(hash);
+        return keys[slot] == hash && weights[slot] > 0 ? moves[slot] : 0;
+    }
+
+    /**
+     * Returns the number of slots in use.
+     *
+     * @return the number of stored evaluations
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the number of slots, the most evaluations the table can hold.
+     *
+     * @return the capacity
+     */
+    public int capacity() {
+        return keys.length;
+    }
+
+    /**
+     * Removes every evaluation.
+     */
+    public void clear() {
+        Arrays.fill(weights, 0);
+        size = 0;
+    }
+}
@@ -126,25 +126,7 @@ public class UNO_Controller implements ActionListener, Serializable {
     */
     public void handleWildColorSelection(CardColor chosenColor) {
         try {
-            if (!model.isWaitingForColorSelection()) {
-                return; // Not in color selection state
-            }
-
-            // Get the top card (which should be the wild card that was just played)
-            Card topCard = model.topCard();
-
-            if (topCard instanceof WildCard) {
-                WildCard wildCard = (WildCard) topCard;
-                wildCard.applyChosenColor(chosenColor, model.topCard().isLightSideActive);
-                model.completeColorSelection();
-
-            } else if (topCard instanceof WildDrawCard) {
-                WildDrawCard wildDrawCard = (WildDrawCard) topCard;
-                Player currentPlayer = model.getCurrentPlayer();
-                model.completeColorSelection();
-                wildDrawCard.executeDrawAction(chosenColor, model.topCard().isLightSideActive, model, currentPlayer);
-
-            }
+            model.applyWildColorSelection(chosenColor);
         } catch (Exception ex) {
             model.prepareEvent(GameEvent.EventType.MESSAGE, "Error playing card: " + ex.getMessage());
             model.notifyViews();
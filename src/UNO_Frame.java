@@ -3,6 +3,7 @@ import java.awt.*;
 import java.awt.Color;
 import java.awt.Toolkit;
 import java.util.ArrayList;
+import java.util.List;
 
 /**
  * The UNO_Frame class represents the main graphical user interface (GUI)
@@ -26,7 +27,7 @@ import java.util.ArrayList;
 public class
 UNO_Frame extends JFrame implements UNO_View{
     private JPanel mainPanel; //container that holds everything
-    private JPanel playerHandPanel; //bottom area showing the players cards
+    private HandPanel playerHandPanel; //bottom area showing the players cards
     private JPanel playAreaPanel; //middle area showing draw deck and top card
     private JPanel playerInfoPanel; //top area showing current player and direction
     private JLabel topCardLabel; //shows which card is on top of the play pile
@@ -43,6 +44,8 @@ UNO_Frame extends JFrame implements UNO_View{
     private JLabel scoreLabel; //shows player scores
 
     private UNO_Model model; //UNO game logic
+    private boolean deferStateUpdate; //true while the events of one action are being handled
+    private GameEvent pendingStateUpdate; //latest state update held back until they are all handled
     private UNO_Controller controller; //listens for buttons or card clicks, and updates the model
 
     /**
@@ -172,7 +175,6 @@ UNO_Frame extends JFrame implements UNO_View{
 
         // Initialize panels
         mainPanel = new JPanel(new BorderLayout());
-        playerHandPanel = new JPanel(new FlowLayout(FlowLayout.CENTER, 5, 5));
         playAreaPanel = new JPanel(new BorderLayout());
         playerInfoPanel = new JPanel(new FlowLayout(FlowLayout.CENTER, 20, 5));
         // Set preferred size to ensure enough height
@@ -190,6 +192,7 @@ UNO_Frame extends JFrame implements UNO_View{
         drawButton = new JButton("Draw Card");
         drawButton.setFont(new Font("Arial", Font.BOLD, 14));
         drawButton.setPreferredSize(new Dimension(120, 40));
+        playerHandPanel = new HandPanel(drawButton); //the draw button is shown before the cards
 
         nextPlayerButton =  new JButton("Next Player");
         nextPlayerButton.setFont(new Font("Arial", Font.BOLD, 14));
@@ -334,6 +337,31 @@ UNO_Frame extends JFrame implements UNO_View{
     }
 
 
+    /**
+     * Handles all the events combined into one model notification, in order.
+     * The hand and game state are redrawn once, after the last of them,
+     * rather than once for every event raised by the same action.
+     *
+     * @param event the (possibly combined) game event
+     */
+    private void processGameEvent(GameEvent event) {
+        List<GameEvent> events = event.getEvents();
+        deferStateUpdate = events.size() > 1;
+        try {
+            for (GameEvent e : events) {
+                processSingleEvent(e);
+            }
+        } finally {
+            deferStateUpdate = false;
+        }
+
+        if (pendingStateUpdate != null) {
+            GameEvent update = pendingStateUpdate;
+            pendingStateUpdate = null;
+            updateGameState(update);
+        }
+    }
+
     /**
      * This method acts as the central event handler and updates the GUI
      * based on the specific event type. It performs actions such as updating
@@ -342,7 +370,7 @@ UNO_Frame extends JFrame implements UNO_View{
      *
      * @param event the game event containing updated state information
      */
-    private void processGameEvent(GameEvent event) {
+    private void processSingleEvent(GameEvent event) {
         if (event.getCurrentPlayer().isPlayerAI() && !model.hasActedThisTurn()){
             drawButton.setEnabled(false);
             nextPlayerButton.setEnabled(false);
@@ -465,6 +493,11 @@ UNO_Frame extends JFrame implements UNO_View{
      * @param event the event containing updated game state details
      */
     private void updateGameState(GameEvent event) {
+        if (deferStateUpdate) {
+            pendingStateUpdate = event; // redrawn once all events of the action are handled
+            return;
+        }
+
         Player currentPlayer = event.getCurrentPlayer();
         if (currentPlayer != null) {
             displayPlayerHand(currentPlayer);
@@ -512,36 +545,8 @@ UNO_Frame extends JFrame implements UNO_View{
      * @param player the Player whose hand is currently being displayed
      */
     public void displayPlayerHand(Player player){
-        playerHandPanel.removeAll(); //clears the bottom panel, basically clears old hand from the screen
-        playerHandPanel.add(drawButton, BorderLayout.NORTH); //so the player can draw a card if they cant play
-
-        ArrayList<Card> hand = player.getHand();
-        for (int i = 0; i < hand.size(); i++) { //for each card in the current players hand
-            Card card = hand.get(i);
-
-            //create a visual component (cardComponent) for each card
-            CardComponent cardComp = new CardComponent(card, i + 1, controller);
-
-            // Highlight playable cards
-            boolean playable = model.isPlayable(card);
-            cardComp.setPlayable(playable);
-            if(player.isPlayerAI()){
-                cardComp.getUseButton().setEnabled(false);
-            }
-            else {
-                cardComp.getUseButton().setEnabled(playable);
-            }
-
-            if (!playable){
-                cardComp.getUseButton().setForeground(Color.GRAY);
-            }
-
-            playerHandPanel.add(cardComp);
-        }
-
-        //rebuild and repaint the hand area so the new cards actually show
-        playerHandPanel.revalidate();
-        playerHandPanel.repaint();
+        // Only the cards that changed since the last update are added, removed or re-flagged
+        playerHandPanel.showHand(player, model, controller);
     }
 
     /**
@@ -586,7 +591,7 @@ UNO_Frame extends JFrame implements UNO_View{
         Player currentPlayer = event.getCurrentPlayer();
 
         if (topCard instanceof WildCard || topCard instanceof WildDrawCard) {
-            boolean isLightSide = topCard.isLightSideActive;
+            boolean isLightSide = topCard.getActiveSide();
 
             String[] colors;
             if (isLightSide) {
@@ -810,13 +815,7 @@ UNO_Frame extends JFrame implements UNO_View{
      * @param enabled ture to enable all "use" buttons, false to disable them
      */
     public void setHandEnabled(boolean enabled){
-        Component[] components = playerHandPanel.getComponents();
-        for (Component component : components) {
-            if (component instanceof CardComponent) {
-                CardComponent cardComponent = (CardComponent) component;
-                cardComponent.getUseButton().setEnabled(enabled);
-            }
-        }
+        playerHandPanel.setHandEnabled(enabled); // also covers cards scrolled into view later
     }
 
     /**
@@ -927,20 +926,16 @@ UNO_Frame extends JFrame implements UNO_View{
      * @param cardIndex the index of the card to highlight (0-based)
      */
     private void highlightSelectedCard(int cardIndex) {
-        Component[] components = playerHandPanel.getComponents();
-        if (cardIndex > 0 && cardIndex < components.length) {
-            Component comp = components[cardIndex + 1];
-            if (comp instanceof CardComponent) {
-                CardComponent cardComp = (CardComponent) comp;
-                cardComp.setBorder(BorderFactory.createLineBorder(Color.YELLOW, 4));
-
-                // Reset border after delay
-                Timer timer = new Timer(1000, e -> {
-                    cardComp.setPlayable(cardComp.isPlayable()); // Reset to normal border
-                });
-                timer.setRepeats(false);
-                timer.start();
-            }
+        CardComponent cardComp = playerHandPanel.getCardComponentAt(cardIndex); // null if scrolled out of view
+        if (cardComp != null) {
+            cardComp.setBorder(BorderFactory.createLineBorder(Color.YELLOW, 4));
+
+            // Reset border after delay
+            Timer timer = new Timer(1000, e -> {
+                cardComp.setPlayable(cardComp.isPlayable()); // Reset to normal border
+            });
+            timer.setRepeats(false);
+            timer.start();
         }
     }
 
@@ -955,11 +950,13 @@ UNO_Frame extends JFrame implements UNO_View{
     /**
      * The main entry point for the UNO Flip! game application.
      * Launches the game window and initializes the game by creating
-     * a new {@link UNO_Frame} instance.
+     * a new {@link UNO_Frame} instance. The card images start decoding in the
+     * background first, so they are ready once the setup dialogs are answered.
      *
      * @param args command-line arguments (not used)
      */
     public static void main(String[] args) {
+        CardImageCache.getShared().preload();
         UNO_Frame frame = new UNO_Frame(); //to create the game
     }
 
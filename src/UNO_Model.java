@@ -1,6 +1,8 @@
 import java.io.*;
 import java.util.*;
-import javax.swing.Timer;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.random.RandomGenerator;
 
 /**
  * The UNO_Game class manages the core logic, rules, and state transitions
@@ -21,6 +23,7 @@ import javax.swing.Timer;
 public class UNO_Model implements Serializable {
 
     private static final long serialVersionUID = 1L;
+    public static final int DRAW_MOVE = 0; // the legal move that draws a card instead of playing one
     private ArrayList<Player> players; //a list of all players
     private int numPlayers; //how many players there are
 
@@ -51,15 +54,28 @@ public class UNO_Model implements Serializable {
     private boolean shouldEnableDrawButton;
     private Card lastPlayedCard;
 
-    // Undo Stack
-    private Stack<StateSnapShot> undoStack;
-    private Stack<StateSnapShot> redoStack;
+    // Undo/redo history, recorded as reversible commands
+    private UndoHistory history;
 
     private boolean restoringState = false;
-    // Track any pending AI timer so it can be cancelled during undo/redo
-    private transient Timer aiTimer;
+    // Runs pending AI turns so they can be cancelled during undo/redo
+    private transient AITurnScheduler aiScheduler;
+    // true when turns are driven directly (no timers, no undo history)
+    private boolean headless;
+    // Seed of the current game and the generator derived from it (shuffles and AI decisions)
+    private long seed;
+    private transient SplittableRandom random;
+    // Active side of every card dealt in this game; a FLIP only toggles this
+    private GameSide gameSide;
+    // Public information of the round (seen cards, penalty draws), shared by the AI players
+    private CardTracker cardTracker;
+    // Zobrist hash of the position, updated move by move (see ZobristHash)
+    private long stateHash;
     // GUI views that will display changes in the model
     private transient List<UNO_View> views;
+    // Nesting depth of the current event batch and the events gathered in it
+    private transient int batchDepth;
+    private transient ArrayList<GameEvent> batchedEvents;
 
 
     /**
@@ -71,10 +87,26 @@ public class UNO_Model implements Serializable {
      * @param playerNames a list of player names in turn order
      */
     public UNO_Model(int numPlayers, ArrayList<String> playerNames, ArrayList<Boolean> playerIsAI) {
+        this(numPlayers, playerNames, playerIsAI, new SplittableRandom().nextLong());
+    }
+
+    /**
+     * Creates a new UNO Flip! game instance whose shuffles and AI decisions are all
+     * derived from the given seed, so that the same seed replays the same game.
+     *
+     * @param numPlayers the number of players (2 – 4)
+     * @param playerNames a list of player names in turn order
+     * @param seed the seed for the game's random generator
+     */
+    public UNO_Model(int numPlayers, ArrayList<String> playerNames, ArrayList<Boolean> playerIsAI, long seed) {
         this.players = new ArrayList<>();
         this.numPlayers = numPlayers;
-        this.playDeck = new Deck(); //a new shuffled deck
+        this.seed = seed;
+        this.random = new SplittableRandom(seed);
+        this.gameSide = new GameSide();
+        this.playDeck = new Deck(random, gameSide); //a new shuffled deck
         this.playPile = new Stack<>(); //empty pile
+        this.cardTracker = new CardTracker(numPlayers);
         this.direction = Direction.CLOCKWISE;
         this.gameOver = false;
         this.roundOver = false;
@@ -89,6 +121,7 @@ public class UNO_Model implements Serializable {
         for (int i = 0; i < numPlayers; i++) {
             players.add(new Player(playerNames.get(i), playerIsAI.get(i), new BasicAIStrategy(750)));
         }
+        seedStrategies();
 
         // Initialize new event tracking fields
         this.lastEventType = GameEvent.EventType.GAME_STATE_CHANGED;
@@ -97,259 +130,266 @@ public class UNO_Model implements Serializable {
         this.shouldEnableDrawButton = false;
         this.lastPlayedCard = null;
 
-        //initialize stacks
-        undoStack = new Stack<>();
-        redoStack = new Stack<>();
+        //initialize undo history
+        history = new UndoHistory();
+        rehash();
     }
 
     /**
-     * Captures the current game state and pushes it onto the undo stack.
-     * This snapshot is taken before any irreversible action (play, draw, turn change).
+     * Creates a view-less copy of a game for {@link #fork(long)}.
+     *
+     * @param original the game to copy
+     * @param seed the seed of the copy's generator
      */
-    public void addUndoSnapShot() {
-        undoStack.push(captureState());
+    private UNO_Model(UNO_Model original, long seed) {
+        this.numPlayers = original.numPlayers;
+        this.seed = seed;
+        this.random = new SplittableRandom(seed);
+        this.gameSide = new GameSide();
+        this.gameSide.setLightSide(original.gameSide.isLightSide());
+
+        // Every card follows its game's side, so the copy needs its own cards; IDs map originals to copies
+        Card[] copies = new Card[CardIds.CARD_COUNT];
+        ArrayList<Card> deckCards = new ArrayList<>(CardIds.CARD_COUNT);
+        for (Card card : original.playDeck.getDeck()) {
+            deckCards.add(copyCard(card, copies));
+        }
+        this.playDeck = new Deck(deckCards, random, gameSide);
+        this.playPile = new Stack<>();
+        this.playPile.ensureCapacity(CardIds.CARD_COUNT);
+        for (Card card : original.playPile) {
+            playPile.push(copyCard(card, copies));
+        }
+        this.players = new ArrayList<>(numPlayers);
+        ArrayList<Card> hand = new ArrayList<>(CardIds.CARD_COUNT);
+        for (Player player : original.players) {
+            hand.clear();
+            for (Card card : player.getHand()) {
+                hand.add(copyCard(card, copies));
+            }
+            players.add(player.copyWithHand(hand));
+        }
+
+        this.direction = original.direction;
+        this.gameOver = original.gameOver;
+        this.gameWinningPlayer = copyPlayer(original, original.gameWinningPlayer);
+        this.roundOver = original.roundOver;
+        this.roundWinningPlayer = copyPlayer(original, original.roundWinningPlayer);
+        this.currentPlayerIndex = original.currentPlayerIndex;
+        this.skipCount = original.skipCount;
+        this.waitingForColorSelection = original.waitingForColorSelection;
+        this.wildColorChoice = original.wildColorChoice;
+        this.hasActedThisTurn = original.hasActedThisTurn;
+        this.lastEventType = original.lastEventType;
+        this.statusMessage = original.statusMessage;
+        this.shouldEnableNextPlayer = original.shouldEnableNextPlayer;
+        this.shouldEnableDrawButton = original.shouldEnableDrawButton;
+        Card lastPlayed = original.lastPlayedCard;
+        this.lastPlayedCard = lastPlayed == null || lastPlayed.getId() < 0 ? lastPlayed : copies[lastPlayed.getId()];
+
+        this.cardTracker = new CardTracker(original.getCardTracker());
+        this.stateHash = original.stateHash;
+        this.history = new UndoHistory();
+        this.headless = true;
+        this.views = new ArrayList<>(0);
     }
 
     /**
-     * Creates a full snapshot of the current game state, including players,
-     * hands, deck, play pile, active side, turn index, and event flags.
+     * Returns the copy of a card for a forked game, copying it on first use.
      *
-     * @return a {@link StateSnapShot} representing the current model state
+     * @param card the original card
+     * @param copies the copies made so far, by card ID
+     * @return the copy
      */
-    private StateSnapShot captureState() {
-        return new StateSnapShot(
-                createNewGameEvent(),
-                currentPlayerIndex,
-                players,
-                playDeck,
-                playPile,
-                direction,
-                skipCount,
-                hasActedThisTurn,
-                wildColorChoice,
-                waitingForColorSelection
-        );
+    private Card copyCard(Card card, Card[] copies) {
+        int id = card.getId();
+        if (id < 0) {
+            return card.copyFor(gameSide); // a card not dealt from a deck appears only once
+        }
+        if (copies[id] == null) {
+            copies[id] = card.copyFor(gameSide);
+        }
+        return copies[id];
     }
 
     /**
-     * Restores the previous game state from the undo stack.
-     * The current state is pushed onto the redo stack before restoring.
-     * If no snapshot exists, the method does nothing.
+     * Returns the copy of one of the original game's players in a forked game.
+     *
+     * @param original the original game
+     * @param player a player of the original game, or null
+     * @return the player in the same seat of this game, or null
      */
-    public void undo() {
-        if (undoStack.isEmpty()) return;
-
-        restoringState = true;
-        cancelPendingAITurn();
-
-        // Save current state to redo stack
-        redoStack.push(captureState());
-
-        // Restore previous state
-        StateSnapShot snap = undoStack.pop();
-        restoreState(snap);
-        restoringState = false;
-
-        notifyViews();
+    private Player copyPlayer(UNO_Model original, Player player) {
+        return player == null ? null : players.get(original.players.indexOf(player));
     }
 
     /**
-     * Reapplies a previously undone action by restoring a state from the redo stack.
-     * The current state is saved to the undo stack.
-     * If no redo snapshot exists, the method does nothing.
+     * Returns an independent copy of the game in its current position, for AI
+     * search and what-if analysis. The copy has its own cards, hands, piles and
+     * card tracker, so playing it never changes this game, and this game's
+     * generator is left untouched. It has no views, no undo history and no AI
+     * scheduler: it runs headless, driven by {@link #performAITurn()},
+     * {@link #playCard(int)}, {@link #drawCard()} and {@link #moveToNextPlayer()}.
+     * The players of the copy share their {@link AIStrategy} objects with this game.
+     *
+     * @param seed the seed of the copy's generator, used for its reshuffles
+     * @return the copy
      */
-    public void redo() {
-        if (redoStack.isEmpty()) return;
-
-        restoringState = true;
-        cancelPendingAITurn();
-        // Save current state to undo stack
-        undoStack.push(captureState());
+    public UNO_Model fork(long seed) {
+        return new UNO_Model(this, seed);
+    }
 
-        // Restore next state
-        StateSnapShot snap = redoStack.pop();
-        restoreState(snap);
-        restoringState = false;
+    /**
+     * Returns an independent copy of the game (see {@link #fork(long)}) whose
+     * generator is seeded from this game's seed and position, so forking the same
+     * position twice gives two copies that play out the same way.
+     *
+     * @return the copy
+     */
+    public UNO_Model fork() {
+        return fork(seed ^ stateHash);
+    }
 
-        notifyViews();
+    /**
+     * Starts a new undo step at the current state.
+     * This is called before any action the player may want to take back (play, draw, turn change);
+     * the changes made afterwards are recorded into the step as {@link GameCommand}s.
+     */
+    public void addUndoSnapShot() {
+        if (headless) return;
+        history.beginStep(packTurnState());
     }
 
     /**
-     * Restores the model to a previously saved snapshot.
-     * Reconstructs players, decks, piles, active side, direction,
-     * turn index, and event control flags.
+     * Returns whether changes to the cards are being recorded for undo.
+     * Nothing is recorded in headless mode or while a step is being undone or redone.
      *
-     * @param snap the snapshot to restore
+     * @return true if changes should be recorded
      */
-    private void restoreState(StateSnapShot snap) {
-        // Restore all game state from snapshot
-        cancelPendingAITurn();
+    private boolean isRecording() {
+        return !headless && !restoringState;
+    }
 
+    /**
+     * Packs the turn-flow state (turn, skips, direction, side, wild color, round status
+     * and button flags) into a single long, so that an undo step stores it in 8 bytes.
+     *
+     * @return the packed state
+     */
+    private long packTurnState() {
+        long state = currentPlayerIndex
+                | (long) skipCount << 8
+                | (long) (wildColorChoice == null ? 0 : wildColorChoice.ordinal() + 1) << 16
+                | (long) lastEventType.ordinal() << 24
+                | (long) (players.indexOf(roundWinningPlayer) + 1) << 32
+                | (long) (players.indexOf(gameWinningPlayer) + 1) << 36;
+        if (direction == Direction.COUNTERCLOCKWISE) state |= 1L << 40;
+        if (hasActedThisTurn) state |= 1L << 41;
+        if (waitingForColorSelection) state |= 1L << 42;
+        if (gameSide.isLightSide()) state |= 1L << 43;
+        if (roundOver) state |= 1L << 44;
+        if (gameOver) state |= 1L << 45;
+        if (shouldEnableNextPlayer) state |= 1L << 46;
+        if (shouldEnableDrawButton) state |= 1L << 47;
+        return state;
+    }
 
-        // Boolean to set the correct light/dark side of cards
-        boolean shouldBeLightSide = snap.getIsLightSide();
+    /**
+     * Restores the turn-flow state packed by {@link #packTurnState()}.
+     *
+     * @param state the packed state
+     */
+    private void unpackTurnState(long state) {
+        currentPlayerIndex = (int) (state & 0xFF);
+        skipCount = (int) (state >>> 8 & 0xFF);
+        int wildColor = (int) (state >>> 16 & 0xFF);
+        wildColorChoice = wildColor == 0 ? null : CardColor.values()[wildColor - 1];
+        lastEventType = GameEvent.EventType.values()[(int) (state >>> 24 & 0xFF)];
+        int roundWinner = (int) (state >>> 32 & 0xF);
+        roundWinningPlayer = roundWinner == 0 ? null : players.get(roundWinner - 1);
+        int gameWinner = (int) (state >>> 36 & 0xF);
+        gameWinningPlayer = gameWinner == 0 ? null : players.get(gameWinner - 1);
+        direction = (state & 1L << 40) != 0 ? Direction.COUNTERCLOCKWISE : Direction.CLOCKWISE;
+        hasActedThisTurn = (state & 1L << 41) != 0;
+        waitingForColorSelection = (state & 1L << 42) != 0;
+        gameSide.setLightSide((state & 1L << 43) != 0);
+        roundOver = (state & 1L << 44) != 0;
+        gameOver = (state & 1L << 45) != 0;
+        shouldEnableNextPlayer = (state & 1L << 46) != 0;
+        shouldEnableDrawButton = (state & 1L << 47) != 0;
+    }
 
-        // Restore players (including hads and scores)
-        this.players = new ArrayList<>();
-        for (Player snapPlayer : snap.getPlayersState()) {
-            Player newPlayer = new Player(snapPlayer.getName(), snapPlayer.isPlayerAI(), snapPlayer.getAIStrategy());
-            newPlayer.addScore(snapPlayer.getScore());
-            for (Card c : snapPlayer.getHand()) {
-                newPlayer.drawCardToHand(c);
-            }
+    /**
+     * Reverts the most recent undo step: its recorded commands are undone in reverse
+     * order and the turn-flow state from the start of the step is restored.
+     * The step moves to the redo history. If there is nothing to undo, the method does nothing.
+     */
+    public void undo() {
+        beginEventBatch();
+        try {
+            if (!history.canUndo()) return;
 
-            // Ensure correct side of cards in each player's hand
-            for (Card card : snapPlayer.getHand()) {
-                if (card.getActiveSide() != shouldBeLightSide) {
-                    card.setActiveSide(shouldBeLightSide);
-                }
+            restoringState = true;
+            cancelPendingAITurn();
 
-                // Reset Wild cards in hand to original WILD color
-                if ((card instanceof WildCard || card instanceof WildDrawCard) &&
-                        card.getColor() != CardColor.WILD) {
-                    // Reset to original WILD color for cards in hand
-                    if (shouldBeLightSide) {
-                        if (card instanceof WildCard) {
-                            card.lightColor = CardColor.WILD;
-                            card.darkColor = CardColor.WILD;
-                        } else if (card instanceof WildDrawCard) {
-                            card.lightColor = CardColor.WILD;
-                            card.darkColor = CardColor.WILD;
-                        }
-                    } else {
-                        if (card instanceof WildCard) {
-                            card.darkColor = CardColor.WILD;
-                            card.lightColor = CardColor.WILD;
-                        } else if (card instanceof WildDrawCard) {
-                            card.darkColor = CardColor.WILD;
-                            card.lightColor = CardColor.WILD;
-                        }
-                    }
-                }
-            }
+            // Revert the step and keep the current turn state for redo
+            unpackTurnState(history.undo(this, packTurnState()));
+            rehash();
+            restoreEventState();
+            restoringState = false;
 
-            this.players.add(newPlayer);
+            notifyViews();
+        } finally {
+            endEventBatch();
         }
+    }
 
-        // Restore deck
-        this.playDeck = new Deck();
-
-        // Clears the initialised deck
-        this.playDeck.getDeck().clear();
-
-        for (Card c : snap.getPlayDeckState().getDeck()) {
-            this.playDeck.addCard(c);
-
-            if (c.getActiveSide() != shouldBeLightSide) {
-                c.setActiveSide(shouldBeLightSide);
-            }
-        }
+    /**
+     * Reapplies the most recently undone step by replaying its commands and restoring
+     * the turn-flow state from when it was undone.
+     * If no step was undone, the method does nothing.
+     */
+    public void redo() {
+        beginEventBatch();
+        try {
+            if (!history.canRedo()) return;
 
-        // Restore play pile
-        this.playPile = new Stack<>();
-        Card topCardInPlayPile = null;
-        if (!snap.getPlayPileState().isEmpty()) {
-            topCardInPlayPile = snap.getPlayPileState().peek();
-        }
-
-        for (Card c : snap.getPlayPileState()) {
-            // Apply the wild color choice from the snapshot to wild cards in the play pile
-            CardColor savedWildColor = snap.getWildColorChoice();
-            boolean isTopCard = (c == topCardInPlayPile);
-
-            if ((c instanceof WildCard || c instanceof WildDrawCard) && savedWildColor != null) {
-                // Apply the chosen color to wild cards (only if they have a chosen color)
-                if (savedWildColor != CardColor.WILD) {
-                    if (c instanceof WildCard) {
-                        ((WildCard) c).applyChosenColor(savedWildColor, shouldBeLightSide);
-                    } else if (c instanceof WildDrawCard) {
-                        WildDrawCard wildDraw = (WildDrawCard) c;
-                        // Apply the color based on which side is active
-                        if (shouldBeLightSide) {
-                            wildDraw.lightColor = savedWildColor;
-                            wildDraw.darkColor = savedWildColor.getDarkCounterpart();
-                        } else {
-                            wildDraw.darkColor = savedWildColor;
-                            wildDraw.lightColor = savedWildColor.getLightCounterpart();
-                        }
-                    }
-                } else if (isTopCard) {
-                    // If it's the top card and color is WILD, ensure it's properly reset
-                    if (shouldBeLightSide) {
-                        c.lightColor = CardColor.WILD;
-                        c.darkColor = CardColor.WILD;
-                    } else {
-                        c.darkColor = CardColor.WILD;
-                        c.lightColor = CardColor.WILD;
-                    }
-                }
-            }
+            restoringState = true;
+            cancelPendingAITurn();
 
-            this.playPile.push(c);
+            // Replay the step
+            unpackTurnState(history.redo(this));
+            rehash();
+            restoreEventState();
+            restoringState = false;
 
-            if (c.getActiveSide() != shouldBeLightSide) {
-                c.setActiveSide(shouldBeLightSide);
-            }
+            notifyViews();
+        } finally {
+            endEventBatch();
         }
+    }
 
+    /**
+     * Sets up the event and button state shown after an undo or redo, based on the restored turn state.
+     */
+    private void restoreEventState() {
+        statusMessage = "State restored";
+        lastPlayedCard = null;
 
-        // Restore other state variables
-        this.currentPlayerIndex = snap.getCurrentPlayerIndex();
-        this.direction = snap.getDirection();
-        this.skipCount = snap.getSkipCount();
-        this.hasActedThisTurn = snap.getHasActedThisTurn();
-        this.wildColorChoice = snap.getWildColorChoice();
-        this.waitingForColorSelection = snap.getWaitingForColorSelection();
-
-        // Update event state from the saved event
-        GameEvent savedEvent = snap.getPreviousHand();
-        this.lastEventType = savedEvent.getType();
-        this.lastPlayedCard = savedEvent.getCard();
-        this.statusMessage = "State restored";
-        this.gameWinningPlayer = savedEvent.getWinningPlayer();
-        this.shouldEnableNextPlayer = savedEvent.isEnableNextPlayer();
-        this.shouldEnableDrawButton = savedEvent.isEnableDrawButton();
-
-        // CRITICAL FIX: Handle color selection state correctly
-        if (this.waitingForColorSelection) {
-            // If we're waiting for color selection, disable buttons
-            this.shouldEnableNextPlayer = false;
-            this.shouldEnableDrawButton = false;
-
-            // Set event type to trigger color selection dialog
-            this.lastEventType = GameEvent.EventType.COLOR_SELECTION_NEEDED;
-            this.statusMessage = "Select a color for the wild card";
-        } else if (this.wildColorChoice != null && this.wildColorChoice != CardColor.WILD) {
-            // If a color was already chosen, update the top card's color WITHOUT prompting
-            Card topCard = topCard();
-            if (topCard instanceof WildCard || topCard instanceof WildDrawCard) {
-                // Apply the color to the top card
-                if (topCard instanceof WildCard) {
-                    ((WildCard) topCard).applyChosenColor(this.wildColorChoice, topCard.isLightSideActive);
-                } else if (topCard instanceof WildDrawCard) {
-                    WildDrawCard wildDraw = (WildDrawCard) topCard;
-                    if (topCard.isLightSideActive) {
-                        wildDraw.lightColor = this.wildColorChoice;
-                        wildDraw.darkColor = this.wildColorChoice.getDarkCounterpart();
-                    } else {
-                        wildDraw.darkColor = this.wildColorChoice;
-                        wildDraw.lightColor = this.wildColorChoice.getLightCounterpart();
-                    }
-                }
-            }
-
-            // Set appropriate event type (not COLOR_SELECTION_NEEDED since color already chosen)
-            if (this.lastEventType == GameEvent.EventType.COLOR_SELECTION_NEEDED) {
-                // Change to a different event type to avoid color selection prompt
-                this.lastEventType = GameEvent.EventType.GAME_STATE_CHANGED;
-                this.statusMessage = "Wild card color restored: " + this.wildColorChoice;
+        if (waitingForColorSelection) {
+            // If we're waiting for color selection, disable buttons and prompt again
+            shouldEnableNextPlayer = false;
+            shouldEnableDrawButton = false;
+            lastEventType = GameEvent.EventType.COLOR_SELECTION_NEEDED;
+            statusMessage = "Select a color for the wild card";
+        } else if (lastEventType == GameEvent.EventType.COLOR_SELECTION_NEEDED) {
+            // The color was already chosen, so do not prompt for it again
+            lastEventType = GameEvent.EventType.GAME_STATE_CHANGED;
+            if (wildColorChoice != null && wildColorChoice != CardColor.WILD) {
+                statusMessage = "Wild card color restored: " + wildColorChoice;
             }
         }
 
-
-        // Reshuffle deck so player who wants to redraw card gets different on
-        reshuffleDrawingDeck();
-
         // If the restored state is after the player acted, mirror the post-play UI state
         if (hasActedThisTurn && !waitingForColorSelection) {
             lastEventType = GameEvent.EventType.CARD_PLAYED;
@@ -366,15 +406,16 @@ public class UNO_Model implements Serializable {
                 shouldEnableNextPlayer = true;
             }
         }
-
-        // Notify views
-        notifyViews();
-
-        if (!restoringState && getCurrentPlayer().isPlayerAI() && !isGameOver() && !isRoundOver()) {
-            executeAITurn();
-        }
     }
 
+    /**
+     * Returns the undo/redo history of this game.
+     *
+     * @return the {@link UndoHistory}
+     */
+    UndoHistory getUndoHistory() {
+        return history;
+    }
 
     /**
      * Returns the list of registered {@link UNO_View} observers.
@@ -427,7 +468,31 @@ public class UNO_Model implements Serializable {
      * unless the event type is MESSAGE.
      */
     protected void notifyViews() {
+        if (isObserved()) {
+            dispatchEvent();
+        }
 
+        if(!restoringState && lastEventType != GameEvent.EventType.MESSAGE){
+            // Reset temporary state if not a message notification
+            resetEventState();
+        }
+    }
+
+    /**
+     * Returns whether any view is registered. Status messages are only read by
+     * views, so the model and the cards build them only when this is true, and
+     * a game without views (such as a headless simulation) allocates no strings.
+     *
+     * @return true if at least one view receives events
+     */
+    private boolean isObserved() {
+        return views != null && !views.isEmpty();
+    }
+
+    /**
+     * Builds a {@link GameEvent} from the pending event state and sends it to every view.
+     */
+    private void dispatchEvent() {
         GameEvent event = new GameEvent(
                 lastEventType,
                 getCurrentPlayer(),        // currentPlayer
@@ -440,13 +505,43 @@ public class UNO_Model implements Serializable {
                 wildColorChoice            // choice of color for wild card (automatic cases like AI)
         );
 
+        if (batchDepth > 0) {
+            if (batchedEvents == null) {
+                batchedEvents = new ArrayList<>();
+            }
+            batchedEvents.add(event);
+            return;
+        }
+
         for (UNO_View view : views) {
             view.handleGameEvent(event);
         }
+    }
 
-        if(!restoringState && lastEventType != GameEvent.EventType.MESSAGE){
-            // Reset temporary state if not a message notification
-            resetEventState();
+    /**
+     * Starts gathering the notifications of one user or AI action so that the views
+     * receive them as a single {@link GameEvent}. Batches may be nested; the views are
+     * notified when the outermost batch ends.
+     */
+    public void beginEventBatch() {
+        batchDepth++;
+    }
+
+    /**
+     * Ends a batch started by {@link #beginEventBatch()}. When the outermost batch ends,
+     * every notification made during it is sent to the views as one combined event.
+     */
+    public void endEventBatch() {
+        if (batchDepth == 0 || --batchDepth > 0 || batchedEvents == null || batchedEvents.isEmpty()) {
+            return;
+        }
+
+        GameEvent event = GameEvent.combine(batchedEvents);
+        batchedEvents.clear();
+        if (views != null) {
+            for (UNO_View view : views) {
+                view.handleGameEvent(event);
+            }
         }
     }
 
@@ -469,6 +564,46 @@ public class UNO_Model implements Serializable {
         this.statusMessage = message;
     }
 
+    /**
+     * Sets up event for a specific type and a message that is only built if a view will read it.
+     * The message is built from its subject by a lambda that captures nothing, so an
+     * unobserved game allocates neither the message nor the lambda.
+     *
+     * @param type the event type
+     * @param message builds the message from the subject
+     * @param subject what the message is about
+     * @param <T> the type of the subject
+     */
+    protected <T> void prepareEvent(GameEvent.EventType type, Function<T, String> message, T subject) {
+        prepareEvent(type, observedMessage(message, subject));
+    }
+
+    /**
+     * Sets up event for a specific type and a message about two subjects that is only built if a view will read it.
+     *
+     * @param type the event type
+     * @param message builds the message from the subjects
+     * @param first the first subject
+     * @param second the second subject
+     * @param <T> the type of the first subject
+     * @param <U> the type of the second subject
+     */
+    protected <T, U> void prepareEvent(GameEvent.EventType type, BiFunction<T, U, String> message, T first, U second) {
+        prepareEvent(type, isObserved() ? message.apply(first, second) : null);
+    }
+
+    /**
+     * Builds a status message if any view is registered.
+     *
+     * @param message builds the message from the subject
+     * @param subject what the message is about
+     * @param <T> the type of the subject
+     * @return the message, or null if nobody would read it
+     */
+    private <T> String observedMessage(Function<T, String> message, T subject) {
+        return isObserved() ? message.apply(subject) : null;
+    }
+
     /**
      * Only updates the game's message box for communication
      */
@@ -484,33 +619,38 @@ public class UNO_Model implements Serializable {
      * Called by the controller at the start of each round.
      */
     public void startNewRound() {
-        cancelPendingAITurn();
+        beginEventBatch();
+        try {
+            cancelPendingAITurn();
 
-        // Reset undo/redo history for the new round
-        undoStack.clear();
-        redoStack.clear();
-
-        resetDecks();
-        distributeCards();
-        currentPlayerIndex = 0;
-        gameOver = false; //since we are doing a new round, whole game not done yet
-        roundOver = false; //round just got activated
-        roundWinningPlayer = null; //no winners yet
-        skipCount = 0;
-        direction = Direction.CLOCKWISE; // reset to the default rotation direction
-        hasActedThisTurn = false;
-
-        // Update the game state
-        prepareEvent(GameEvent.EventType.GAME_STATE_CHANGED, "New round started!");
-        shouldEnableDrawButton = !hasPlayableHand(getCurrentPlayer());
-        // Capture the initial state so undo can return to round start
-        addUndoSnapShot();
-        notifyViews();
+            // Reset undo/redo history for the new round
+            history.clear();
+
+            resetDecks();
+            distributeCards();
+            currentPlayerIndex = 0;
+            gameOver = false; //since we are doing a new round, whole game not done yet
+            roundOver = false; //round just got activated
+            roundWinningPlayer = null; //no winners yet
+            skipCount = 0;
+            direction = Direction.CLOCKWISE; // reset to the default rotation direction
+            hasActedThisTurn = false;
+            rehash();
 
-        // Start AI turn if first player is AI
-        Player firstPlayer = getCurrentPlayer();
-        if (firstPlayer.isPlayerAI()) {
-            executeAITurn();
+            // Update the game state
+            prepareEvent(GameEvent.EventType.GAME_STATE_CHANGED, "New round started!");
+            shouldEnableDrawButton = !hasPlayableHand(getCurrentPlayer());
+            // Capture the initial state so undo can return to round start
+            addUndoSnapShot();
+            notifyViews();
+
+            // Start AI turn if first player is AI
+            Player firstPlayer = getCurrentPlayer();
+            if (firstPlayer.isPlayerAI() && !headless) {
+                executeAITurn();
+            }
+        } finally {
+            endEventBatch();
         }
     }
 
@@ -520,32 +660,37 @@ public class UNO_Model implements Serializable {
      * Called by the controller at the start of each round.
      */
     public void startNewGame(){
-        cancelPendingAITurn();
-        // reset all player scores
-        for (Player p : players) {
-            p.resetScore();
-        }
-
-        // reset game state
-        gameOver = false;
-        gameWinningPlayer = null;
-        roundOver = false;
-        roundWinningPlayer = null;
-        currentPlayerIndex = 0;
-        skipCount = 0;
-        direction = Direction.CLOCKWISE;
-        waitingForColorSelection = false;
-        hasActedThisTurn = false;
-        wildColorChoice = CardColor.WILD;
-        undoStack.clear();
-        redoStack.clear();
-
-        // let views know scores changed
-        prepareEvent(GameEvent.EventType.SCORES_UPDATED, "New game started!");
-        notifyViews();
+        beginEventBatch();
+        try {
+            cancelPendingAITurn();
+            // reset all player scores
+            for (Player p : players) {
+                p.resetScore();
+            }
+
+            // reset game state
+            gameOver = false;
+            gameWinningPlayer = null;
+            roundOver = false;
+            roundWinningPlayer = null;
+            currentPlayerIndex = 0;
+            skipCount = 0;
+            direction = Direction.CLOCKWISE;
+            waitingForColorSelection = false;
+            hasActedThisTurn = false;
+            wildColorChoice = CardColor.WILD;
+            history.clear();
+            rehash();
 
-        // start the first round of the new game
-        startNewRound();
+            // let views know scores changed
+            prepareEvent(GameEvent.EventType.SCORES_UPDATED, "New game started!");
+            notifyViews();
+
+            // start the first round of the new game
+            startNewRound();
+        } finally {
+            endEventBatch();
+        }
     }
 
 
@@ -553,8 +698,11 @@ public class UNO_Model implements Serializable {
      * Reinitialize the draw deck and clears the play pile for a new round.
      */
     private void resetDecks() {
-        playDeck = new Deck();  // fresh shuffled decks
+        gameSide.setLightSide(true); // new cards start on the light side
+        playDeck = new Deck(getRandom(), gameSide);  // fresh shuffled decks
         playPile = new Stack<>(); //empty discard pile
+        playPile.ensureCapacity(CardIds.CARD_COUNT); // sized for the whole deck so that playing never grows it
+        getCardTracker().reset();
     }
 
     /**
@@ -591,12 +739,69 @@ public class UNO_Model implements Serializable {
 
             // We found a non-action card
             playPile.push(firstCard);
+            getCardTracker().cardPlayed(firstCard.getId());
         } catch (Exception e) {
             prepareEvent(GameEvent.EventType.MESSAGE, "Error initializing first card: " + e.getMessage());
             notifyViews();
         }
     }
 
+    /**
+     * Restarts the game's random generator from the given seed and hands every AI
+     * strategy its own generator split from it. Rounds started afterwards are
+     * fully determined by the seed and the players' moves.
+     *
+     * @param seed the new seed
+     */
+    public void setSeed(long seed) {
+        this.seed = seed;
+        this.random = new SplittableRandom(seed);
+        playDeck.setRandom(random);
+        seedStrategies();
+    }
+
+    /**
+     * Returns the seed the game's random generator was last started from.
+     *
+     * @return the game seed
+     */
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * Returns the generator used for shuffling. A game read back from a save
+     * file continues with a new generator started from a fresh seed.
+     *
+     * @return the game's {@link RandomGenerator}
+     */
+    public RandomGenerator getRandom() {
+        if (random == null) {
+            setSeed(new SplittableRandom().nextLong());
+        }
+        return random;
+    }
+
+    /**
+     * Gives each player's AI strategy an independent generator split from the game's.
+     */
+    private void seedStrategies() {
+        for (Player player : players) {
+            if (player.getAIStrategy() != null) {
+                player.getAIStrategy().setRandomGenerator(random.split());
+            }
+        }
+    }
+
+    /**
+     * Returns the side shared by every card dealt in this game.
+     *
+     * @return the game's {@link GameSide}
+     */
+    public GameSide getGameSide() {
+        return gameSide;
+    }
+
     /**
      * Returns the draw deck used for gameplay.
      *
@@ -628,11 +833,20 @@ public class UNO_Model implements Serializable {
     /**
      * Rebuilds the draw deck from the play pile while preserving the current top discard.
      */
-    private void reshuffleDrawingDeck(){
+    void reshuffleDrawingDeck(){
         if (playPile.size() <= 1) {
             return; // Not enough cards to reshuffle (need at least 2: one to keep, one to reshuffle)
         }
 
+        // Remember the piles so that the reshuffle can be undone
+        boolean recording = isRecording();
+        Card[] pileBefore = null;
+        Card[] deckBefore = null;
+        if (recording) {
+            pileBefore = playPile.subList(0, playPile.size() - 1).toArray(new Card[0]);
+            deckBefore = playDeck.getDeck().toArray(new Card[0]);
+        }
+
         // removes and saves the top card of the play pile
         Card topCard = playPile.pop();
 
@@ -640,6 +854,7 @@ public class UNO_Model implements Serializable {
         while (!playPile.isEmpty()) {
             Card card = playPile.pop();
             playDeck.addCard(card);
+            stateHash ^= ZobristHash.card(card.getId(), ZobristHash.PILE) ^ ZobristHash.card(card.getId(), ZobristHash.DECK);
         }
 
         // Shuffle the deck
@@ -647,6 +862,11 @@ public class UNO_Model implements Serializable {
 
         // Put the saved top card back on the play pile
         playPile.push(topCard);
+        getCardTracker().pileReshuffled(topCard.getId());
+
+        if (recording) {
+            history.record(new GameCommand.Reshuffle(pileBefore, deckBefore, playDeck.getDeck().toArray(new Card[0])));
+        }
 
     }
 
@@ -664,46 +884,56 @@ public class UNO_Model implements Serializable {
      * @return boolean true if the card was successfully played, false otherwise
      */
     public boolean playCard(int cardIndex) {
-
-
-        Player currentPlayer = getCurrentPlayer();
-        pushUndoSnapshotIfAllowed();
-
+        beginEventBatch();
         try {
-            //currentPlayer = getCurrentPlayer();
+            Player currentPlayer = getCurrentPlayer();
+            pushUndoSnapshotIfAllowed();
 
-            if (!validMove(currentPlayer, cardIndex)) {
-                return false;
-            }
+            try {
+                //currentPlayer = getCurrentPlayer();
 
-            Card chosenCard = currentPlayer.getCardInHand(cardIndex);
-            playPile.push(chosenCard);
-            currentPlayer.removeCard(cardIndex);
+                if (!validMove(currentPlayer, cardIndex)) {
+                    return false;
+                }
 
-            // Execute card's action
-            chosenCard.action(this, currentPlayer);
+                Card chosenCard = currentPlayer.getCardInHand(cardIndex);
+                stateHash ^= turnStateHash();
+                playPile.push(chosenCard);
+                currentPlayer.removeCard(cardIndex);
+                stateHash ^= turnStateHash() ^ ZobristHash.card(chosenCard.getId(), ZobristHash.hand(currentPlayerIndex))
+                        ^ ZobristHash.card(chosenCard.getId(), ZobristHash.PILE);
+                getCardTracker().cardPlayed(chosenCard.getId());
+                if (isRecording()) {
+                    history.record(new GameCommand.PlayCard(currentPlayer, chosenCard, cardIndex));
+                }
 
-            // The card action was valid and player acted this turn
-            hasActedThisTurn = true;
+                // Execute card's action
+                chosenCard.action(this, currentPlayer);
 
+                // The card action was valid and player acted this turn
+                hasActedThisTurn = true;
 
-            // Set up card played event
-            lastEventType = GameEvent.EventType.CARD_PLAYED;
-            lastPlayedCard = chosenCard;
-            shouldEnableNextPlayer = !waitingForColorSelection;
-            shouldEnableDrawButton = false;
 
+                // Set up card played event
+                lastEventType = GameEvent.EventType.CARD_PLAYED;
+                lastPlayedCard = chosenCard;
+                shouldEnableNextPlayer = !waitingForColorSelection;
+                shouldEnableDrawButton = false;
 
-            // Check for round or game win
-            checkForWin(currentPlayer);
 
-            notifyViews();
-            return true;
+                // Check for round or game win
+                checkForWin(currentPlayer);
 
-        } catch (Exception e) {
-            prepareEvent(GameEvent.EventType.MESSAGE, "Error playing card: " + e.getMessage());
-            notifyViews();
-            return false;
+                notifyViews();
+                return true;
+
+            } catch (Exception e) {
+                prepareEvent(GameEvent.EventType.MESSAGE, "Error playing card: " + e.getMessage());
+                notifyViews();
+                return false;
+            }
+        } finally {
+            endEventBatch();
         }
     }
 
@@ -716,7 +946,7 @@ public class UNO_Model implements Serializable {
      */
     public boolean validMove(Player p, int i) { //returns true if players card matches type or color of the top card in play Pile
         try {
-            return p.getCardInHand(i).playableOnTop(topCard());
+            return Playability.isPlayable(p.getCardInHand(i), topCard());
         } catch (Exception e) {
             prepareEvent(GameEvent.EventType.MESSAGE, "Error validating top card: " + e.getMessage());
             notifyViews();
@@ -731,12 +961,123 @@ public class UNO_Model implements Serializable {
      * @return boolean, true if he has any card in his hand that is playable, false otherwise
      */
     public boolean hasPlayableHand(Player p) {
-        for (Card c : p.getHand()) {
-            if(c.playableOnTop(topCard())) {
-                return true;
+        return p.hasPlayableCard(topCard());
+    }
+
+    /**
+     * Writes the current player's legal moves into the given array (see
+     * {@link #legalMoves(Player, Card, int[])}). Nothing is allocated.
+     *
+     * @param moves the array to fill; a hand's worth of entries holds every move
+     * @return the number of moves written
+     */
+    public int legalMoves(int[] moves) {
+        return legalMoves(getCurrentPlayer(), playPile.isEmpty() ? null : topCard(), moves);
+    }
+
+    /**
+     * Writes a player's legal moves on a top card into the given array: the
+     * 1-based hand index of every playable card, in hand order, or only
+     * {@link #DRAW_MOVE} if no card can be played. Moves that do not fit in the
+     * array are left out, so an array of one entry receives the first legal move.
+     * Nothing is allocated, so AI search and the GUI can call this on every turn.
+     *
+     * @param player the player to move
+     * @param top the card on top of the play pile, or null if the pile is empty
+     * @param moves the array to fill
+     * @return the number of moves written
+     */
+    public static int legalMoves(Player player, Card top, int[] moves) {
+        if (moves.length == 0) {
+            return 0;
+        }
+        // The hand index tells in constant time whether there is anything to look for
+        if (!player.hasPlayableCard(top)) {
+            moves[0] = DRAW_MOVE;
+            return 1;
+        }
+
+        ArrayList<Card> hand = player.getHand();
+        boolean lightSide = top.getActiveSide();
+        int topKey = Playability.key(top);
+        int count = 0;
+        for (int i = 0; i < hand.size() && count < moves.length; i++) {
+            if (Playability.isPlayable(handKey(hand.get(i), lightSide), topKey)) {
+                moves[count++] = i + 1;
+            }
+        }
+        if (count == 0) {
+            moves[count++] = DRAW_MOVE;
+        }
+        return count;
+    }
+
+    /**
+     * Sets the current player's legal moves as bits of the given mask (see
+     * {@link #legalMoveMask(Player, Card, long[])}). Nothing is allocated.
+     *
+     * @param mask the words to fill, at least {@code handSize / 64 + 1} of them
+     * @return the number of legal moves
+     */
+    public int legalMoveMask(long[] mask) {
+        return legalMoveMask(getCurrentPlayer(), playPile.isEmpty() ? null : topCard(), mask);
+    }
+
+    /**
+     * Sets a player's legal moves on a top card as bits of the given mask: bit
+     * {@code m} (word {@code m / 64}, bit {@code m % 64}) is set if move
+     * {@code m} is legal, where move {@link #DRAW_MOVE} draws and move {@code i}
+     * plays the i-th card in hand. The same moves as
+     * {@link #legalMoves(Player, Card, int[])} are set; all other bits of the
+     * words covering the hand are cleared. Nothing is allocated.
+     *
+     * @param player the player to move
+     * @param top the card on top of the play pile, or null if the pile is empty
+     * @param mask the words to fill, at least {@code handSize / 64 + 1} of them
+     * @return the number of legal moves
+     * @throws IllegalArgumentException if the mask is too short for the hand
+     */
+    public static int legalMoveMask(Player player, Card top, long[] mask) {
+        ArrayList<Card> hand = player.getHand();
+        int words = (hand.size() >>> 6) + 1;
+        if (mask.length < words) {
+            throw new IllegalArgumentException("A hand of " + hand.size() + " cards needs " + words + " mask words");
+        }
+        Arrays.fill(mask, 0, words, 0L);
+
+        if (!player.hasPlayableCard(top)) {
+            mask[0] = 1L << DRAW_MOVE;
+            return 1;
+        }
+
+        boolean lightSide = top.getActiveSide();
+        int topKey = Playability.key(top);
+        int count = 0;
+        for (int i = 0; i < hand.size(); i++) {
+            if (Playability.isPlayable(handKey(hand.get(i), lightSide), topKey)) {
+                int move = i + 1;
+                mask[move >>> 6] |= 1L << move;
+                count++;
             }
         }
-        return false;
+        if (count == 0) {
+            mask[0] = 1L << DRAW_MOVE;
+            count++;
+        }
+        return count;
+    }
+
+    /**
+     * Returns the playability key of a card in hand, from the card ID tables when
+     * the card has an ID so that the card's own methods are not called.
+     *
+     * @param card the card in hand
+     * @param lightSide true if the light side is active
+     * @return the card's key
+     */
+    private static int handKey(Card card, boolean lightSide) {
+        int id = card.getId();
+        return id >= 0 ? Playability.cardKey(id, lightSide) : Playability.key(card);
     }
 
     /**
@@ -748,13 +1089,8 @@ public class UNO_Model implements Serializable {
     public boolean isPlayable(Card card) {
         if (card == null || playPile.isEmpty()) return false;
 
-        Card top = topCard();
-
-        // Wilds are always playable
-        if (card.getColor() == CardColor.WILD) return true;
-
-        // Match by color or type/value
-        return card.getColor() == top.getColor() || card.getType() == top.getType();
+        // Wilds are always playable, other cards match by color or type/value
+        return Playability.isPlayable(card, topCard());
     }
 
     /**
@@ -792,25 +1128,69 @@ public class UNO_Model implements Serializable {
 
 
     /**
-     * Flips all cards (play pile, draw deck, and hands) to the opposite light/dark side.
+     * Applies the chosen color to the wild card on top of the play pile and
+     * finishes the color selection phase. For a Wild Draw card, the draw penalty
+     * is carried out against the next player once the color is known.
+     *
+     * @param chosenColor the {@link CardColor} selected by the player
      */
-    public void flipGameSide() {
-        // Flip all cards in play pile (discard pile)
-        for (Card card : playPile) {
-            card.flip();
-        }
+    public void applyWildColorSelection(CardColor chosenColor) {
+        beginEventBatch();
+        try {
+            if (!waitingForColorSelection) {
+                return; // Not in color selection state
+            }
 
-        // Flip all cards in draw pile
-        for (Card card : playDeck.getDeck()) {
-            card.flip();
+            // The top card should be the wild card that was just played
+            Card topCard = topCard();
+            CardColor lightBefore = topCard.lightColor;
+            CardColor darkBefore = topCard.darkColor;
+
+            if (topCard instanceof WildCard) {
+                WildCard wildCard = (WildCard) topCard;
+                stateHash ^= turnStateHash();
+                wildCard.applyChosenColor(chosenColor, topCard.getActiveSide());
+                stateHash ^= turnStateHash();
+                recordColorChoice(topCard, lightBefore, darkBefore);
+                completeColorSelection();
+
+            } else if (topCard instanceof WildDrawCard) {
+                WildDrawCard wildDrawCard = (WildDrawCard) topCard;
+                Player currentPlayer = getCurrentPlayer();
+                // The color belongs to the play, so it is recorded before the undo point of the draw penalty
+                stateHash ^= turnStateHash();
+                wildDrawCard.applyChosenColor(chosenColor, topCard.getActiveSide());
+                stateHash ^= turnStateHash();
+                recordColorChoice(topCard, lightBefore, darkBefore);
+                completeColorSelection();
+                wildDrawCard.executeDrawAction(chosenColor, topCard.getActiveSide(), this, currentPlayer);
+            }
+        } finally {
+            endEventBatch();
         }
+    }
 
-        // Flip all cards in players' hands
-        for (Player player : players) {
-            for (Card card : player.getHand()) {
-                card.flip();
-            }
+    /**
+     * Records the color change of a wild card for undo.
+     *
+     * @param card the wild card, already showing its chosen colors
+     * @param lightBefore its light side color before the choice
+     * @param darkBefore its dark side color before the choice
+     */
+    private void recordColorChoice(Card card, CardColor lightBefore, CardColor darkBefore) {
+        if (isRecording()) {
+            history.record(new GameCommand.ChooseColor(card, lightBefore, darkBefore));
         }
+    }
+
+    /**
+     * Flips all cards (play pile, draw deck, and hands) to the opposite light/dark side.
+     * Every card dealt in this game follows the shared {@link GameSide}, so this takes constant time.
+     */
+    public void flipGameSide() {
+        stateHash ^= turnStateHash();
+        gameSide.flip();
+        stateHash ^= turnStateHash();
         prepareEvent(GameEvent.EventType.GAME_STATE_CHANGED, "Game side flipped!");
         notifyViews();
     }
@@ -822,44 +1202,131 @@ public class UNO_Model implements Serializable {
      * @return {@link Card} The drawn card, or null if deck is empty
      */
     public Card drawCard() {
-        // Save state BEFORE drawing
-        Player currentPlayer = getCurrentPlayer();
-        pushUndoSnapshotIfAllowed();
-
+        beginEventBatch();
         try {
-            //Player currentPlayer = getCurrentPlayer();
+            // Save state BEFORE drawing
+            Player currentPlayer = getCurrentPlayer();
+            pushUndoSnapshotIfAllowed();
+
+            try {
+                //Player currentPlayer = getCurrentPlayer();
 
-            // If draw deck is empty, try to rebuild and reshuffle it from the play pile
-            if (playDeck.getDeck().isEmpty()) {
-                reshuffleDrawingDeck();
-                if (playDeck.getDeck().isEmpty()) {
+                //draw the card and give it to the current player
+                Card drawnCard = dealCardTo(currentPlayer);
+                if (drawnCard == null) {
                     return null; // No cards available even after reshuffle
                 }
+                hasActedThisTurn = true;
+
+                // NOTIFY views as player has drawn a card and skipping current player's turn
+                prepareEvent(GameEvent.EventType.CARD_DRAWN, p -> "Card drawn by " + p.getName() + " ! Press 'Next Player' to continue.", currentPlayer);
+                shouldEnableNextPlayer = true;
+                shouldEnableDrawButton = false;
+
+                notifyViews();
+                return drawnCard;
+            } catch (Exception e) {
+                prepareEvent(GameEvent.EventType.MESSAGE, "Error drawing card: " + e.getMessage());
+                notifyViews();
+                return null;
             }
+        } finally {
+            endEventBatch();
+        }
+    }
 
 
-            //draw the card and give it to the current player
-            Card drawnCard = playDeck.drawCardFromDeck();
-            if (drawnCard != null) {
-                currentPlayer.drawCardToHand(drawnCard);
-            }
-            hasActedThisTurn = true;
 
-            // NOTIFY views as player has drawn a card and skipping current player's turn
-            prepareEvent(GameEvent.EventType.CARD_DRAWN,"Card drawn by " + currentPlayer.getName() + " ! Press 'Next Player' to continue.");
-            shouldEnableNextPlayer = true;
-            shouldEnableDrawButton = false;
+    /**
+     * Gives the top card of the draw deck to a player, first rebuilding the deck from
+     * the play pile if it has run out. Card actions deal through this method so that
+     * every draw can be undone.
+     *
+     * @param player the player receiving the card
+     * @return {@link Card} The card dealt, or null if no cards are left even after a reshuffle
+     */
+    public Card dealCardTo(Player player) {
+        if (playDeck.getDeck().isEmpty()) {
+            reshuffleDrawingDeck();
+        }
 
-            notifyViews();
-            return drawnCard;
-        } catch (Exception e) {
-            prepareEvent(GameEvent.EventType.MESSAGE, "Error drawing card: " + e.getMessage());
-            notifyViews();
-            return null;
+        Card card = playDeck.drawCardFromDeck();
+        if (card != null) {
+            player.drawCardToHand(card);
+            stateHash ^= ZobristHash.card(card.getId(), ZobristHash.DECK)
+                    ^ ZobristHash.card(card.getId(), ZobristHash.hand(players.indexOf(player)));
+            // Only a draw card makes someone other than the current player pick up
+            boolean penalty = player != getCurrentPlayer();
+            if (penalty) {
+                getCardTracker().penaltyDrawn(players.indexOf(player), card.getId());
+            }
+            if (isRecording()) {
+                // The deck is drawn from its end, so the card came from the index that is now its size
+                history.record(new GameCommand.DrawCard(player, card, penalty, playDeck.getDeck().size()));
+            }
         }
+        return card;
     }
 
+    /**
+     * Returns the public information of the current round: the cards seen on the
+     * play pile, the penalty cards each seat picked up and the unknown pool.
+     * The tracker is kept up to date as cards move, including undo and redo.
+     *
+     * @return the game's {@link CardTracker}
+     */
+    public CardTracker getCardTracker() {
+        if (cardTracker == null) {
+            // Games saved before the tracker existed rebuild it from the play pile
+            cardTracker = new CardTracker(numPlayers);
+            for (Card card : playPile) {
+                cardTracker.cardPlayed(card.getId());
+            }
+        }
+        return cardTracker;
+    }
 
+    /**
+     * Returns the current position as an immutable {@link GameState} that the pure
+     * {@link GameRules} can play on, from any thread. The state's reshuffle seed comes
+     * from the game's seed and position, so this game's generator is not used.
+     *
+     * @return the position between turns
+     */
+    public GameState getGameState() {
+        return GameState.of(this, seed ^ stateHash);
+    }
+
+    /**
+     * Returns the Zobrist hash of the current position. Two equal positions
+     * always have the same hash, and different positions almost never do, so
+     * AI players can use it to recognise a position they have evaluated before.
+     * The hash is updated as the game is played, undone and redone; code that
+     * changes the hands or piles directly must call {@link #rehash()}.
+     *
+     * @return the 64-bit hash
+     */
+    public long getStateHash() {
+        return stateHash;
+    }
+
+    /**
+     * Recomputes the position's hash from scratch, after many cards moved at once.
+     */
+    public void rehash() {
+        stateHash = ZobristHash.compute(this);
+    }
+
+    /**
+     * Returns the hash key of the turn flow and top card, which is XOR-ed out of the
+     * position's hash before they change and back in afterwards.
+     *
+     * @return the key for the current turn state
+     */
+    private long turnStateHash() {
+        return ZobristHash.turnState(currentPlayerIndex, skipCount, direction == Direction.CLOCKWISE,
+                gameSide.isLightSide(), wildColorChoice, playPile.isEmpty() ? null : playPile.peek());
+    }
 
     /**
      * Returns all players in the game.
@@ -914,13 +1381,15 @@ public class UNO_Model implements Serializable {
      * Toggles the direction of play between clockwise and counterclockwise.
      */
     public void flipDirection() {
+        stateHash ^= turnStateHash();
         if (direction == Direction.CLOCKWISE){
             direction = Direction.COUNTERCLOCKWISE;
         }else{
             direction = Direction.CLOCKWISE;
         }
+        stateHash ^= turnStateHash();
         prepareEvent(GameEvent.EventType.DIRECTION_FLIPPED,
-                "Direction flipped to " + direction + "!");
+                newDirection -> "Direction flipped to " + newDirection + "!", direction);
         notifyViews();
     }
 
@@ -930,39 +1399,44 @@ public class UNO_Model implements Serializable {
      * Notifies views after updating the current player index.
      */
     public void moveToNextPlayer() {
-        // Save state BEFORE moving (only for human players)
-        //addUndoSnapShot();
-        //redoStack.clear();
-        pushUndoSnapshotIfAllowed();
+        beginEventBatch();
+        try {
+            // Save state BEFORE moving (only for human players)
+            pushUndoSnapshotIfAllowed();
 
-        if (skipCount > 0) {
-            processSkip();  // jumps past players
-        } else {
-            // Normal turn progression
-            if (direction == Direction.CLOCKWISE) {
-                currentPlayerIndex = (currentPlayerIndex + 1) % players.size();
+            if (skipCount > 0) {
+                processSkip();  // jumps past players
             } else {
-                currentPlayerIndex = (currentPlayerIndex - 1 + players.size()) % players.size();
+                // Normal turn progression
+                stateHash ^= turnStateHash();
+                if (direction == Direction.CLOCKWISE) {
+                    currentPlayerIndex = (currentPlayerIndex + 1) % players.size();
+                } else {
+                    currentPlayerIndex = (currentPlayerIndex - 1 + players.size()) % players.size();
+                }
+                stateHash ^= turnStateHash();
             }
-        }
 
-        lastEventType = GameEvent.EventType.PLAYER_CHANGED;
-        notifyViews();
+            lastEventType = GameEvent.EventType.PLAYER_CHANGED;
+            notifyViews();
 
-        // After we have moved to next player  COME BACK TO
-        Player newPlayer = getCurrentPlayer();
-        boolean hasPlayableHand = hasPlayableHand(newPlayer);
+            // After we have moved to next player  COME BACK TO
+            Player newPlayer = getCurrentPlayer();
+            boolean hasPlayableHand = hasPlayableHand(newPlayer);
 
-        shouldEnableNextPlayer = false; // Always false when switching players
-        shouldEnableDrawButton = !hasPlayableHand && !newPlayer.isPlayerAI();
+            shouldEnableNextPlayer = false; // Always false when switching players
+            shouldEnableDrawButton = !hasPlayableHand && !newPlayer.isPlayerAI();
 
-        hasActedThisTurn = false;
-        //prepareEvent(GameEvent.EventType.PLAYER_CHANGED, "It's " + newPlayer.getName() + " turn");
-        statusMessage = "It's " + newPlayer.getName() + " turn";
-        notifyViews();
+            hasActedThisTurn = false;
+            //prepareEvent(GameEvent.EventType.PLAYER_CHANGED, "It's " + newPlayer.getName() + " turn");
+            statusMessage = observedMessage(p -> "It's " + p.getName() + " turn", newPlayer);
+            notifyViews();
 
-        if (newPlayer.isPlayerAI() && !isRoundOver() && !isGameOver()) {
-            executeAITurn();
+            if (newPlayer.isPlayerAI() && !headless && !isRoundOver() && !isGameOver()) {
+                executeAITurn();
+            }
+        } finally {
+            endEventBatch();
         }
     }
 
@@ -972,7 +1446,9 @@ public class UNO_Model implements Serializable {
      * @param count The number of players to skip
      */
     public void addSkip(int count) {
+        stateHash ^= turnStateHash();
         this.skipCount += count;
+        stateHash ^= turnStateHash();
     }
 
     /**
@@ -980,7 +1456,9 @@ public class UNO_Model implements Serializable {
      */
     public void skipAllPlayers() {
         // Skip all other players
+        stateHash ^= turnStateHash();
         this.skipCount = players.size() - 1;
+        stateHash ^= turnStateHash();
     }
 
     /**
@@ -990,6 +1468,7 @@ public class UNO_Model implements Serializable {
      */
     public void processSkip() {
         if (skipCount > 0) {
+            stateHash ^= turnStateHash();
             // Calculate the final position directly based on skip count and direction
             if (direction == Direction.CLOCKWISE) {
                 // Skip N players means advance by (N + 1) positions
@@ -1001,6 +1480,7 @@ public class UNO_Model implements Serializable {
             }
 
             skipCount = 0;  // Reset skip count after processing
+            stateHash ^= turnStateHash();
             hasActedThisTurn = false;
             notifyViews();   // Notify views once after all skips are processed
         }
@@ -1009,8 +1489,9 @@ public class UNO_Model implements Serializable {
 
     /**
      * Executes the AI player's turn using its assigned {@link AIStrategy}.
-     * Displays an AI thinking animation, determines a move (draw or play),
-     * and executes the corresponding action after a timed delay
+     * Displays an AI thinking animation and hands the move to the
+     * {@link AITurnScheduler}, which works it out after the strategy's delay and
+     * plays it back on the game's thread (see {@link #requestAIMove()}).
      */
     public void executeAITurn() {
         Player currentPlayer = getCurrentPlayer();
@@ -1022,57 +1503,218 @@ public class UNO_Model implements Serializable {
             prepareEvent(GameEvent.EventType.AI_THINKING, null);
             notifyViews();
 
-
-            // Execute AI decision with a delay
+            // Execute AI decision with a delay, or right away if the strategy thinks during its delay
             cancelPendingAITurn();
-            aiTimer = new Timer(strategy.getDelayMilliseconds(), e -> {
-                Card topCard = topCard();
-                int cardChoiceIndex = strategy.chooseCard(currentPlayer, topCard, this);
-
-                // No playable cards so AI draw
-                if (cardChoiceIndex == 0) {
-                    drawCard();
-                    reshuffleDrawingDeck();
-                }
+            int delay = strategy.usesThinkingTime() ? 0 : strategy.getDelayMilliseconds();
+            getAIScheduler().schedule(delay, this::requestAIMove);
+        }
+    }
 
-                if(cardChoiceIndex > 0){
-                    Card chosenCard = currentPlayer.getCardInHand(cardChoiceIndex);
+    /**
+     * Asks the scheduler to work out the current AI player's move, possibly on
+     * another thread, and to play it once it is known. The strategy is given a
+     * {@link #fork() copy} of the game taken on the game's thread, so undo, redo,
+     * loading and new rounds can change this game while it thinks; they cancel
+     * the decision, and its move is then dropped. The move is played by
+     * {@link #applyAIMove(Player, AIStrategy, Card, int)} on the game's thread.
+     */
+    private void requestAIMove() {
+        Player currentPlayer = getCurrentPlayer();
+        AIStrategy strategy = currentPlayer.getAIStrategy();
+        if (!currentPlayer.isPlayerAI() || strategy == null) {
+            return;
+        }
 
-                    // If AI is playing a wild card, choose a color in advance for view to update on
-                    if(chosenCard instanceof WildCard || chosenCard instanceof WildDrawCard){
-                        wildColorChoice = strategy.chooseWildColor(currentPlayer, topCard.isLightSideActive);
-                    } else {
-                        wildColorChoice = null;
-                    }
+        Card topCard = topCard();
+        long deadline = aiDeadline(strategy);
+        // The copy keeps the hands in order, so its card indices are this game's
+        UNO_Model copy = fork();
+        Player copyPlayer = copy.getCurrentPlayer();
+        Card copyTop = copy.topCard();
+        getAIScheduler().decide(() -> copy.chooseAIMove(copyPlayer, strategy, copyTop, deadline),
+                choice -> applyAIMove(currentPlayer, strategy, topCard, choice),
+                e -> aiMoveFailed(currentPlayer, strategy, topCard, e));
+    }
 
-                    playCard(cardChoiceIndex);
-                }
+    /**
+     * Reports a strategy that failed to choose a move and lets the AI draw instead,
+     * so the game does not stall on its turn. Ignored if the game has moved on.
+     *
+     * @param player the AI player the move was requested for
+     * @param strategy the strategy that failed
+     * @param topCard the top card the move was requested against
+     * @param error what the strategy threw
+     */
+    private void aiMoveFailed(Player player, AIStrategy strategy, Card topCard, RuntimeException error) {
+        if (player != getCurrentPlayer() || topCard != topCard()) {
+            return;
+        }
+        System.err.println("ERROR choosing AI move: " + error);
 
+        beginEventBatch();
+        try {
+            prepareEvent(GameEvent.EventType.MESSAGE, player.getName() + "'s AI could not choose a move and draws a card");
+            notifyViews();
+            applyAIMove(player, strategy, topCard, 0);
+        } finally {
+            endEventBatch();
+        }
+    }
 
-            });
-            aiTimer.setRepeats(false);
-            aiTimer.start();
+    /**
+     * Immediately plays the current AI player's move: the strategy either picks
+     * a card to play or decides to draw. When a wild card is chosen, the strategy's
+     * color is stored in advance so it can be applied once selection is requested.
+     * A strategy that {@link AIStrategy#usesThinkingTime() uses thinking time} is
+     * given its delay as a deadline, except in headless games.
+     * This method does not wait, schedule or advance the turn, and the strategy
+     * runs on the calling thread.
+     */
+    public void performAITurn() {
+        Player currentPlayer = getCurrentPlayer();
+        AIStrategy strategy = currentPlayer.getAIStrategy();
+        if (!currentPlayer.isPlayerAI() || strategy == null) {
+            return;
         }
+
+        Card topCard = topCard();
+        applyAIMove(currentPlayer, strategy, topCard, chooseAIMove(currentPlayer, strategy, topCard, aiDeadline(strategy)));
     }
 
     /**
-     * Stops any scheduled AI turn to avoid executing actions from an outdated state.
+     * Returns the deadline for an AI decision that starts now.
+     *
+     * @param strategy the strategy about to decide
+     * @return the {@link System#nanoTime()} value to decide by, or {@link Long#MAX_VALUE}
+     *         if the strategy should use its fixed budget instead
+     */
+    private long aiDeadline(AIStrategy strategy) {
+        if (strategy.usesThinkingTime() && !headless) {
+            // The delay is the thinking budget; headless games use the strategy's fixed budget so they replay
+            return System.nanoTime() + strategy.getDelayMilliseconds() * 1_000_000L;
+        }
+        return Long.MAX_VALUE;
+    }
+
+    /**
+     * Asks a strategy for its move without changing the game.
+     *
+     * @param player the AI player taking the turn
+     * @param strategy the player's strategy
+     * @param topCard the card on top of the play pile
+     * @param deadline the deadline from {@link #aiDeadline(AIStrategy)}
+     * @return the index of the card to play (1-based), or 0 to draw
+     */
+    private int chooseAIMove(Player player, AIStrategy strategy, Card topCard, long deadline) {
+        if (deadline != Long.MAX_VALUE) {
+            return strategy.chooseCard(player, topCard, this, deadline);
+        }
+        return strategy.chooseCard(player, topCard, this);
+    }
+
+    /**
+     * Plays a move chosen by an AI strategy. The move is ignored if the game has
+     * moved on since it was requested.
+     *
+     * @param player the AI player the move was chosen for
+     * @param strategy the strategy that chose it
+     * @param topCard the top card the move was chosen against
+     * @param cardChoiceIndex the index of the card to play (1-based), or 0 to draw
+     */
+    private void applyAIMove(Player player, AIStrategy strategy, Card topCard, int cardChoiceIndex) {
+        if (player != getCurrentPlayer() || topCard != topCard()) {
+            return;
+        }
+
+        beginEventBatch();
+        try {
+            // No playable cards so AI draw
+            if (cardChoiceIndex == 0) {
+                drawCard();
+            }
+
+            if(cardChoiceIndex > 0){
+                Card chosenCard = player.getCardInHand(cardChoiceIndex);
+
+                // If AI is playing a wild card, choose a color in advance for view to update on
+                if(chosenCard instanceof WildCard || chosenCard instanceof WildDrawCard){
+                    setWildColorChoice(strategy.chooseWildColor(player, topCard.getActiveSide()));
+                } else {
+                    setWildColorChoice(null);
+                }
+
+                playCard(cardChoiceIndex);
+            }
+        } finally {
+            endEventBatch();
+        }
+    }
+
+    /**
+     * Stops any scheduled AI turn, or a decision still being worked out, to avoid
+     * executing actions from an outdated state.
      */
     private void cancelPendingAITurn() {
-        if (aiTimer != null && aiTimer.isRunning()) {
-            aiTimer.stop();
+        if (aiScheduler != null) {
+            aiScheduler.cancel();
+        }
+    }
+
+    /**
+     * Returns the scheduler used for AI turns, creating the Swing scheduler on first use.
+     * The scheduler is not serialized, so a loaded game creates a fresh one.
+     *
+     * @return the {@link AITurnScheduler} for this game
+     */
+    private AITurnScheduler getAIScheduler() {
+        if (aiScheduler == null) {
+            aiScheduler = new SwingAITurnScheduler();
         }
-        aiTimer = null;
+        return aiScheduler;
     }
 
     /**
-     * Pushes a snapshot to the undo stack unless we are in the middle of restoring a state.
-     * Clears the redo stack to maintain a linear history.
+     * Replaces the scheduler used to run AI turns.
+     *
+     * @param scheduler the {@link AITurnScheduler} that runs future AI turns
+     */
+    public void setAIScheduler(AITurnScheduler scheduler) {
+        cancelPendingAITurn();
+        this.aiScheduler = scheduler;
+    }
+
+    /**
+     * Switches the game in or out of headless mode. A headless game never schedules
+     * AI turns on its own and keeps no undo history; the caller drives every turn
+     * through {@link #performAITurn()} and {@link #moveToNextPlayer()}.
+     *
+     * @param headless true to run without timers and undo history
+     */
+    public void setHeadless(boolean headless) {
+        this.headless = headless;
+        if (headless) {
+            cancelPendingAITurn();
+            history.clear();
+        }
+    }
+
+    /**
+     * Returns whether the game is running in headless mode.
+     *
+     * @return true if turns are driven directly without timers
+     */
+    public boolean isHeadless() {
+        return headless;
+    }
+
+    /**
+     * Starts a new undo step unless we are in the middle of an undo or redo.
+     * Clears the redo history to maintain a linear history.
      */
     private void pushUndoSnapshotIfAllowed() {
-        if (!restoringState) {
+        if (!restoringState && !headless) {
             addUndoSnapShot();
-            redoStack.clear();
+            history.clearRedo();
         }
     }
 
@@ -1109,7 +1751,7 @@ public class UNO_Model implements Serializable {
 
 
             prepareEvent(GameEvent.EventType.ROUND_WON,
-                    roundWinningPlayer.getName() + " wins this round!");
+                    winner -> winner.getName() + " wins this round!", roundWinningPlayer);
             lastPlayedCard = null; // Use top card for display
 
             // Check after the round points are distributed if there is a winner
@@ -1149,16 +1791,20 @@ public class UNO_Model implements Serializable {
      */
     public void tallyScores(Player winner) {
         // Tally winner's points from opponent's remaining cards
-        for (Player p : players) {
-            int handPoints = 0;
-
+        int handPoints = 0;
+        for (int i = 0; i < players.size(); i++) {
+            Player p = players.get(i);
             if(p != winner) {
-                for (Card c : p.getHand()) {
-                    handPoints += c.getType().getPointValue(); //adds all players remaining card points to the winning player's score
+                ArrayList<Card> hand = p.getHand();
+                for (int j = 0; j < hand.size(); j++) {
+                    handPoints += hand.get(j).getType().getPointValue(); //adds all players remaining card points to the winning player's score
                 }
-                winner.addScore(handPoints);
             }
         }
+        winner.addScore(handPoints);
+        if (isRecording()) {
+            history.record(new GameCommand.AddScore(winner, handPoints));
+        }
         prepareEvent(GameEvent.EventType.SCORES_UPDATED, null);
         notifyViews();
     }
@@ -1189,16 +1835,22 @@ public class UNO_Model implements Serializable {
 
     public void setCurrentPlayerIndex(int index) {
         if (index >= 0 && index < players.size()) {
+            stateHash ^= turnStateHash();
             currentPlayerIndex = index;
+            stateHash ^= turnStateHash();
         }
     }
 
     public void setSkipCount(int count) {
+        stateHash ^= turnStateHash();
         this.skipCount = count;
+        stateHash ^= turnStateHash();
     }
 
     public void setDirection(Direction dir) {
+        stateHash ^= turnStateHash();
         this.direction = dir;
+        stateHash ^= turnStateHash();
     }
 
     public void setHasActedThisTurn(boolean acted) {
@@ -1206,35 +1858,15 @@ public class UNO_Model implements Serializable {
     }
 
     public void setWildColorChoice(CardColor color) {
+        stateHash ^= turnStateHash();
         this.wildColorChoice = color;
+        stateHash ^= turnStateHash();
     }
 
     public void setWaitingForColorSelection(boolean waiting) {
         this.waitingForColorSelection = waiting;
     }
 
-    /**
-     * Constructs a {@link GameEvent} containing the current state information
-     * such as current player, last played card, direction, and button states.
-     *
-     * @return a new {@link GameEvent} representing the current game state
-     */
-    public GameEvent createNewGameEvent(){
-        GameEvent event = new GameEvent(
-                lastEventType,
-                getCurrentPlayer(),        // currentPlayer
-                gameWinningPlayer,        // winningPlayer (could be null)
-                lastPlayedCard != null ? lastPlayedCard : topCard(), // card
-                statusMessage,             // message
-                direction,                 // direction
-                shouldEnableNextPlayer,    // enableNextPlayer
-                shouldEnableDrawButton,    // enableDrawButton
-                wildColorChoice            // choice of color for wild card (automatic cases like AI)
-        );
-        return event;
-    }
-    // For undo Stack
-
     /**
      * Serializes the current model and saves it ot a file
      *
@@ -1249,6 +1881,42 @@ public class UNO_Model implements Serializable {
         }
     }
 
+    /**
+     * Rebuilds the shared {@link GameSide} of a game saved before it existed. Each card
+     * of such a save kept its own side, and all of them showed the side of the top card;
+     * every card is bound to the new game side and keeps showing the side it showed.
+     */
+    private void restoreGameSide() {
+        if (gameSide != null) {
+            return;
+        }
+        gameSide = new GameSide();
+        gameSide.setLightSide(playPile.isEmpty() || playPile.peek().getActiveSide());
+        playDeck.bindGameSide(gameSide);
+        for (Card card : playDeck.getDeck()) {
+            bindToGameSide(card);
+        }
+        for (Card card : playPile) {
+            bindToGameSide(card);
+        }
+        for (Player player : players) {
+            for (Card card : player.getHand()) {
+                bindToGameSide(card);
+            }
+        }
+    }
+
+    /**
+     * Makes a card of an old save follow the game side without changing the side it shows.
+     *
+     * @param card the card
+     */
+    private void bindToGameSide(Card card) {
+        boolean shown = card.getActiveSide();
+        card.bindGameSide(gameSide);
+        card.setActiveSide(shown);
+    }
+
     /**
      * deserializes the model from a preivously serialized model
      * @param filename the name for the file you want to deserialize
@@ -1256,7 +1924,13 @@ public class UNO_Model implements Serializable {
      */
     public static UNO_Model loadGame(String filename) {
         try (ObjectInputStream in = new ObjectInputStream(new FileInputStream(filename))) {
-            return (UNO_Model) in.readObject();
+            UNO_Model model = (UNO_Model) in.readObject();
+            model.restoreGameSide();
+            if (model.history == null) {
+                model.history = new UndoHistory(); // saves from before the undo history start without one
+            }
+            model.rehash(); // saves from before the hash existed hold 0
+            return model;
         } catch (IOException | ClassNotFoundException e) {
             System.err.println("ERROR loading game: " + e.getMessage());
             return null;
@@ -0,0 +1,148 @@
+import java.io.Serializable;
+import java.util.ArrayList;
+
+/**
+ * The UndoHistory class keeps the undo and redo history of a {@link UNO_Model}
+ * as a log of steps. A step starts at every point the player can undo back to
+ * (a play, a draw, a turn change or a chosen color) and holds the
+ * {@link GameCommand}s recorded until the next one starts, together with the
+ * model's turn-flow state packed into a single long before the step and after it.
+ * Undoing a step reverts its commands in reverse order and restores the packed
+ * state, so it costs the same at the end of a long round as at its start.
+ *
+ * @author Ahmad El-Jabi 101303269
+ * @author Atik Mahmud 101318070
+ * @author Aryan Singh 101299776
+ * @author Jonathan Gitej 101294584
+ *
+ * @version 4.0, December 05, 2025
+ */
+public class UndoHistory implements Serializable {
+    private static final long serialVersionUID = 1L;
+
+    private final ArrayList<Step> undoSteps = new ArrayList<>();
+    private final ArrayList<Step> redoSteps = new ArrayList<>();
+
+    /**
+     * Starts a new step that later commands are recorded into.
+     *
+     * @param state the model's packed turn-flow state at the start of the step
+     */
+    public void beginStep(long state) {
+        undoSteps.add(new Step(state));
+    }
+
+    /**
+     * Adds a command to the current step. Commands recorded before the first step are ignored.
+     *
+     * @param command the command that was just carried out
+     */
+    public void record(GameCommand command) {
+        if (!undoSteps.isEmpty()) {
+            undoSteps.get(undoSteps.size() - 1).commands.add(command);
+        }
+    }
+
+    /**
+     * Reverts the current step and moves it to the redo history.
+     *
+     * @param model the game the step was recorded in
+     * @param state the model's packed turn-flow state now, restored again by a redo
+     * @return the packed turn-flow state at the start of the step
+     */
+    public long undo(UNO_Model model, long state) {
+        Step step = undoSteps.remove(undoSteps.size() - 1);
+        step.stateAfter = state;
+        for (int i = step.commands.size() - 1; i >= 0; i--) {
+            step.commands.get(i).undo(model);
+        }
+        redoSteps.add(step);
+        return step.stateBefore;
+    }
+
+    /**
+     * Applies the most recently undone step again and moves it back to the undo history.
+     *
+     * @param model the game the step was recorded in
+     * @return the packed turn-flow state at the time the step was undone
+     */
+    public long redo(UNO_Model model) {
+        Step step = redoSteps.remove(redoSteps.size() - 1);
+        for (GameCommand command : step.commands) {
+            command.redo(model);
+        }
+        undoSteps.add(step);
+        return step.stateAfter;
+    }
+
+    /**
+     * Returns whether there is a step to undo.
+     *
+     * @return true if undo is possible
+     */
+    public boolean canUndo() {
+        return !undoSteps.isEmpty();
+    }
+
+    /**
+     * Returns whether there is a step to redo.
+     *
+     * @return true if redo is possible
+     */
+    public boolean canRedo() {
+        return !redoSteps.isEmpty();
+    }
+
+    /**
+     * Returns the number of steps that can be undone.
+     *
+     * @return the undo depth
+     */
+    public int undoSize() {
+        return undoSteps.size();
+    }
+
+    /**
+     * Returns the number of commands recorded in the current step.
+     *
+     * @return the command count, or 0 if there is no step
+     */
+    public int currentStepSize() {
+        return undoSteps.isEmpty() ? 0 : undoSteps.get(undoSteps.size() - 1).commands.size();
+    }
+
+    /**
+     * Forgets the redo history, as any new action makes it unreachable.
+     */
+    public void clearRedo() {
+        redoSteps.clear();
+    }
+
+    /**
+     * Forgets the whole history.
+     */
+    public void clear() {
+        undoSteps.clear();
+        redoSteps.clear();
+    }
+
+    /**
+     * The commands recorded between two undo points, with the turn-flow state around them.
+     */
+    private static class Step implements Serializable {
+        private static final long serialVersionUID = 1L;
+
+        private final long stateBefore;
+        private long stateAfter;
+        private final ArrayList<GameCommand> commands = new ArrayList<>(2);
+
+        /**
+         * Creates an empty step.
+         *
+         * @param stateBefore the packed turn-flow state at the start of the step
+         */
+        Step(long stateBefore) {
+            this.stateBefore = stateBefore;
+        }
+    }
+}
@@ -52,18 +52,4 @@ public class WildCard extends Card {
         }
     }
 
-
-
-    /**
-     * Determines whether this card can be legally played on top of another card.
-     * Wild cards can always be played, regardless of color or type.
-     *
-     * @param otherCard The card currently on top of the play pile.
-     * @return boolean. true since Wild cards are always playable.
-     */
-    @Override
-    public boolean playableOnTop(Card otherCard){
-        return true;
-    }
-
 }
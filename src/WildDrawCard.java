@@ -42,6 +42,22 @@ public class WildDrawCard extends Card {
         return true; // Draw action will happen after color selection
     }
 
+    /**
+     * Applies the chosen color to this wild card on both sides.
+     *
+     * @param chosenColor the {@link CardColor} selected by the player
+     * @param isLightSide true if the light side of the card is active; false if the dark side is active
+     */
+    public void applyChosenColor(CardColor chosenColor, boolean isLightSide) {
+        if (isLightSide) {
+            this.lightColor = chosenColor;
+            this.darkColor = chosenColor.getDarkCounterpart();
+        } else {
+            this.darkColor = chosenColor;
+            this.lightColor = chosenColor.getLightCounterpart();
+        }
+    }
+
     /**
      * Executes the Wild Draw card’s effect after the player has chosen a color.
      * On the light side, this card becomes a Wild Draw Two: the next player draws
@@ -55,34 +71,28 @@ public class WildDrawCard extends Card {
      * @param player the {@link Player} who played this Wild Draw card
      */
     public void executeDrawAction(CardColor chosenColor, boolean isLightSide, UNO_Model model, Player player) {
+        applyChosenColor(chosenColor, isLightSide);
         if (isLightSide) {
-            this.lightColor = chosenColor;
-            this.darkColor = chosenColor.getDarkCounterpart();
-
             // Light side: next player picks up two cards
             Player nextPlayer = model.getNextPlayer(player);
-            model.prepareEvent(GameEvent.EventType.MESSAGE, nextPlayer.getName() + " draws 2 cards and lost a turn!");
+            model.prepareEvent(GameEvent.EventType.MESSAGE, p -> p.getName() + " draws 2 cards and lost a turn!", nextPlayer);
             model.notifyViews();
 
             for(int i = 0; i < 2; i++){
-                Card card = model.getPlayDeck().drawCardFromDeck();
+                Card card = model.dealCardTo(nextPlayer);
                 if (card == null) break;
-                nextPlayer.drawCardToHand(card);
             }
 
             model.addSkip(1); // Skip the next player
 
         } else {
-            this.darkColor = chosenColor;
-            this.lightColor = chosenColor.getLightCounterpart();
-
             // Dark side: next player keeps drawing until they get the chosen color
             Player nextPlayer = model.getNextPlayer(player);
             boolean foundColor = false;
             int cardsDrawn = 0;
 
             while (!foundColor) {
-                Card drawnCard = model.getPlayDeck().drawCardFromDeck();
+                Card drawnCard = model.dealCardTo(nextPlayer);
                 if (drawnCard == null) {
                     model.prepareEvent(GameEvent.EventType.MESSAGE, "No more cards in deck!");
                     model.notifyViews();
@@ -90,11 +100,11 @@ public class WildDrawCard extends Card {
                 }
 
                 cardsDrawn++;
-                nextPlayer.drawCardToHand(drawnCard);
 
                 if (drawnCard.getColor() == this.darkColor) {
                     foundColor = true;
-                    model.prepareEvent(GameEvent.EventType.MESSAGE, nextPlayer.getName() + " found the chosen color after drawing " + cardsDrawn + " cards and lost a turn!");
+                    model.prepareEvent(GameEvent.EventType.MESSAGE, (p, drawn) ->
+                            p.getName() + " found the chosen color after drawing " + drawn + " cards and lost a turn!", nextPlayer, cardsDrawn);
                     model.notifyViews();
                 }
             }
@@ -102,16 +112,4 @@ public class WildDrawCard extends Card {
             model.addSkip(1); // Skip the next player
         }
     }
-
-    /**
-     * Determines whether this card can be legally played on top of another card.
-     * Wild cards can always be played, regardless of the top card's color or type.
-     *
-     * @param otherCard the {@link Card} currently on top of the play pile
-     * @return boolean. true always
-     */
-    @Override
-    public boolean playableOnTop(Card otherCard) {
-        return true;
-    }
 }
\ No newline at end of file
@@ -0,0 +1,150 @@
+import java.util.SplittableRandom;
+
+/**
+ * The ZobristHash class gives every part of a game position a fixed random
+ * 64-bit key, so that a position can be identified by the XOR of the keys of
+ * its parts: where each card is (draw deck, play pile or a seat's hand), the
+ * top card and the color in play, the active side, the direction, the current
+ * player, the pending skips and the wild color chosen in advance by an AI.
+ * Because XOR undoes itself, the {@link UNO_Model} keeps its hash up to date
+ * by XOR-ing out the keys of what a move changes and XOR-ing in the new ones,
+ * instead of hashing the whole game after every move.
+ * The order of the draw deck is not part of a position, since no player can
+ * see it. The keys come from a fixed seed, so a saved game keeps its hash.
+ *
+ * @author Ahmad El-Jabi 101303269
+ * @author Atik Mahmud 101318070
+ * @author Aryan Singh 101299776
+ * @author Jonathan Gitej 101294584
+ *
+ * @version 4.0, December 05, 2025
+ */
+public final class ZobristHash {
+    public static final int DECK = 0;     // location of cards in the draw deck
+    public static final int PILE = 1;     // location of cards on the play pile
+    public static final int MAX_SEATS = 8; // seats that have their own hand keys
+
+    private static final int LOCATIONS = 2 + MAX_SEATS;
+    private static final int COLORS = CardColor.values().length;
+    private static final int SKIP_KEYS = 16;
+
+    private static final long[] CARDS = new long[LOCATIONS * CardIds.CARD_COUNT];
+    private static final long[] TOP_CARD = new long[CardIds.CARD_COUNT];
+    private static final long[] TOP_COLOR = new long[COLORS];
+    private static final long[] PLAYER = new long[MAX_SEATS];
+    private static final long[] SKIPS = new long[SKIP_KEYS];
+    private static final long[] WILD_CHOICE = new long[COLORS + 1]; // index 0 for no choice
+    private static final long DARK_SIDE;
+    private static final long COUNTERCLOCKWISE;
+
+    static {
+        SplittableRandom random = new SplittableRandom(0x554E4F5A4F42524CL);
+        fill(CARDS, random);
+        fill(TOP_CARD, random);
+        fill(TOP_COLOR, random);
+        fill(PLAYER, random);
+        fill(SKIPS, random);
+        fill(WILD_CHOICE, random);
+        SKIPS[0] = 0; // no skips, so a turn with none hashes like one that never had any
+        WILD_CHOICE[0] = 0;
+        DARK_SIDE = random.nextLong();
+        COUNTERCLOCKWISE = random.nextLong();
+    }
+
+    /**
+     * Prevents instantiation; all members are static.
+     */
+    private ZobristHash() {
+    }
+
+    /**
+     * Fills a key table with random keys.
+     *
+     * @param keys the table
+     * @param random the key source
+     */
+    private static void fill(long[] keys, SplittableRandom random) {
+        for (int i = 0; i < keys.length; i++) {
+            keys[i] = random.nextLong();
+        }
+    }
+
+    /**
+     * Returns the location of a seat's hand.
+     *
+     * @param seat the seat, below {@link #MAX_SEATS}
+     * @return the location
+     */
+    public static int hand(int seat) {
+        return 2 + seat;
+    }
+
+    /**
+     * Returns the key of a card in a location.
+     *
+     * @param id the card ID; cards without an ID have no key
+     * @param location {@link #DECK}, {@link #PILE} or {@link #hand(int)}
+     * @return the key, or 0 for a card without an ID
+     */
+    public static long card(int id, int location) {
+        return id < 0 ? 0 : CARDS[location * CardIds.CARD_COUNT + id];
+    }
+
+    /**
+     * Returns the key of the turn-flow part of a position.
+     *
+     * @param seat the current player's seat
+     * @param skipCount the pending skips
+     * @param clockwise true if play goes clockwise
+     * @param lightSide true if the light side is active
+     * @param wildChoice the wild color chosen in advance, or null
+     * @param top the top card of the play pile, or null if it is empty
+     * @return the key
+     */
+    public static long turnState(int seat, int skipCount, boolean clockwise, boolean lightSide,
+                                 CardColor wildChoice, Card top) {
+        long hash = PLAYER[seat] ^ SKIPS[skipCount & (SKIP_KEYS - 1)]
+                ^ WILD_CHOICE[wildChoice == null ? 0 : wildChoice.ordinal() + 1];
+        if (!clockwise) {
+            hash ^= COUNTERCLOCKWISE;
+        }
+        if (!lightSide) {
+            hash ^= DARK_SIDE;
+        }
+        if (top != null) {
+            // The color in play is the top card's, including a color chosen for a wild card
+            hash ^= TOP_COLOR[top.getColor().ordinal()];
+            if (top.getId() >= 0) {
+                hash ^= TOP_CARD[top.getId()];
+            }
+        }
+        return hash;
+    }
+
+    /**
+     * Hashes a whole game. The model only does this when many cards move at once
+     * (a new round, undo and redo); otherwise it updates its hash move by move.
+     *
+     * @param model the game
+     * @return the hash of its position
+     */
+    public static long compute(UNO_Model model) {
+        long hash = 0;
+        for (Card card : model.getPlayDeck().getDeck()) {
+            hash ^= card(card.getId(), DECK);
+        }
+        for (Card card : model.getPlayPile()) {
+            hash ^= card(card.getId(), PILE);
+        }
+        for (int seat = 0; seat < model.getPlayers().size(); seat++) {
+            for (Card card : model.getPlayers().get(seat).getHand()) {
+                hash ^= card(card.getId(), hand(seat));
+            }
+        }
+
+        Card top = model.getPlayPile().isEmpty() ? null : model.topCard();
+        return hash ^ turnState(model.getCurrentPlayerIndex(), model.getSkipCount(),
+                model.getDirection() == Direction.CLOCKWISE, model.getGameSide().isLightSide(),
+                model.getWildColorChoice(), top);
+    }
+}
@@ -46,6 +46,169 @@ public class AIStrategyTest {
         assertEquals(1234, fake.getDelayMilliseconds());
     }
 
+    /**
+     * Ensures a strategy that ignores deadlines answers the timed call like the untimed one.
+     */
+    @Test
+    public void testDeadlineDefaultsToUntimedChoice() {
+        assertFalse(fake.usesThinkingTime());
+        assertEquals(3, fake.chooseCard(player, null, null, System.nanoTime() + 1_000_000L));
+    }
+
+    /**
+     * Ensures a thinking strategy is started without waiting and gets its delay as a deadline.
+     */
+    @Test
+    public void testThinkingStrategyGetsDelayAsDeadline() {
+        ArrayList<String> names = new ArrayList<>(Arrays.asList("Bot 1", "Bot 2"));
+        ArrayList<Boolean> aiList = new ArrayList<>(Arrays.asList(true, true));
+        UNO_Model model = new UNO_Model(2, names, aiList, 3L);
+        ThinkingAIStrategy thinking = new ThinkingAIStrategy(400);
+        model.getPlayers().get(0).setAiStrategy(thinking);
+
+        int[] scheduledDelay = {-1};
+        Runnable[] scheduledTurn = new Runnable[1];
+        model.setAIScheduler(new AITurnScheduler() {
+            @Override
+            public void schedule(int delayMilliseconds, Runnable turn) {
+                scheduledDelay[0] = delayMilliseconds;
+                scheduledTurn[0] = turn;
+            }
+
+            @Override
+            public void cancel() {
+            }
+        });
+
+        model.startNewRound();
+        assertEquals(0, scheduledDelay[0]);
+
+        long before = System.nanoTime();
+        scheduledTurn[0].run();
+        long budget = thinking.deadline - before;
+        assertTrue(budget >= 400_000_000L && budget < 500_000_000L);
+    }
+
+    /**
+     * Ensures the chosen move changes the game only when the scheduler hands it back,
+     * and that a move handed back after the game has moved on is ignored.
+     */
+    @Test
+    public void testMoveAppliedWhenDecisionReturns() {
+        ArrayList<String> names = new ArrayList<>(Arrays.asList("Bot 1", "Bot 2"));
+        ArrayList<Boolean> aiList = new ArrayList<>(Arrays.asList(true, true));
+        UNO_Model model = new UNO_Model(2, names, aiList, 4L);
+        Player bot = model.getPlayers().get(0);
+        bot.setAiStrategy(new ThinkingAIStrategy(0));
+
+        Runnable[] scheduledTurn = new Runnable[1];
+        java.util.function.IntSupplier[] decision = new java.util.function.IntSupplier[1];
+        java.util.function.IntConsumer[] apply = new java.util.function.IntConsumer[1];
+        model.setAIScheduler(new AITurnScheduler() {
+            @Override
+            public void schedule(int delayMilliseconds, Runnable turn) {
+                scheduledTurn[0] = turn;
+            }
+
+            @Override
+            public void decide(java.util.function.IntSupplier d, java.util.function.IntConsumer a,
+                               java.util.function.Consumer<RuntimeException> failed) {
+                decision[0] = d;
+                apply[0] = a;
+            }
+
+            @Override
+            public void cancel() {
+            }
+        });
+
+        model.startNewRound();
+        scheduledTurn[0].run();
+        int handSize = bot.handSize();
+        int choice = decision[0].getAsInt();
+        assertEquals(handSize, bot.handSize()); // deciding does not play
+
+        apply[0].accept(choice);
+        assertEquals(handSize + 1, bot.handSize()); // the fake draws
+
+        // A move for a turn that no longer exists is dropped
+        model.startNewRound();
+        handSize = bot.handSize();
+        apply[0].accept(choice);
+        assertEquals(handSize, bot.handSize());
+    }
+
+    /**
+     * Ensures the strategy decides on a copy of the game, so the game may change while it thinks.
+     */
+    @Test
+    public void testDecisionWorksOnCopy() {
+        ArrayList<String> names = new ArrayList<>(Arrays.asList("Bot 1", "Bot 2"));
+        ArrayList<Boolean> aiList = new ArrayList<>(Arrays.asList(true, true));
+        UNO_Model model = new UNO_Model(2, names, aiList, 4L);
+        Player bot = model.getPlayers().get(0);
+        ThinkingAIStrategy strategy = new ThinkingAIStrategy(0);
+        bot.setAiStrategy(strategy);
+
+        Runnable[] scheduledTurn = new Runnable[1];
+        java.util.function.IntSupplier[] decision = new java.util.function.IntSupplier[1];
+        model.setAIScheduler(new AITurnScheduler() {
+            @Override
+            public void schedule(int delayMilliseconds, Runnable turn) {
+                scheduledTurn[0] = turn;
+            }
+
+            @Override
+            public void decide(java.util.function.IntSupplier d, java.util.function.IntConsumer a,
+                               java.util.function.Consumer<RuntimeException> failed) {
+                decision[0] = d;
+            }
+
+            @Override
+            public void cancel() {
+            }
+        });
+
+        model.startNewRound();
+        scheduledTurn[0].run();
+        List<Card> handWhenAsked = new ArrayList<>(bot.getHand());
+        model.startNewRound(); // the game changes before the decision runs
+        decision[0].getAsInt();
+
+        assertNotSame(model, strategy.model);
+        assertNotSame(bot, strategy.player);
+        assertEquals(handWhenAsked.size(), strategy.player.handSize());
+        for (int i = 0; i < handWhenAsked.size(); i++) {
+            assertEquals(handWhenAsked.get(i).getId(), strategy.player.getCardInHand(i + 1).getId());
+        }
+    }
+
+    /**
+     * Fake AI that records the deadline, player and game it is given.
+     */
+    private static class ThinkingAIStrategy extends TestAIStrategy {
+        private long deadline;
+        private Player player;
+        private UNO_Model model;
+
+        ThinkingAIStrategy(int delay) {
+            setDelayMilliseconds(delay);
+        }
+
+        @Override
+        public int chooseCard(Player p, Card top, UNO_Model model, long deadlineNanos) {
+            deadline = deadlineNanos;
+            this.player = p;
+            this.model = model;
+            return 0;
+        }
+
+        @Override
+        public boolean usesThinkingTime() {
+            return true;
+        }
+    }
+
     /**
      * Fake predictable AI for testing the AIStrategy contract.
      */
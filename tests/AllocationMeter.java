@@ -0,0 +1,75 @@
+import java.lang.management.ManagementFactory;
+
+import static org.junit.Assume.assumeTrue;
+
+/**
+ * Measures the heap allocated by the calling thread, for the tests that check a
+ * hot path allocates nothing once the JIT has compiled it. A test is skipped if
+ * the JVM cannot count allocated bytes per thread.
+ */
+class AllocationMeter {
+    private final com.sun.management.ThreadMXBean threads;
+    private final long thread;
+    private long started;
+    private long bytes;
+
+    /**
+     * Creates a meter for the current thread.
+     */
+    AllocationMeter() {
+        threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        assumeTrue(threads.isThreadAllocatedMemorySupported());
+        threads.setThreadAllocatedMemoryEnabled(true);
+        thread = Thread.currentThread().threadId();
+        threads.getThreadAllocatedBytes(thread); // the first reading may allocate
+    }
+
+    /**
+     * Runs code often enough to let the JIT compile it and the collections it fills reach their working size.
+     *
+     * @param times the number of runs
+     * @param code the code
+     */
+    void warmUp(int times, Runnable code) {
+        for (int i = 0; i < times; i++) {
+            code.run();
+        }
+    }
+
+    /**
+     * Starts counting.
+     */
+    void start() {
+        started = threads.getThreadAllocatedBytes(thread);
+    }
+
+    /**
+     * Stops counting, adding the bytes allocated since {@link #start()} to the total.
+     */
+    void stop() {
+        bytes += threads.getThreadAllocatedBytes(thread) - started;
+    }
+
+    /**
+     * Runs code and adds what it allocates to the total.
+     *
+     * @param times the number of runs
+     * @param code the code
+     */
+    void measure(int times, Runnable code) {
+        start();
+        for (int i = 0; i < times; i++) {
+            code.run();
+        }
+        stop();
+    }
+
+    /**
+     * Returns the bytes allocated while counting.
+     *
+     * @return the total
+     */
+    long getBytes() {
+        return bytes;
+    }
+}
@@ -66,6 +66,54 @@ public class BasicAIStrategyTest {
         assertEquals(CardColor.RED, chosen);
     }
 
+    /**
+     * Ensures a tie between colors goes to the one the card tracker has seen more of.
+     */
+    @Test
+    public void testWildColorTieGoesToColorLeastLikelyHeld() {
+        Card top = new TestCard(CardColor.GREEN, CardType.ONE);
+        player.drawCardToHand(new TestCard(CardColor.WILD, CardType.WILD));
+        player.drawCardToHand(new TestCard(CardColor.RED, CardType.THREE));
+        player.drawCardToHand(new TestCard(CardColor.BLUE, CardType.FIVE));
+
+        // Two blue cards are on the pile, so fewer blue cards are left for the opponents
+        int played = 0;
+        for (int id = 0; id < CardIds.CARD_COUNT && played < 2; id++) {
+            if (CardIds.color(id, true) == CardColor.BLUE) {
+                model.getCardTracker().cardPlayed(id);
+                played++;
+            }
+        }
+
+        assertEquals(1, strategy.chooseCard(player, top, model));
+        assertEquals(CardColor.BLUE, strategy.chooseWildColor(player, true));
+        // The pick is used once; asking again without a card falls back to declaration order
+        assertEquals(CardColor.RED, strategy.chooseWildColor(player, true));
+    }
+
+    /**
+     * Ensures the tie-break also applies to a wild card that kept the color chosen
+     * when it was last played, as a wild card reshuffled back into the deck does.
+     */
+    @Test
+    public void testTieBreakAppliesToPreviouslyColoredWild() {
+        Card top = new TestCard(CardColor.GREEN, CardType.ONE);
+        player.drawCardToHand(new TestCard(CardColor.RED, CardType.WILD)); // colored red when it was played before
+        player.drawCardToHand(new TestCard(CardColor.RED, CardType.THREE));
+        player.drawCardToHand(new TestCard(CardColor.BLUE, CardType.FIVE));
+
+        int played = 0;
+        for (int id = 0; id < CardIds.CARD_COUNT && played < 2; id++) {
+            if (CardIds.color(id, true) == CardColor.BLUE) {
+                model.getCardTracker().cardPlayed(id);
+                played++;
+            }
+        }
+
+        assertEquals(1, strategy.chooseCard(player, top, model));
+        assertEquals(CardColor.BLUE, strategy.chooseWildColor(player, true));
+    }
+
     /**
      * Ensures the fallback default color is used when no colored cards exist.
      */
@@ -0,0 +1,95 @@
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Tests that the card atlas packs the card images into one file and reads them back.
+ */
+public class CardAtlasTest {
+    private Path root;
+
+    @Before
+    public void setUp() throws Exception {
+        root = Files.createTempDirectory("uno_atlas");
+        root.toFile().deleteOnExit();
+        writeImage("light/red/2.png", 4, 6);
+        writeImage("dark/teal/15.png", 3, 5);
+    }
+
+    /**
+     * Writes a blank image into the asset folder.
+     *
+     * @param name the path under the asset folder
+     * @param width the image width
+     * @param height the image height
+     */
+    private void writeImage(String name, int width, int height) throws IOException {
+        File image = root.resolve(name).toFile();
+        image.getParentFile().mkdirs();
+        ImageIO.write(new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB), "png", image);
+        image.deleteOnExit();
+    }
+
+    /**
+     * Tests that every image written to the atlas can be read back from the mapped file.
+     */
+    @Test
+    public void testWriteAndLoad() throws Exception {
+        Path file = root.resolve(CardAtlas.FILE_NAME);
+        assertEquals(2, CardAtlas.write(root, file));
+        file.toFile().deleteOnExit();
+
+        CardAtlas atlas = CardAtlas.load(file);
+        assertEquals(2, atlas.size());
+        BufferedImage image = atlas.getImage("dark/teal/15.png");
+        assertEquals(3, image.getWidth());
+        assertEquals(5, image.getHeight());
+        assertNull(atlas.getImage("dark/teal/14.png"));
+    }
+
+    /**
+     * Tests that an atlas can be read from memory, as it is when loaded from a jar.
+     */
+    @Test
+    public void testReadFromMemory() throws Exception {
+        Path file = root.resolve(CardAtlas.FILE_NAME);
+        CardAtlas.write(root, file);
+        file.toFile().deleteOnExit();
+
+        CardAtlas atlas = CardAtlas.read(ByteBuffer.wrap(Files.readAllBytes(file)));
+        assertEquals(4, atlas.getImage("light/red/2.png").getWidth());
+    }
+
+    /**
+     * Tests that data that is not an atlas is rejected.
+     */
+    @Test(expected = IOException.class)
+    public void testRejectsOtherData() throws Exception {
+        CardAtlas.read(ByteBuffer.wrap(new byte[]{1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12}));
+    }
+
+    /**
+     * Tests that the image cache reads from the atlas, so the image files are no longer needed.
+     */
+    @Test
+    public void testCacheReadsFromAtlas() throws Exception {
+        CardAtlas.write(root, root.resolve(CardAtlas.FILE_NAME));
+        root.resolve(CardAtlas.FILE_NAME).toFile().deleteOnExit();
+        Files.delete(root.resolve("light/red/2.png"));
+
+        CardImageCache cache = new CardImageCache(root.toString());
+        BufferedImage image = cache.getImage(true, CardColor.RED, CardType.THREE);
+
+        assertNotNull(image);
+        assertEquals(6, image.getHeight());
+    }
+}
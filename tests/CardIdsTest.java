@@ -0,0 +1,65 @@
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+import java.util.*;
+
+/**
+ * Tests the stable card IDs assigned by the deck and the face tables in CardIds.
+ */
+public class CardIdsTest {
+
+    /**
+     * Tests that a new deck numbers its 112 cards 0 – 111 without gaps or repeats.
+     */
+    @Test
+    public void testDeckAssignsEveryIdOnce() {
+        Deck deck = new Deck();
+        boolean[] seen = new boolean[CardIds.CARD_COUNT];
+
+        assertEquals(CardIds.CARD_COUNT, deck.getDeck().size());
+        for (Card card : deck.getDeck()) {
+            int id = card.getId();
+            assertTrue(id >= 0 && id < CardIds.CARD_COUNT);
+            assertFalse(seen[id]);
+            seen[id] = true;
+        }
+    }
+
+    /**
+     * Tests that the tables report the same faces as the card objects on both sides.
+     */
+    @Test
+    public void testTablesMatchCards() {
+        for (Card card : new Deck().getDeck()) {
+            int id = card.getId();
+            assertEquals(card.getColor(), CardIds.color(id, true));
+            assertEquals(card.getType(), CardIds.type(id, true));
+
+            card.flip();
+            assertEquals(card.getColor(), CardIds.color(id, false));
+            assertEquals(card.getType(), CardIds.type(id, false));
+        }
+    }
+
+    /**
+     * Tests that an ID names the same physical card in every deck, whatever the shuffle.
+     */
+    @Test
+    public void testIdsAreStableAcrossDecks() {
+        Map<Integer, String> first = new HashMap<>();
+        for (Card card : new Deck().getDeck()) {
+            first.put(card.getId(), card.getClass().getSimpleName() + card.getColor() + card.getType());
+        }
+        for (Card card : new Deck().getDeck()) {
+            assertEquals(first.get(card.getId()), card.getClass().getSimpleName() + card.getColor() + card.getType());
+        }
+    }
+
+    /**
+     * Tests that cards made outside a deck have no ID.
+     */
+    @Test
+    public void testCardOutsideDeckHasNoId() {
+        assertEquals(CardIds.NO_CARD, new WildCard().getId());
+    }
+}
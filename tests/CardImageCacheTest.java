@@ -0,0 +1,142 @@
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.nio.file.Files;
+import java.util.concurrent.*;
+
+/**
+ * Tests that the card image cache reads every image file at most once.
+ */
+public class CardImageCacheTest {
+    private CardImageCache cache;
+    private File root;
+
+    @Before
+    public void setUp() throws Exception {
+        root = Files.createTempDirectory("uno_assets").toFile();
+        root.deleteOnExit();
+        File image = new File(root, "light/red/2.png");
+        image.getParentFile().mkdirs();
+        ImageIO.write(new BufferedImage(4, 6, BufferedImage.TYPE_INT_ARGB), "png", image);
+        image.deleteOnExit();
+
+        cache = new CardImageCache(root.getPath());
+    }
+
+    /**
+     * Tests that the second lookup of an image is a hit returning the same image.
+     */
+    @Test
+    public void testImageIsDecodedOnce() {
+        BufferedImage first = cache.getImage(true, CardColor.RED, CardType.THREE);
+        BufferedImage second = cache.getImage(new NumberCard(CardColor.RED, CardColor.TEAL, CardType.THREE));
+
+        assertNotNull(first);
+        assertSame(first, second);
+        assertEquals(1, cache.getMisses());
+        assertEquals(1, cache.getHits());
+    }
+
+    /**
+     * Tests that an image that cannot be read is not read again.
+     */
+    @Test
+    public void testMissingImageIsRemembered() {
+        assertNull(cache.getImage(false, CardColor.TEAL, CardType.ONE));
+        assertNull(cache.getImage(false, CardColor.TEAL, CardType.ONE));
+
+        assertEquals(1, cache.getMisses());
+        assertEquals(1, cache.getHits());
+    }
+
+    /**
+     * Tests that threads asking for the same image at once decode it only once.
+     */
+    @Test
+    public void testConcurrentLookupsDecodeOnce() throws Exception {
+        ExecutorService pool = Executors.newFixedThreadPool(8);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            Future<?>[] futures = new Future<?>[8];
+            for (int i = 0; i < futures.length; i++) {
+                futures[i] = pool.submit(() -> {
+                    start.await();
+                    for (int j = 0; j < 100; j++) {
+                        assertNotNull(cache.getImage(true, CardColor.RED, CardType.THREE));
+                    }
+                    return null;
+                });
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            pool.shutdown();
+        }
+
+        assertEquals(1, cache.getMisses());
+        assertEquals(799, cache.getHits());
+    }
+
+    /**
+     * Tests that the image path follows the asset folder layout.
+     */
+    @Test
+    public void testImagePath() {
+        String path = cache.imagePath(false, CardColor.PURPLE, CardType.DRAW_FIVE);
+        assertTrue(path.endsWith("/dark/purple/10.png"));
+    }
+
+    /**
+     * Tests that clearing the cache forgets the images and the counters.
+     */
+    @Test
+    public void testClear() {
+        cache.getImage(true, CardColor.RED, CardType.THREE);
+        cache.clear();
+
+        assertEquals(0, cache.getMisses());
+        cache.getImage(true, CardColor.RED, CardType.THREE);
+        assertEquals(1, cache.getMisses());
+    }
+
+    /**
+     * Tests that preloading decodes each existing image once, so later lookups are hits.
+     */
+    @Test
+    public void testPreloadDecodesExistingImages() throws Exception {
+        ExecutorService pool = Executors.newFixedThreadPool(4);
+        try {
+            assertEquals(Integer.valueOf(1), cache.preload(pool).get(10, TimeUnit.SECONDS));
+        } finally {
+            pool.shutdown();
+        }
+
+        assertEquals(1, cache.getMisses());
+        assertNotNull(cache.getImage(true, CardColor.RED, CardType.THREE));
+        assertEquals(1, cache.getMisses());
+        assertEquals(1, cache.getHits());
+        assertEquals(Integer.valueOf(0), cache.preload().get(10, TimeUnit.SECONDS));
+    }
+
+    /**
+     * Tests that an image file that cannot be decoded is not counted by preloading.
+     */
+    @Test
+    public void testPreloadDoesNotCountCorruptImages() throws Exception {
+        File corrupt = new File(root, CardImageCache.entryName(true, CardColor.BLUE, CardType.THREE));
+        corrupt.getParentFile().mkdirs();
+        Files.write(corrupt.toPath(), new byte[]{1, 2, 3});
+        corrupt.deleteOnExit();
+
+        assertEquals(Integer.valueOf(1), cache.preload().get(10, TimeUnit.SECONDS));
+        assertEquals(2, cache.getMisses());
+        assertNull(cache.getImage(true, CardColor.BLUE, CardType.THREE));
+    }
+}
@@ -0,0 +1,213 @@
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+import java.util.*;
+
+/**
+ * Tests that the card tracker counts seen cards and penalty draws, and stays in
+ * step with the game through plays, reshuffles, undo and redo.
+ */
+public class CardTrackerTest {
+    private UNO_Model game;
+    private Player player1;
+    private Player player2;
+
+    @Before
+    public void setUp() {
+        ArrayList<String> names = new ArrayList<>(Arrays.asList("Alice", "Bob"));
+        ArrayList<Boolean> playerIsAI = new ArrayList<>(Arrays.asList(false, false));
+        game = new UNO_Model(2, names, playerIsAI, 12L);
+        game.startNewRound();
+        player1 = game.getPlayers().get(0);
+        player2 = game.getPlayers().get(1);
+    }
+
+    /**
+     * Returns the ID of a card with the given light side.
+     *
+     * @param color the light side color
+     * @param type the light side type
+     * @return the card ID
+     */
+    private static int id(CardColor color, CardType type) {
+        for (int id = 0; id < CardIds.CARD_COUNT; id++) {
+            if (CardIds.color(id, true) == color && CardIds.type(id, true) == type) {
+                return id;
+            }
+        }
+        throw new AssertionError("No such card");
+    }
+
+    /**
+     * Moves a card of the given type and light color out of the deck or the second player's hand.
+     *
+     * @param color the light side color
+     * @param type the light side type
+     * @return the card, now in no hand or deck
+     */
+    private Card take(CardColor color, CardType type) {
+        for (Card card : game.getPlayDeck().getDeck()) {
+            if (card.lightColor == color && card.lightType == type) {
+                game.getPlayDeck().getDeck().remove(card);
+                return card;
+            }
+        }
+        for (Card card : player2.getHand()) {
+            if (card.lightColor == color && card.lightType == type) {
+                player2.removeCard(card);
+                return card;
+            }
+        }
+        throw new AssertionError("No such card");
+    }
+
+    /**
+     * Checks that the tracker's seen cards are exactly the cards of the play pile.
+     *
+     * @param model the game
+     */
+    private static void assertMatchesPile(UNO_Model model) {
+        CardTracker tracker = model.getCardTracker();
+        assertEquals(model.getPlayPileSize(), tracker.getSeenCount());
+
+        int redLight = 0;
+        for (Card card : model.getPlayPile()) {
+            assertTrue(tracker.isSeen(card.getId()));
+            if (CardIds.color(card.getId(), true) == CardColor.RED) {
+                redLight++;
+            }
+        }
+        assertEquals(redLight, tracker.getSeenCount(CardColor.RED, true));
+        assertEquals(CardIds.CARD_COUNT - model.getPlayPileSize(),
+                Long.bitCount(tracker.getUnknownWord(0)) + Long.bitCount(tracker.getUnknownWord(1)));
+    }
+
+    /**
+     * Tests the counts kept for seen cards, by color, type and both, on both sides.
+     */
+    @Test
+    public void testCountsSeenCards() {
+        CardTracker tracker = new CardTracker(2);
+        int redFive = id(CardColor.RED, CardType.FIVE);
+        int total = tracker.getUnknownCount(CardColor.RED, CardType.FIVE, true);
+
+        tracker.cardPlayed(redFive);
+        tracker.cardPlayed(redFive); // already seen
+        assertTrue(tracker.isSeen(redFive));
+        assertEquals(1, tracker.getSeenCount());
+        assertEquals(1, tracker.getSeenCount(CardColor.RED, true));
+        assertEquals(1, tracker.getSeenCount(CardType.FIVE, true));
+        assertEquals(1, tracker.getSeenCount(CardColor.RED, CardType.FIVE, true));
+        assertEquals(1, tracker.getSeenCount(CardIds.color(redFive, false), false));
+        assertEquals(total - 1, tracker.getUnknownCount(CardColor.RED, CardType.FIVE, true));
+        assertEquals(CardIds.CARD_COUNT - 1, tracker.getUnknownCount());
+        assertEquals(0, tracker.getUnknownWord(redFive >>> 6) & (1L << redFive));
+
+        tracker.cardUnplayed(redFive);
+        assertFalse(tracker.isSeen(redFive));
+        assertEquals(0, tracker.getSeenCount(CardColor.RED, true));
+        assertEquals(CardIds.CARD_COUNT, tracker.getUnknownCount());
+    }
+
+    /**
+     * Returns whether the tracker knows a seat holds a card from a penalty draw.
+     *
+     * @param tracker the tracker
+     * @param seat the seat
+     * @param id the card ID
+     * @return true if the card is among the seat's known penalty cards
+     */
+    private static boolean isKnownInHand(CardTracker tracker, int seat, int id) {
+        return (tracker.getPenaltyHandWord(seat, id >>> 6) & (1L << id)) != 0;
+    }
+
+    /**
+     * Tests that a draw card counts as a penalty for its victim, and that undo and redo follow.
+     */
+    @Test
+    public void testPenaltyDrawUndoRedo() {
+        CardColor color = game.topCard().lightColor;
+        Card drawOne = take(color, CardType.DRAW_ONE);
+        player1.drawCardToHand(drawOne);
+        CardTracker tracker = game.getCardTracker();
+
+        assertTrue(game.playCard(player1.handSize()));
+        assertEquals(1, tracker.getPenaltyCards(1));
+        assertEquals(0, tracker.getPenaltyCards(0));
+        assertTrue(tracker.isSeen(drawOne.getId()));
+        Player victim = game.getPlayers().get(1);
+        int penalty = victim.getCardInHand(victim.handSize()).getId();
+        assertTrue(isKnownInHand(tracker, 1, penalty));
+        assertMatchesPile(game);
+
+        game.setHasActedThisTurn(false);
+        game.undo();
+        assertEquals(0, tracker.getPenaltyCards(1));
+        assertFalse(isKnownInHand(tracker, 1, penalty));
+        assertFalse(tracker.isSeen(drawOne.getId()));
+        assertMatchesPile(game);
+
+        game.redo();
+        assertEquals(1, tracker.getPenaltyCards(1));
+        assertTrue(isKnownInHand(tracker, 1, penalty));
+        assertMatchesPile(game);
+
+        // Once played, the penalty card is on the pile rather than in the hand
+        tracker.cardPlayed(penalty);
+        assertFalse(isKnownInHand(tracker, 1, penalty));
+    }
+
+    /**
+     * Tests that a reshuffle forgets the pile under the top card, and that undoing it remembers the pile again.
+     */
+    @Test
+    public void testReshuffleUndo() {
+        ArrayList<Card> deck = game.getPlayDeck().getDeck();
+        CardTracker tracker = game.getCardTracker();
+        // Lay the whole deck on the pile as if it had been played
+        while (deck.size() > 0) {
+            Card card = deck.remove(deck.size() - 1);
+            game.getPlayPile().push(card);
+            tracker.cardPlayed(card.getId());
+        }
+        Card top = game.topCard();
+        assertMatchesPile(game);
+
+        game.drawCard();
+        assertEquals(1, tracker.getSeenCount());
+        assertTrue(tracker.isSeen(top.getId()));
+        assertMatchesPile(game);
+        assertEquals(0, tracker.getPenaltyCards(0)); // drawing for oneself is no penalty
+
+        game.undo();
+        assertMatchesPile(game);
+    }
+
+    /**
+     * Tests that the tracker matches the play pile after every turn of simulated games.
+     */
+    @Test
+    public void testFollowsSimulatedGames() {
+        List<AIStrategy> lineup = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            lineup.add(new BasicAIStrategy(0));
+        }
+        HeadlessGameEngine engine = new HeadlessGameEngine(lineup, 5L);
+        UNO_Model model = engine.getModel();
+        int penalties = 0;
+
+        for (int round = 0; round < 10; round++) {
+            model.startNewRound();
+            assertMatchesPile(model);
+            while (!model.isRoundOver()) {
+                engine.playTurn();
+                assertMatchesPile(model);
+            }
+            for (int seat = 0; seat < 3; seat++) {
+                penalties += model.getCardTracker().getPenaltyCards(seat);
+            }
+        }
+        assertTrue(penalties > 0);
+    }
+}
@@ -0,0 +1,106 @@
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+import java.util.*;
+
+/**
+ * Tests the compact, bitset-based game state used by simulations.
+ */
+public class CompactGameStateTest {
+    private UNO_Model game;
+
+    @Before
+    public void setUp() {
+        ArrayList<String> names = new ArrayList<>(Arrays.asList("Alice", "Bob", "Carol"));
+        ArrayList<Boolean> isAI = new ArrayList<>(Arrays.asList(false, false, false));
+        game = new UNO_Model(3, names, isAI, 7L);
+        game.startNewRound();
+    }
+
+    /**
+     * Tests that a captured state holds the same cards in the same places as the model.
+     */
+    @Test
+    public void testCaptureMatchesModel() {
+        CompactGameState state = CompactGameState.capture(game);
+
+        for (int seat = 0; seat < 3; seat++) {
+            Player player = game.getPlayers().get(seat);
+            assertEquals(player.handSize(), state.handSize(seat));
+            for (Card card : player.getHand()) {
+                assertTrue(state.hasCard(seat, card.getId()));
+            }
+        }
+
+        ArrayList<Card> deck = game.getPlayDeck().getDeck();
+        assertEquals(deck.size(), state.deckSize());
+        for (int i = 0; i < deck.size(); i++) {
+            assertEquals(deck.get(i).getId(), state.deckCard(i));
+        }
+
+        assertEquals(game.getPlayPileSize(), state.pileSize());
+        assertEquals(game.topCard().getId(), state.topCard());
+        assertEquals(game.topCard().getColor().ordinal(), state.getTopColor());
+        assertTrue(state.isLightSide());
+        assertTrue(state.isClockwise());
+    }
+
+    /**
+     * Tests that walking a hand bitset visits every card exactly once in ID order.
+     */
+    @Test
+    public void testNextCardInHandWalksHand() {
+        CompactGameState state = new CompactGameState(2);
+        int[] ids = {0, 5, 63, 64, 100, 111};
+        for (int id : ids) {
+            state.addToHand(1, id);
+        }
+
+        List<Integer> walked = new ArrayList<>();
+        for (int id = state.nextCardInHand(1, 0); id >= 0; id = state.nextCardInHand(1, id + 1)) {
+            walked.add(id);
+        }
+        assertEquals(Arrays.asList(0, 5, 63, 64, 100, 111), walked);
+        assertEquals(CardIds.NO_CARD, state.nextCardInHand(0, 0));
+
+        state.removeFromHand(1, 64);
+        assertFalse(state.hasCard(1, 64));
+        assertEquals(5, state.handSize(1));
+    }
+
+    /**
+     * Tests that a copy is independent of the state it was copied from.
+     */
+    @Test
+    public void testCopyIsIndependent() {
+        CompactGameState state = CompactGameState.capture(game);
+        CompactGameState copy = state.copy();
+
+        int drawn = copy.drawFromDeck();
+        copy.addToHand(0, drawn);
+        copy.setCurrentPlayer(2);
+
+        assertEquals(state.deckSize() - 1, copy.deckSize());
+        assertFalse(state.hasCard(0, drawn));
+        assertEquals(0, state.getCurrentPlayer());
+
+        copy.copyFrom(state);
+        assertEquals(state.deckSize(), copy.deckSize());
+        assertEquals(state.handSize(0), copy.handSize(0));
+        assertEquals(state.getCurrentPlayer(), copy.getCurrentPlayer());
+    }
+
+    /**
+     * Tests that the 112 cards are all accounted for across hands, deck and pile.
+     */
+    @Test
+    public void testCardsAreConserved() {
+        CompactGameState state = CompactGameState.capture(game);
+        int total = state.deckSize() + state.pileSize();
+        for (int seat = 0; seat < 3; seat++) {
+            total += state.handSize(seat);
+        }
+        assertEquals(CardIds.CARD_COUNT, total);
+    }
+}
@@ -0,0 +1,226 @@
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+import java.util.*;
+
+/**
+ * Tests that the compact rules play turns the same way as the game model.
+ */
+public class CompactRulesTest {
+    private CompactGameState state;
+    private SplittableRandom random;
+
+    @Before
+    public void setUp() {
+        state = new CompactGameState(3);
+        random = new SplittableRandom(11);
+        // Fill the deck with number cards so that penalty draws have something to take
+        for (int id = 0; id < CardIds.CARD_COUNT; id++) {
+            if (CardIds.type(id, true).isNumberCard() && CardIds.color(id, true) == CardColor.GREEN) {
+                state.addToDeck(id);
+            }
+        }
+    }
+
+    /**
+     * Returns the ID of a card with the given light side, that is not in the deck.
+     *
+     * @param color the light side color
+     * @param type the light side type
+     * @return the card ID
+     */
+    private int card(CardColor color, CardType type) {
+        for (int id = 0; id < CardIds.CARD_COUNT; id++) {
+            if (CardIds.color(id, true) == color && CardIds.type(id, true) == type) {
+                return id;
+            }
+        }
+        throw new AssertionError("No such card");
+    }
+
+    /**
+     * Puts a card on the play pile and makes its color the one in play.
+     *
+     * @param id the card ID
+     */
+    private void setTop(int id) {
+        state.pushPile(id);
+        state.setTopColor(CardIds.colorOrdinal(id, state.isLightSide()));
+    }
+
+    /**
+     * Tests that playable cards are listed once, wild cards once per color, and draw only when nothing plays.
+     */
+    @Test
+    public void testLegalMoves() {
+        setTop(card(CardColor.RED, CardType.FIVE));
+        int redThree = card(CardColor.RED, CardType.THREE);
+        int wild = card(CardColor.WILD, CardType.WILD);
+        state.addToHand(0, redThree);
+        state.addToHand(0, wild);
+        state.addToHand(0, card(CardColor.BLUE, CardType.TWO));
+
+        int[] moves = new int[CompactRules.MAX_MOVES];
+        assertEquals(5, CompactRules.legalMoves(state, moves));
+        Set<Integer> listed = new HashSet<>();
+        for (int i = 0; i < 5; i++) {
+            listed.add(moves[i]);
+        }
+        assertTrue(listed.contains(CompactRules.playMove(redThree, -1)));
+        assertTrue(listed.contains(CompactRules.playMove(wild, CardColor.GREEN.ordinal())));
+
+        state.setCurrentPlayer(1);
+        state.addToHand(1, card(CardColor.BLUE, CardType.SEVEN));
+        assertEquals(1, CompactRules.legalMoves(state, moves));
+        assertEquals(CompactRules.DRAW, moves[0]);
+    }
+
+    /**
+     * Tests that a move's card and color can be read back.
+     */
+    @Test
+    public void testMoveEncoding() {
+        int move = CompactRules.playMove(111, CardColor.TEAL.ordinal());
+        assertEquals(111, CompactRules.cardOf(move));
+        assertEquals(CardColor.TEAL.ordinal(), CompactRules.colorOf(move));
+        assertEquals(-1, CompactRules.colorOf(CompactRules.playMove(0, -1)));
+        assertTrue(move < CompactRules.MOVE_LIMIT);
+    }
+
+    /**
+     * Tests that a Draw One gives the next player a card and skips them.
+     */
+    @Test
+    public void testDrawOneSkipsNextPlayer() {
+        setTop(card(CardColor.RED, CardType.FIVE));
+        int drawOne = card(CardColor.RED, CardType.DRAW_ONE);
+        state.addToHand(0, drawOne);
+        state.addToHand(0, card(CardColor.BLUE, CardType.TWO));
+
+        assertEquals(CompactRules.NO_WINNER, CompactRules.apply(state, CompactRules.playMove(drawOne, -1), random));
+        assertEquals(1, state.handSize(1));
+        assertEquals(2, state.getCurrentPlayer());
+        assertEquals(drawOne, state.topCard());
+    }
+
+    /**
+     * Tests that a reverse changes direction with three players.
+     */
+    @Test
+    public void testReverseChangesDirection() {
+        setTop(card(CardColor.RED, CardType.FIVE));
+        int reverse = card(CardColor.RED, CardType.LIGHT_REVERSE);
+        state.addToHand(0, reverse);
+        state.addToHand(0, card(CardColor.BLUE, CardType.TWO));
+
+        CompactRules.apply(state, CompactRules.playMove(reverse, -1), random);
+        assertFalse(state.isClockwise());
+        assertEquals(2, state.getCurrentPlayer());
+    }
+
+    /**
+     * Tests that a flip turns every card over and the flip card's dark color comes into play.
+     */
+    @Test
+    public void testFlipChangesSide() {
+        setTop(card(CardColor.RED, CardType.FIVE));
+        int flip = card(CardColor.RED, CardType.FLIP);
+        state.addToHand(0, flip);
+        state.addToHand(0, card(CardColor.BLUE, CardType.TWO));
+
+        CompactRules.apply(state, CompactRules.playMove(flip, -1), random);
+        assertFalse(state.isLightSide());
+        assertEquals(CardIds.colorOrdinal(flip, false), state.getTopColor());
+        assertEquals(1, state.getCurrentPlayer());
+    }
+
+    /**
+     * Tests that a wild card sets the chosen color and that playing the last card wins.
+     */
+    @Test
+    public void testWildColorAndWin() {
+        setTop(card(CardColor.RED, CardType.FIVE));
+        int wild = card(CardColor.WILD, CardType.WILD);
+        state.addToHand(0, wild);
+        state.addToHand(1, card(CardColor.BLUE, CardType.NINE));
+
+        assertEquals(0, CompactRules.apply(state, CompactRules.playMove(wild, CardColor.BLUE.ordinal()), random));
+        assertEquals(CardColor.BLUE.ordinal(), state.getTopColor());
+        assertEquals(9, CompactRules.handPoints(state, 1));
+    }
+
+    /**
+     * Tests that drawing from an empty deck reshuffles the play pile under the top card.
+     */
+    @Test
+    public void testDrawReshufflesPile() {
+        state.clearDeck();
+        int bottom = card(CardColor.BLUE, CardType.ONE);
+        state.pushPile(bottom);
+        setTop(card(CardColor.RED, CardType.FIVE));
+        state.addToHand(0, card(CardColor.BLUE, CardType.TWO));
+
+        CompactRules.apply(state, CompactRules.DRAW, random);
+        assertTrue(state.hasCard(0, bottom));
+        assertEquals(1, state.pileSize());
+        assertEquals(1, state.getCurrentPlayer());
+    }
+
+    /**
+     * Tests that the compact rules follow a seeded game of basic AI players turn by turn.
+     */
+    @Test
+    public void testMatchesModelTurnByTurn() {
+        List<AIStrategy> lineup = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            lineup.add(new BasicAIStrategy(0));
+        }
+        HeadlessGameEngine engine = new HeadlessGameEngine(lineup, 99L);
+        UNO_Model model = engine.getModel();
+        int compared = 0;
+
+        for (int round = 0; round < 20; round++) {
+            model.startNewRound();
+            while (!model.isRoundOver()) {
+                if (model.getPlayDeck().getDeck().size() < 20) {
+                    engine.playTurn(); // a reshuffle would be random on both sides
+                    continue;
+                }
+
+                Player player = model.getCurrentPlayer();
+                Card top = model.topCard();
+                int choice = player.getAIStrategy().chooseCard(player, top, model);
+                int move = CompactRules.DRAW;
+                if (choice > 0) {
+                    Card card = player.getCardInHand(choice);
+                    boolean wild = card.getType().isWildCard();
+                    move = CompactRules.playMove(card.getId(),
+                            wild ? player.getAIStrategy().chooseWildColor(player, top.getActiveSide()).ordinal() : -1);
+                }
+
+                CompactGameState expected = CompactGameState.capture(model);
+                int winner = CompactRules.apply(expected, move, random);
+                engine.playTurn();
+                CompactGameState actual = CompactGameState.capture(model);
+
+                for (int seat = 0; seat < 3; seat++) {
+                    assertEquals(expected.handWord(seat, 0), actual.handWord(seat, 0));
+                    assertEquals(expected.handWord(seat, 1), actual.handWord(seat, 1));
+                }
+                assertEquals(expected.deckSize(), actual.deckSize());
+                assertEquals(expected.topCard(), actual.topCard());
+                assertEquals(expected.getTopColor(), actual.getTopColor());
+                assertEquals(expected.isLightSide(), actual.isLightSide());
+                assertEquals(expected.isClockwise(), actual.isClockwise());
+                if (winner == CompactRules.NO_WINNER) {
+                    assertEquals(expected.getCurrentPlayer(), actual.getCurrentPlayer());
+                } else {
+                    assertEquals(model.getPlayers().get(winner), model.getRoundWinningPlayer());
+                }
+                compared++;
+            }
+        }
+        assertTrue(compared > 200);
+    }
+}
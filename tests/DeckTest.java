@@ -90,4 +90,47 @@ public class DeckTest {
         }
         assertFalse(sameOrder);
     }
+
+    /**
+     * Tests that decks shuffled by generators with the same seed hold the same cards in the same order.
+     */
+    @Test
+    public void testSameSeedGivesSameOrder() {
+        Deck first = new Deck(new SplittableRandom(42));
+        Deck second = new Deck(new SplittableRandom(42));
+        first.shuffle();
+        second.shuffle();
+
+        assertEquals(first.getDeck().size(), second.getDeck().size());
+        for (int i = 0; i < first.getDeck().size(); i++) {
+            Card a = first.getDeck().get(i);
+            Card b = second.getDeck().get(i);
+            assertEquals(a.getClass(), b.getClass());
+            assertEquals(a.getColor(), b.getColor());
+            assertEquals(a.getType(), b.getType());
+        }
+    }
+
+    /**
+     * Tests that every card of a deck follows the deck's game side, while a single card can still be flipped.
+     */
+    @Test
+    public void testCardsFollowGameSide() {
+        GameSide side = deck.getGameSide();
+        side.flip();
+        for (Card card : deck.getDeck()) {
+            assertFalse(card.getActiveSide());
+        }
+
+        Card single = deck.getDeck().get(0);
+        single.flip();
+        assertTrue(single.getActiveSide());
+        single.setActiveSide(false);
+        assertFalse(single.getActiveSide());
+
+        side.flip();
+        for (Card card : deck.getDeck()) {
+            assertTrue(card.getActiveSide());
+        }
+    }
 }
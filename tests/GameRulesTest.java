@@ -0,0 +1,342 @@
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.random.RandomGenerator;
+
+/**
+ * Tests that the pure rules never change a state, always give the same result,
+ * can be shared between threads and agree with the game model.
+ */
+public class GameRulesTest {
+    private GameState start;
+
+    @Before
+    public void setUp() {
+        ArrayList<String> names = new ArrayList<>(Arrays.asList("Alice", "Bob", "Cara"));
+        ArrayList<Boolean> playerIsAI = new ArrayList<>(Arrays.asList(true, true, true));
+        UNO_Model game = new UNO_Model(3, names, playerIsAI, 6L);
+        game.setHeadless(true);
+        game.startNewRound();
+        start = game.getGameState();
+    }
+
+    /**
+     * Plays a round out from a state, always choosing a legal move by the given generator.
+     *
+     * @param state the first state
+     * @param random picks the moves
+     * @return the last state, with the round won or after 2000 turns
+     */
+    private static GameState playOut(GameState state, Random random) {
+        int[] moves = new int[CompactRules.MAX_MOVES];
+        for (int turn = 0; turn < 2000 && !state.isRoundOver(); turn++) {
+            int count = GameRules.legalMoves(state, moves);
+            state = GameRules.apply(state, moves[random.nextInt(count)]);
+        }
+        return state;
+    }
+
+    /**
+     * Tests that applying a move returns a new state and leaves the old one as it was.
+     */
+    @Test
+    public void testApplyDoesNotChangeState() {
+        GameState before = GameState.of(start.toCompact(), start.getSeed());
+        int[] moves = new int[CompactRules.MAX_MOVES];
+        GameRules.legalMoves(start, moves);
+
+        GameState after = GameRules.apply(start, moves[0]);
+        assertEquals(before, start);
+        assertNotEquals(start, after);
+        assertNotEquals(start.getCurrentPlayer(), after.getCurrentPlayer());
+    }
+
+    /**
+     * Tests that the same state and moves always lead to the same state, reshuffles included.
+     */
+    @Test
+    public void testApplyIsDeterministic() {
+        GameState first = playOut(start, new Random(3));
+        GameState second = playOut(start, new Random(3));
+        assertEquals(first, second);
+        assertTrue(first.isRoundOver());
+        assertEquals(0, first.handSize(first.getWinner()));
+    }
+
+    /**
+     * Tests that threads playing out from one shared state all reach the same result.
+     */
+    @Test
+    public void testConcurrentPlayoutsAgree() throws Exception {
+        ExecutorService pool = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<GameState>> results = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                results.add(pool.submit(() -> playOut(start, new Random(11))));
+            }
+            GameState expected = playOut(start, new Random(11));
+            for (Future<GameState> result : results) {
+                assertEquals(expected, result.get(10, TimeUnit.SECONDS));
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    /**
+     * Tests that illegal moves and moves after the round is won are refused.
+     */
+    @Test
+    public void testRejectsInvalidMoves() {
+        int notHeld = CompactRules.playMove(start.topCard(), -1); // the top card is in no hand
+        assertFalse(GameRules.isLegal(start, notHeld));
+        try {
+            GameRules.apply(start, notHeld);
+            fail("Expected IllegalArgumentException");
+        } catch (IllegalArgumentException expected) {
+            // refused
+        }
+
+        GameState over = playOut(start, new Random(5));
+        assertEquals(0, GameRules.legalMoves(over, new int[CompactRules.MAX_MOVES]));
+        try {
+            GameRules.apply(over, CompactRules.DRAW);
+            fail("Expected IllegalStateException");
+        } catch (IllegalStateException expected) {
+            // refused
+        }
+    }
+
+    /**
+     * Tests that the pure rules follow the game model's turns in a simulated game.
+     */
+    @Test
+    public void testMatchesModel() {
+        List<AIStrategy> lineup = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            lineup.add(new BasicAIStrategy(0));
+        }
+        HeadlessGameEngine engine = new HeadlessGameEngine(lineup, 17L);
+        UNO_Model model = engine.getModel();
+        int compared = 0;
+
+        for (int round = 0; round < 5; round++) {
+            model.startNewRound();
+            while (!model.isRoundOver()) {
+                if (model.getPlayDeck().getDeck().size() < 20) {
+                    engine.playTurn(); // a reshuffle would be random on both sides
+                    continue;
+                }
+
+                Player player = model.getCurrentPlayer();
+                Card top = model.topCard();
+                int choice = player.getAIStrategy().chooseCard(player, top, model);
+                int move = CompactRules.DRAW;
+                if (choice > 0) {
+                    Card card = player.getCardInHand(choice);
+                    boolean wild = card.getType().isWildCard();
+                    move = CompactRules.playMove(card.getId(),
+                            wild ? player.getAIStrategy().chooseWildColor(player, top.getActiveSide()).ordinal() : -1);
+                }
+
+                GameState expected = GameRules.apply(model.getGameState(), move);
+                engine.playTurn();
+                GameState actual = model.getGameState();
+
+                assertEquals(expected.isRoundOver(), actual.isRoundOver());
+                for (int seat = 0; seat < 3; seat++) {
+                    assertEquals(expected.handSize(seat), actual.handSize(seat));
+                }
+                assertEquals(expected.topCard(), actual.topCard());
+                assertEquals(expected.getTopColor(), actual.getTopColor());
+                if (!actual.isRoundOver()) {
+                    assertEquals(expected.getCurrentPlayer(), actual.getCurrentPlayer());
+                    assertEquals(expected.isClockwise(), actual.isClockwise());
+                }
+                compared++;
+            }
+        }
+        assertTrue(compared > 50);
+    }
+
+    /**
+     * Tests that the pure rules agree with the game model on every turn of many seeded
+     * games between random players: the same legal moves, and after each move exactly
+     * the same position (hands, deck, pile, turn order, side, color and winner).
+     * A reshuffle orders the deck by each side's own generator, so those turns are
+     * compared as far as the new order allows.
+     */
+    @Test
+    public void testMatchesModelInRandomGames() {
+        int[] modelMoves = new int[CardIds.CARD_COUNT];
+        int[] ruleMoves = new int[CompactRules.MAX_MOVES];
+        int turns = 0;
+        int reshuffles = 0;
+
+        for (long seed = 0; seed < 200; seed++) {
+            int seats = 2 + (int) (seed % 3);
+            List<AIStrategy> lineup = new ArrayList<>();
+            for (int i = 0; i < seats; i++) {
+                lineup.add(new RandomMoveStrategy());
+            }
+            HeadlessGameEngine engine = new HeadlessGameEngine(lineup, seed);
+            UNO_Model model = engine.getModel();
+
+            while (!model.isGameOver()) {
+                model.startNewRound();
+                for (int turn = 0; turn < HeadlessGameEngine.DEFAULT_MAX_TURNS && !model.isRoundOver(); turn++) {
+                    GameState before = GameState.of(model, seed * 1000 + turn);
+                    Player player = model.getCurrentPlayer();
+
+                    // Both sides offer the same cards to play, or only a draw
+                    int count = model.legalMoves(modelMoves);
+                    long[] offered = new long[2];
+                    for (int i = 0; i < count; i++) {
+                        if (modelMoves[i] != UNO_Model.DRAW_MOVE) {
+                            int id = player.getCardInHand(modelMoves[i]).getId();
+                            offered[id >>> 6] |= 1L << id;
+                        }
+                    }
+                    long[] allowed = new long[2];
+                    int ruleCount = GameRules.legalMoves(before, ruleMoves);
+                    for (int i = 0; i < ruleCount; i++) {
+                        if (ruleMoves[i] != CompactRules.DRAW) {
+                            int id = CompactRules.cardOf(ruleMoves[i]);
+                            allowed[id >>> 6] |= 1L << id;
+                        }
+                    }
+                    assertArrayEquals(allowed, offered);
+
+                    RandomMoveStrategy strategy = (RandomMoveStrategy) player.getAIStrategy();
+                    engine.playTurn();
+                    GameState expected = GameRules.apply(before, strategy.lastMove());
+                    GameState actual = GameState.of(model, expected.getSeed());
+
+                    if (actual.pileSize() < before.pileSize()) {
+                        assertSameAfterReshuffle(before, expected, actual);
+                        reshuffles++;
+                    } else {
+                        assertEquals(expected, actual);
+                    }
+                    turns++;
+                }
+            }
+        }
+        assertTrue(turns > 10_000);
+        assertTrue(reshuffles > 0);
+    }
+
+    /**
+     * Checks that two positions agree after a turn that reshuffled the deck. The
+     * new deck order is random on each side, so cards drawn after the reshuffle,
+     * and how many a Wild Draw Color card makes someone draw, may differ. The
+     * pile, the turn flow and the cards out of sight must not.
+     *
+     * @param before the position before the turn
+     * @param expected the position from the pure rules
+     * @param actual the position of the game model
+     */
+    private static void assertSameAfterReshuffle(GameState before, GameState expected, GameState actual) {
+        CompactGameState a = expected.toCompact();
+        CompactGameState b = actual.toCompact();
+        assertEquals(a.pileSize(), b.pileSize());
+        for (int i = 0; i < a.pileSize(); i++) {
+            assertEquals(a.pileCard(i), b.pileCard(i));
+        }
+        assertEquals(expected.getWinner(), actual.getWinner());
+        assertEquals(a.getCurrentPlayer(), b.getCurrentPlayer());
+        assertEquals(a.isClockwise(), b.isClockwise());
+        assertEquals(a.isLightSide(), b.isLightSide());
+        assertEquals(a.getTopColor(), b.getTopColor());
+
+        long[] hiddenA = new long[2];
+        long[] hiddenB = new long[2];
+        for (int i = 0; i < a.deckSize(); i++) {
+            hiddenA[a.deckCard(i) >>> 6] |= 1L << a.deckCard(i);
+        }
+        for (int i = 0; i < b.deckSize(); i++) {
+            hiddenB[b.deckCard(i) >>> 6] |= 1L << b.deckCard(i);
+        }
+        for (int seat = 0; seat < a.getNumPlayers(); seat++) {
+            for (int word = 0; word < 2; word++) {
+                // A hand keeps what it held, except the card played from it
+                long kept = before.compact().handWord(seat, word) & ~pileWord(a, word);
+                assertEquals(kept, a.handWord(seat, word) & kept);
+                assertEquals(kept, b.handWord(seat, word) & kept);
+                hiddenA[word] |= a.handWord(seat, word);
+                hiddenB[word] |= b.handWord(seat, word);
+            }
+        }
+        assertArrayEquals(hiddenA, hiddenB);
+    }
+
+    /**
+     * Returns 64 of the cards on a play pile as a bit mask.
+     *
+     * @param state the position
+     * @param word 0 or 1
+     * @return bit {@code id % 64} set for each card {@code id} on the pile in that word
+     */
+    private static long pileWord(CompactGameState state, int word) {
+        long bits = 0;
+        for (int i = 0; i < state.pileSize(); i++) {
+            if (state.pileCard(i) >>> 6 == word) {
+                bits |= 1L << state.pileCard(i);
+            }
+        }
+        return bits;
+    }
+
+    /**
+     * Plays a random legal move with the generator the game gives it, and remembers
+     * the move in the form the pure rules take.
+     */
+    private static class RandomMoveStrategy implements AIStrategy {
+        private final int[] moves = new int[CardIds.CARD_COUNT];
+        private RandomGenerator random = new SplittableRandom(0);
+        private int cardId;
+        private int color;
+
+        @Override
+        public int chooseCard(Player player, Card topCard, UNO_Model game) {
+            int count = UNO_Model.legalMoves(player, topCard, moves);
+            int move = moves[random.nextInt(count)];
+            cardId = move == UNO_Model.DRAW_MOVE ? -1 : player.getCardInHand(move).getId();
+            color = -1;
+            return move;
+        }
+
+        @Override
+        public CardColor chooseWildColor(Player aiPlayer, boolean isLightSide) {
+            int[] colors = CompactRules.sideColors(isLightSide);
+            color = colors[random.nextInt(colors.length)];
+            return CardColor.values()[color];
+        }
+
+        @Override
+        public void setRandomGenerator(RandomGenerator random) {
+            this.random = random;
+        }
+
+        @Override
+        public int getDelayMilliseconds() {
+            return 0;
+        }
+
+        @Override
+        public void setDelayMilliseconds(int delayMilliseconds) {
+        }
+
+        /**
+         * Returns the move made on the last turn.
+         *
+         * @return the move, as encoded by {@link CompactRules}
+         */
+        int lastMove() {
+            return cardId < 0 ? CompactRules.DRAW : CompactRules.playMove(cardId, color);
+        }
+    }
+}
@@ -0,0 +1,69 @@
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+import java.util.*;
+
+/**
+ * Tests that game states are immutable values.
+ */
+public class GameStateTest {
+    private UNO_Model game;
+
+    @Before
+    public void setUp() {
+        ArrayList<String> names = new ArrayList<>(Arrays.asList("Alice", "Bob", "Cara"));
+        ArrayList<Boolean> playerIsAI = new ArrayList<>(Arrays.asList(true, true, true));
+        game = new UNO_Model(3, names, playerIsAI, 6L);
+        game.setHeadless(true);
+        game.startNewRound();
+    }
+
+    /**
+     * Tests that a captured state describes the game's position.
+     */
+    @Test
+    public void testCapturesModel() {
+        GameState state = game.getGameState();
+        assertEquals(3, state.getNumPlayers());
+        assertEquals(0, state.getCurrentPlayer());
+        assertEquals(7, state.handSize(1));
+        assertEquals(game.topCard().getId(), state.topCard());
+        assertEquals(game.getPlayDeck().getDeck().size(), state.deckSize());
+        assertTrue(state.isClockwise());
+        assertTrue(state.isLightSide());
+        assertFalse(state.isRoundOver());
+        assertTrue(state.hasCard(2, game.getPlayers().get(2).getCardInHand(1).getId()));
+    }
+
+    /**
+     * Tests that changing a copy taken from a state leaves the state alone.
+     */
+    @Test
+    public void testCopiesAreIndependent() {
+        GameState state = game.getGameState();
+        CompactGameState copy = state.toCompact();
+        copy.clearHand(0);
+        copy.setCurrentPlayer(2);
+
+        assertEquals(7, state.handSize(0));
+        assertEquals(0, state.getCurrentPlayer());
+        assertEquals(game.getGameState(), state);
+    }
+
+    /**
+     * Tests that equal positions are equal values with equal hash codes, and that different ones are not.
+     */
+    @Test
+    public void testEquality() {
+        GameState a = game.getGameState();
+        GameState b = game.getGameState();
+        assertEquals(a, b);
+        assertEquals(a.hashCode(), b.hashCode());
+
+        assertNotEquals(a, GameState.of(a.toCompact(), a.getSeed() + 1));
+        CompactGameState turned = a.toCompact();
+        turned.setCurrentPlayer(1);
+        assertNotEquals(a, GameState.of(turned, a.getSeed()));
+    }
+}
@@ -0,0 +1,189 @@
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+import javax.swing.*;
+import java.util.*;
+
+/**
+ * Tests that the hand panel keeps the components of unchanged cards between updates.
+ */
+public class HandPanelTest {
+    private UNO_Model game;
+    private Player player;
+    private JButton drawButton;
+    private HandPanel panel;
+
+    @Before
+    public void setUp() {
+        ArrayList<String> names = new ArrayList<>(Arrays.asList("Alice", "Bob"));
+        ArrayList<Boolean> playerIsAI = new ArrayList<>(Arrays.asList(false, false));
+        game = new UNO_Model(2, names, playerIsAI, 3L);
+        game.startNewRound();
+        player = game.getCurrentPlayer();
+
+        drawButton = new JButton("Draw Card");
+        panel = new HandPanel(drawButton);
+    }
+
+    /**
+     * Tests that the panel shows the header followed by one component per card, in hand order.
+     */
+    @Test
+    public void testShowsHandInOrder() {
+        panel.showHand(player, game, null);
+
+        assertEquals(player.handSize() + 1, panel.getComponentCount());
+        assertSame(drawButton, panel.getComponent(0));
+        for (int i = 0; i < player.handSize(); i++) {
+            CardComponent cardComp = (CardComponent) panel.getComponent(i + 1);
+            assertSame(player.getHand().get(i), cardComp.getCard());
+            assertEquals(i + 1, cardComp.getCardIndex());
+        }
+    }
+
+    /**
+     * Tests that showing the same hand again creates no components.
+     */
+    @Test
+    public void testUnchangedHandReusesComponents() {
+        panel.showHand(player, game, null);
+        CardComponent first = (CardComponent) panel.getComponent(1);
+        int created = panel.getComponentsCreated();
+
+        panel.showHand(player, game, null);
+
+        assertEquals(created, panel.getComponentsCreated());
+        assertSame(first, panel.getComponent(1));
+    }
+
+    /**
+     * Tests that drawing a card creates only its component and removing one shifts the rest.
+     */
+    @Test
+    public void testOnlyChangedCardsAreUpdated() {
+        panel.showHand(player, game, null);
+        int created = panel.getComponentsCreated();
+        CardComponent second = panel.getCardComponent(player.getHand().get(1));
+
+        Card drawn = game.getPlayDeck().drawCardFromDeck();
+        player.drawCardToHand(drawn);
+        panel.showHand(player, game, null);
+        assertEquals(created + 1, panel.getComponentsCreated());
+        assertSame(drawn, ((CardComponent) panel.getComponent(player.handSize())).getCard());
+
+        Card removed = player.getCardInHand(1);
+        player.removeCard(1);
+        panel.showHand(player, game, null);
+
+        assertEquals(created + 1, panel.getComponentsCreated());
+        assertEquals(player.handSize() + 1, panel.getComponentCount());
+        assertNull(panel.getCardComponent(removed));
+        assertSame(second, panel.getComponent(1));
+        assertEquals(1, second.getCardIndex());
+    }
+
+    /**
+     * Tests that switching to another player's hand replaces every card component.
+     */
+    @Test
+    public void testOtherPlayersHandReplacesComponents() {
+        panel.showHand(player, game, null);
+        Player other = game.getPlayers().get(1);
+
+        panel.showHand(other, game, null);
+
+        assertEquals(other.handSize() + 1, panel.getComponentCount());
+        for (Card card : player.getHand()) {
+            assertNull(panel.getCardComponent(card));
+        }
+    }
+
+    /**
+     * Tests that the playable flags follow the top card when it changes.
+     */
+    @Test
+    public void testPlayableFlagsAreRefreshed() {
+        Card card = player.getCardInHand(1);
+        game.getPlayPile().push(new NumberCard(card.getColor() == CardColor.WILD ? CardColor.RED : card.getColor(),
+                CardColor.TEAL, CardType.NINE));
+        panel.showHand(player, game, null);
+        assertTrue(panel.getCardComponent(card).isPlayable());
+
+        game.getPlayPile().push(new NumberCard(CardColor.GREEN, CardColor.PINK, CardType.SIX));
+        panel.showHand(player, game, null);
+
+        assertEquals(game.isPlayable(card), panel.getCardComponent(card).isPlayable());
+    }
+
+    /**
+     * Puts the panel in a scroll pane whose viewport shows about five cards, and deals
+     * the player a hand of the given size.
+     *
+     * @param handSize the number of cards in the hand
+     * @return the viewport showing the panel
+     */
+    private JViewport showLargeHand(int handSize) {
+        JScrollPane scrollPane = new JScrollPane(panel);
+        JViewport viewport = scrollPane.getViewport();
+        viewport.setSize(5 * (CardComponent.CARD_WIDTH + 5), 160);
+
+        player.clearHand();
+        for (int i = 0; i < handSize; i++) {
+            player.drawCardToHand(new NumberCard(CardColor.BLUE, CardColor.PINK, CardType.values()[i % 9]));
+        }
+        panel.showHand(player, game, null);
+        panel.setSize(panel.getPreferredSize());
+        viewport.setViewSize(panel.getPreferredSize());
+        panel.doLayout();
+        return viewport;
+    }
+
+    /**
+     * Tests that a large hand in a scroll pane only gets components for the visible cards.
+     */
+    @Test
+    public void testLargeHandOnlyMaterializesVisibleCards() {
+        showLargeHand(150);
+
+        assertTrue(panel.getPreferredSize().width > 150 * CardComponent.CARD_WIDTH);
+        assertTrue(panel.getComponentCount() < 15);
+        assertSame(player.getHand().get(0), ((CardComponent) panel.getComponent(1)).getCard());
+        assertNull(panel.getCardComponentAt(100));
+    }
+
+    /**
+     * Tests that scrolling moves the window of components and recycles the ones that left it.
+     */
+    @Test
+    public void testScrollingMovesWindowAndRecyclesComponents() {
+        JViewport viewport = showLargeHand(150);
+        int created = panel.getComponentsCreated();
+
+        for (int x = 0; x < panel.getWidth() - viewport.getWidth(); x += 37) {
+            viewport.setViewPosition(new java.awt.Point(x, 0));
+        }
+        viewport.setViewPosition(new java.awt.Point(100 * (CardComponent.CARD_WIDTH + 5), 0));
+
+        assertTrue(panel.getComponentCount() < 15);
+        assertNotNull(panel.getCardComponentAt(100));
+        assertNull(panel.getCardComponentAt(0));
+        assertEquals(101, panel.getCardComponentAt(100).getCardIndex());
+        assertSame(player.getHand().get(100), panel.getCardComponentAt(100).getCard());
+        assertTrue(panel.getComponentsCreated() <= created + 5);
+    }
+
+    /**
+     * Tests that a disabled hand stays disabled for cards scrolled into view.
+     */
+    @Test
+    public void testDisabledHandAppliesToCardsScrolledIntoView() {
+        JViewport viewport = showLargeHand(150);
+        panel.setHandEnabled(false);
+
+        viewport.setViewPosition(new java.awt.Point(50 * (CardComponent.CARD_WIDTH + 5), 0));
+
+        assertFalse(panel.getCardComponentAt(50).getUseButton().isEnabled());
+    }
+}
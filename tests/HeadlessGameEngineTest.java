@@ -0,0 +1,169 @@
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+import java.util.*;
+
+/**
+ * Tests that the headless engine plays complete AI rounds synchronously.
+ */
+public class HeadlessGameEngineTest {
+    private HeadlessGameEngine engine;
+
+    @Before
+    public void setUp() {
+        List<AIStrategy> lineup = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            lineup.add(new BasicAIStrategy(750));
+        }
+        engine = new HeadlessGameEngine(lineup);
+    }
+
+    /**
+     * Tests that the engine puts the model in headless mode with one AI per strategy.
+     */
+    @Test
+    public void testEngineCreatesHeadlessAIGame() {
+        UNO_Model model = engine.getModel();
+        assertTrue(model.isHeadless());
+        assertEquals(3, model.getPlayers().size());
+        for (Player p : model.getPlayers()) {
+            assertTrue(p.isPlayerAI());
+        }
+    }
+
+    /**
+     * Tests that a round is played to the end without waiting for any timer.
+     */
+    @Test
+    public void testPlayRoundFinishesWithWinner() {
+        Player winner = null;
+        for (int i = 0; i < 20 && winner == null; i++) {
+            winner = engine.playRound();
+        }
+
+        assertNotNull(winner);
+        assertTrue(engine.getModel().isRoundOver());
+        assertEquals(0, winner.handSize());
+        assertTrue(engine.getTurnsPlayed() > 0);
+    }
+
+    /**
+     * Tests that no cards are lost or duplicated while a round is simulated.
+     */
+    @Test
+    public void testCardsAreConservedDuringRound() {
+        UNO_Model model = engine.getModel();
+        model.startNewRound();
+
+        for (int turn = 0; turn < 200 && !model.isRoundOver(); turn++) {
+            engine.playTurn();
+
+            int total = model.getPlayDeck().getDeck().size() + model.getPlayPileSize();
+            for (Player p : model.getPlayers()) {
+                total += p.handSize();
+            }
+            assertEquals(112, total);
+        }
+    }
+
+    /**
+     * Tests that a stalled round stops at the configured turn limit.
+     */
+    @Test
+    public void testRoundStopsAtTurnLimit() {
+        engine.setMaxTurns(1);
+        engine.playRound();
+        assertEquals(1, engine.getTurnsPlayed());
+    }
+
+    /**
+     * Tests that many rounds can be simulated back to back.
+     */
+    @Test
+    public void testManyRoundsRunHeadless() {
+        int finished = 0;
+        for (int i = 0; i < 200; i++) {
+            if (engine.playRound() != null) {
+                finished++;
+            }
+        }
+        assertTrue(finished > 150);
+    }
+
+    /**
+     * Tests that two engines started from the same seed play exactly the same rounds.
+     */
+    @Test
+    public void testSameSeedReplaysRounds() {
+        List<AIStrategy> lineupA = new ArrayList<>();
+        List<AIStrategy> lineupB = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            lineupA.add(new BasicAIStrategy(0));
+            lineupB.add(new BasicAIStrategy(0));
+        }
+        HeadlessGameEngine a = new HeadlessGameEngine(lineupA, 1234L);
+        HeadlessGameEngine b = new HeadlessGameEngine(lineupB, 1234L);
+
+        for (int round = 0; round < 20; round++) {
+            Player winnerA = a.playRound();
+            Player winnerB = b.playRound();
+            assertEquals(a.getTurnsPlayed(), b.getTurnsPlayed());
+            assertEquals(a.getModel().getPlayers().indexOf(winnerA), b.getModel().getPlayers().indexOf(winnerB));
+            for (int seat = 0; seat < 3; seat++) {
+                assertEquals(a.getModel().getPlayers().get(seat).getScore(),
+                        b.getModel().getPlayers().get(seat).getScore());
+            }
+        }
+    }
+
+    /**
+     * Plays warm-up rounds, then measures the heap allocated by the turns of further rounds.
+     * Dealing a new round creates a fresh deck and is not counted; only the turns are.
+     *
+     * @param seats the number of AI seats
+     * @param seed the game's seed
+     * @return the average number of bytes allocated per turn
+     */
+    private static double bytesPerTurn(int seats, long seed) {
+        AllocationMeter meter = new AllocationMeter();
+        List<AIStrategy> lineup = new ArrayList<>();
+        for (int i = 0; i < seats; i++) {
+            lineup.add(new BasicAIStrategy(0));
+        }
+        HeadlessGameEngine engine = new HeadlessGameEngine(lineup, seed);
+        UNO_Model model = engine.getModel();
+        meter.warmUp(1500, engine::playRound);
+
+        long turns = 0;
+        for (int round = 0; round < 300; round++) {
+            model.startNewRound();
+            for (int turn = 0; turn < HeadlessGameEngine.DEFAULT_MAX_TURNS && !model.isRoundOver(); turn++) {
+                meter.start();
+                engine.playTurn();
+                meter.stop();
+                turns++;
+            }
+        }
+        return (double) meter.getBytes() / turns;
+    }
+
+    /**
+     * Tests that simulated turns of a two-player game allocate nothing once warmed up.
+     * A status message, event or boxed value built on every turn costs well over a byte per turn.
+     */
+    @Test
+    public void testTwoPlayerTurnsAllocateNothing() {
+        double perTurn = bytesPerTurn(2, 21L);
+        assertTrue("allocated " + perTurn + " bytes per turn", perTurn < 1.0);
+    }
+
+    /**
+     * Tests that simulated turns of a four-player game allocate nothing once warmed up.
+     */
+    @Test
+    public void testFourPlayerTurnsAllocateNothing() {
+        double perTurn = bytesPerTurn(4, 22L);
+        assertTrue("allocated " + perTurn + " bytes per turn", perTurn < 1.0);
+    }
+}
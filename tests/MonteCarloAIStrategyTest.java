@@ -0,0 +1,306 @@
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Supplier;
+
+/**
+ * Tests that the Monte Carlo search AI picks legal, repeatable and sensible moves.
+ */
+public class MonteCarloAIStrategyTest {
+    private UNO_Model game;
+    private Player player1;
+
+    @Before
+    public void setUp() {
+        ArrayList<String> names = new ArrayList<>(Arrays.asList("Alice", "Bob"));
+        ArrayList<Boolean> playerIsAI = new ArrayList<>(Arrays.asList(true, true));
+        game = new UNO_Model(2, names, playerIsAI, 5L);
+        game.setHeadless(true);
+        game.startNewRound();
+        player1 = game.getPlayers().get(0);
+    }
+
+    /**
+     * Moves a card with the given light side out of the deck or the other hand.
+     *
+     * @param color the light side color
+     * @param type the light side type
+     * @return the card, now in no hand or deck
+     */
+    private Card take(CardColor color, CardType type) {
+        for (Card card : game.getPlayDeck().getDeck()) {
+            if (card.lightColor == color && card.lightType == type) {
+                game.getPlayDeck().getDeck().remove(card);
+                return card;
+            }
+        }
+        Player other = game.getPlayers().get(1);
+        for (Card card : other.getHand()) {
+            if (card.lightColor == color && card.lightType == type) {
+                other.removeCard(card);
+                other.drawCardToHand(game.getPlayDeck().drawCardFromDeck());
+                return card;
+            }
+        }
+        throw new AssertionError("No such card");
+    }
+
+    /**
+     * Puts a card on the play pile, telling the card tracker as a real play would.
+     *
+     * @param card the card
+     */
+    private void layOnPile(Card card) {
+        game.getPlayPile().push(card);
+        game.getCardTracker().cardPlayed(card.getId());
+    }
+
+    /**
+     * Creates a seeded strategy.
+     *
+     * @param iterations the iteration budget
+     * @param threads the number of trees
+     * @param seed the seed of its generator
+     * @return the strategy
+     */
+    private MonteCarloAIStrategy strategy(int iterations, int threads, long seed) {
+        MonteCarloAIStrategy strategy = new MonteCarloAIStrategy(0, iterations, threads);
+        strategy.setRandomGenerator(new SplittableRandom(seed));
+        return strategy;
+    }
+
+    /**
+     * Tests that the chosen card is in the hand and playable, or that the AI draws only when nothing plays.
+     */
+    @Test
+    public void testChoosesLegalMove() {
+        MonteCarloAIStrategy strategy = strategy(200, 1, 1L);
+        int choice = strategy.chooseCard(player1, game.topCard(), game);
+
+        if (game.hasPlayableHand(player1)) {
+            assertTrue(choice >= 1 && choice <= player1.handSize());
+            assertTrue(game.isPlayable(player1.getCardInHand(choice)));
+        } else {
+            assertEquals(0, choice);
+        }
+    }
+
+    /**
+     * Tests that the same seed and budget choose the same move, also with parallel trees.
+     */
+    @Test
+    public void testSameSeedSameChoice() {
+        ForkJoinPool pool = new ForkJoinPool(3);
+        try {
+            for (long seed = 0; seed < 5; seed++) {
+                MonteCarloAIStrategy a = strategy(300, 3, seed);
+                MonteCarloAIStrategy b = strategy(300, 3, seed);
+                a.setPool(pool);
+                b.setPool(pool);
+                assertEquals(a.chooseCard(player1, game.topCard(), game), b.chooseCard(player1, game.topCard(), game));
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    /**
+     * Tests that with two players the AI plays a skip first when that lets it play out its hand.
+     */
+    @Test
+    public void testPlaysSkipBeforeLastCard() {
+        layOnPile(take(CardColor.RED, CardType.FIVE));
+        Card redThree = take(CardColor.RED, CardType.THREE);
+        Card skip = take(CardColor.RED, CardType.SKIP);
+        for (Card card : new ArrayList<>(player1.getHand())) {
+            player1.removeCard(card);
+            game.getPlayDeck().addCard(card);
+        }
+        player1.drawCardToHand(redThree);
+        player1.drawCardToHand(skip);
+
+        int choice = strategy(1000, 2, 3L).chooseCard(player1, game.topCard(), game);
+        assertSame(skip, player1.getCardInHand(choice));
+    }
+
+    /**
+     * Tests that the color picked with a wild card belongs to the active side.
+     */
+    @Test
+    public void testWildColorIsOnActiveSide() {
+        MonteCarloAIStrategy strategy = strategy(200, 1, 2L);
+        layOnPile(take(CardColor.RED, CardType.FIVE));
+        player1.drawCardToHand(take(CardColor.WILD, CardType.WILD));
+
+        strategy.chooseCard(player1, game.topCard(), game);
+        assertTrue(strategy.chooseWildColor(player1, true).isLight());
+        assertTrue(strategy.chooseWildColor(player1, false).isDark());
+    }
+
+    /**
+     * Tests that the search AI beats the basic AI over a short head-to-head tournament.
+     */
+    @Test
+    public void testBeatsBasicAI() {
+        List<Supplier<AIStrategy>> lineup = new ArrayList<>();
+        lineup.add(() -> new MonteCarloAIStrategy(0, 100, 1));
+        lineup.add(() -> new BasicAIStrategy(0));
+
+        TournamentResult result = new Tournament(lineup, 21L).run(300);
+        assertEquals(0, result.getStalledGames());
+        assertTrue(result.getWinRate(0) > result.getWinRate(1));
+    }
+
+    /**
+     * Tests that a timed search stops at its deadline and searches more when given more time.
+     */
+    @Test
+    public void testDeadlineBoundsSearch() {
+        layOnPile(take(CardColor.RED, CardType.FIVE));
+        player1.drawCardToHand(take(CardColor.RED, CardType.THREE));
+        player1.drawCardToHand(take(CardColor.RED, CardType.SKIP));
+        MonteCarloAIStrategy strategy = strategy(100, 1, 4L);
+
+        long start = System.nanoTime();
+        int choice = strategy.chooseCard(player1, game.topCard(), game, start + 50_000_000L);
+        long elapsed = System.nanoTime() - start;
+        int shortSearch = strategy.getLastIterations();
+
+        assertTrue(game.isPlayable(player1.getCardInHand(choice)));
+        assertTrue(elapsed < 500_000_000L);
+        assertTrue(shortSearch > 100); // not limited by the fixed budget
+
+        strategy.setReuseIterations(shortSearch + 1); // do not answer from the table
+        strategy.chooseCard(player1, game.topCard(), game, System.nanoTime() + 200_000_000L);
+        assertTrue(strategy.getLastIterations() > shortSearch);
+    }
+
+    /**
+     * Tests that a deadline that has already passed still yields a legal move.
+     */
+    @Test
+    public void testExpiredDeadlineStillChoosesMove() {
+        MonteCarloAIStrategy strategy = strategy(100, 2, 6L);
+        int choice = strategy.chooseCard(player1, game.topCard(), game, System.nanoTime() - 1);
+
+        if (game.hasPlayableHand(player1)) {
+            assertTrue(game.isPlayable(player1.getCardInHand(choice)));
+        } else {
+            assertEquals(0, choice);
+        }
+    }
+
+    /**
+     * Tests that interrupting the thread waiting for a move ends a long timed search early.
+     */
+    @Test
+    public void testInterruptStopsSearch() {
+        layOnPile(take(CardColor.RED, CardType.FIVE));
+        player1.drawCardToHand(take(CardColor.RED, CardType.THREE));
+        player1.drawCardToHand(take(CardColor.RED, CardType.SKIP));
+        MonteCarloAIStrategy strategy = strategy(100, 2, 8L);
+
+        long start = System.nanoTime();
+        Thread.currentThread().interrupt();
+        int choice;
+        try {
+            choice = strategy.chooseCard(player1, game.topCard(), game, start + 10_000_000_000L);
+        } finally {
+            Thread.interrupted();
+        }
+
+        assertTrue(System.nanoTime() - start < 2_000_000_000L);
+        assertTrue(game.isPlayable(player1.getCardInHand(choice)));
+    }
+
+    /**
+     * Tests that a position decided before is answered from the transposition table without searching.
+     */
+    @Test
+    public void testReusesRememberedDecision() {
+        MonteCarloAIStrategy strategy = strategy(300, 1, 9L);
+        layOnPile(take(CardColor.RED, CardType.FIVE));
+        player1.drawCardToHand(take(CardColor.RED, CardType.THREE));
+        player1.drawCardToHand(take(CardColor.RED, CardType.SKIP));
+        game.rehash();
+
+        int first = strategy.chooseCard(player1, game.topCard(), game);
+        assertTrue(strategy.getLastIterations() > 0);
+        int second = strategy.chooseCard(player1, game.topCard(), game);
+        assertEquals(first, second);
+        assertEquals(0, strategy.getLastIterations());
+
+        // A timed decision that asks for more than the remembered search ran searches again
+        strategy.setReuseIterations(301);
+        strategy.chooseCard(player1, game.topCard(), game, System.nanoTime() + 20_000_000L);
+        assertTrue(strategy.getLastIterations() > 0);
+    }
+
+    /**
+     * Tests that a position met again under a deadline is answered from the table.
+     */
+    @Test
+    public void testTimedDecisionReusesTable() {
+        MonteCarloAIStrategy strategy = strategy(300, 1, 9L);
+        layOnPile(take(CardColor.RED, CardType.FIVE));
+        player1.drawCardToHand(take(CardColor.RED, CardType.THREE));
+        player1.drawCardToHand(take(CardColor.RED, CardType.SKIP));
+        game.rehash();
+
+        int first = strategy.chooseCard(player1, game.topCard(), game, System.nanoTime() + 100_000_000L);
+        assertTrue(strategy.getLastIterations() >= strategy.getReuseIterations());
+        int second = strategy.chooseCard(player1, game.topCard(), game, System.nanoTime() + 100_000_000L);
+        assertEquals(first, second);
+        assertEquals(0, strategy.getLastIterations());
+    }
+
+    /**
+     * Tests that each sampled deal uses exactly the tracker's unknown pool minus the AI's own hand,
+     * and leaves every opponent the penalty cards it is known to hold.
+     */
+    @Test
+    public void testSampledPoolMatchesTracker() {
+        List<AIStrategy> lineup = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            lineup.add(new BasicAIStrategy(0));
+        }
+        HeadlessGameEngine engine = new HeadlessGameEngine(lineup, 11L);
+        UNO_Model model = engine.getModel();
+        model.startNewRound();
+        CardTracker tracker = model.getCardTracker();
+        boolean sawPenalty = false;
+
+        for (int turn = 0; turn < 200 && !model.isRoundOver(); turn++) {
+            Player player = model.getCurrentPlayer();
+            int me = model.getPlayers().indexOf(player);
+            CompactGameState real = CompactGameState.capture(model);
+            CompactGameState sample = MonteCarloAIStrategy.sampleDeal(model, player, turn);
+
+            long[] dealt = new long[2];
+            for (int i = 0; i < sample.deckSize(); i++) {
+                dealt[sample.deckCard(i) >>> 6] |= 1L << sample.deckCard(i);
+            }
+            for (int seat = 0; seat < 3; seat++) {
+                assertEquals(real.handSize(seat), sample.handSize(seat));
+                for (int word = 0; word < 2; word++) {
+                    if (seat == me) {
+                        assertEquals(real.handWord(seat, word), sample.handWord(seat, word));
+                    } else {
+                        long penalties = tracker.getPenaltyHandWord(seat, word);
+                        sawPenalty |= penalties != 0;
+                        assertEquals(penalties, sample.handWord(seat, word) & penalties);
+                        dealt[word] |= sample.handWord(seat, word);
+                    }
+                }
+            }
+            for (int word = 0; word < 2; word++) {
+                assertEquals(tracker.getUnknownWord(word) & ~real.handWord(me, word), dealt[word]);
+            }
+            engine.playTurn();
+        }
+        assertTrue(sawPenalty);
+    }
+}
@@ -0,0 +1,62 @@
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+import java.util.*;
+
+/**
+ * Tests the precomputed playability table against the UNO Flip! matching rules.
+ */
+public class PlayabilityTest {
+
+    /**
+     * Tests every pair of real deck cards on both sides against the color-or-type rule.
+     */
+    @Test
+    public void testTableMatchesRulesForWholeDeck() {
+        ArrayList<Card> cards = new Deck().getDeck();
+        for (boolean light : new boolean[] {true, false}) {
+            for (Card card : cards) {
+                card.setActiveSide(light);
+            }
+            for (Card card : cards) {
+                for (Card top : cards) {
+                    boolean expected = card.getType().isWildCard()
+                            || card.getColor() == top.getColor()
+                            || card.getType() == top.getType();
+                    assertEquals(expected, Playability.isPlayable(card, top));
+                    assertEquals(expected, card.playableOnTop(top));
+                }
+            }
+        }
+    }
+
+    /**
+     * Tests that the chosen color of a wild card on top is matched by color.
+     */
+    @Test
+    public void testChosenWildColorIsMatched() {
+        WildCard wild = new WildCard();
+        wild.setActiveSide(true);
+        Card red = new NumberCard(CardColor.RED, CardColor.TEAL, CardType.FIVE);
+        Card blue = new NumberCard(CardColor.BLUE, CardColor.ORANGE, CardType.FIVE);
+
+        assertFalse(Playability.isPlayable(red, wild));
+
+        wild.applyChosenColor(CardColor.RED, true);
+        assertTrue(Playability.isPlayable(red, wild));
+        assertFalse(Playability.isPlayable(blue, wild));
+    }
+
+    /**
+     * Tests that keys built from ordinals match keys built from enums and cards.
+     */
+    @Test
+    public void testKeysAgree() {
+        Card card = new SkipCard(CardColor.GREEN, CardColor.PINK);
+        int key = Playability.key(CardColor.GREEN, CardType.SKIP);
+
+        assertEquals(key, Playability.key(card));
+        assertEquals(key, Playability.key(CardColor.GREEN.ordinal(), CardType.SKIP.ordinal()));
+        assertTrue(key >= 0 && key < Playability.KEY_COUNT);
+    }
+}
@@ -219,4 +219,90 @@ public class PlayerTest {
         assertEquals(0, p.handSize());
         assertEquals(0, p.getScore());
     }
-}
\ No newline at end of file
+
+    /**
+     * Tests that the hand index counts colors and types on both sides as cards come and go.
+     */
+    @Test
+    public void testHandIndexTracksDrawAndRemove() {
+        Player p = new Player("Index", false);
+        p.drawCardToHand(new NumberCard(CardColor.RED, CardColor.TEAL, CardType.FIVE));
+        p.drawCardToHand(new NumberCard(CardColor.RED, CardColor.PINK, CardType.TWO));
+        p.drawCardToHand(new WildCard());
+
+        assertEquals(2, p.colorCount(CardColor.RED, true));
+        assertEquals(1, p.colorCount(CardColor.TEAL, false));
+        assertEquals(1, p.typeCount(CardType.FIVE, true));
+        assertEquals(1, p.typeCount(CardType.DARK_WILD, false));
+        assertEquals(1, p.wildCount(true));
+        assertEquals(0, p.colorCount(CardColor.WILD, true));
+
+        p.removeCard(1);
+        assertEquals(1, p.colorCount(CardColor.RED, true));
+        assertEquals(0, p.typeCount(CardType.FIVE, true));
+
+        p.clearHand();
+        assertEquals(0, p.colorCount(CardColor.RED, true));
+        assertEquals(0, p.wildCount(true));
+    }
+
+    /**
+     * Tests that the index is rebuilt after the hand list is changed directly.
+     */
+    @Test
+    public void testHandIndexFollowsDirectChanges() {
+        Player p = new Player("Direct", false);
+        p.drawCardToHand(new NumberCard(CardColor.BLUE, CardColor.ORANGE, CardType.THREE));
+        assertEquals(1, p.colorCount(CardColor.BLUE, true));
+
+        p.getHand().clear();
+        assertEquals(0, p.colorCount(CardColor.BLUE, true));
+
+        p.getHand().add(new NumberCard(CardColor.GREEN, CardColor.PURPLE, CardType.NINE));
+        assertEquals(1, p.colorCount(CardColor.GREEN, true));
+        assertEquals(1, p.typeCount(CardType.NINE, false));
+    }
+
+    /**
+     * Tests the constant-time playability check against the top card.
+     */
+    @Test
+    public void testHasPlayableCard() {
+        Player p = new Player("Play", false);
+        Card top = new NumberCard(CardColor.YELLOW, CardColor.PINK, CardType.SEVEN);
+        p.drawCardToHand(new NumberCard(CardColor.RED, CardColor.TEAL, CardType.ONE));
+        assertFalse(p.hasPlayableCard(top));
+
+        p.drawCardToHand(new NumberCard(CardColor.BLUE, CardColor.ORANGE, CardType.SEVEN));
+        assertTrue(p.hasPlayableCard(top));
+
+        p.removeCard(2);
+        p.drawCardToHand(new WildDrawCard());
+        assertTrue(p.hasPlayableCard(top));
+
+        top.flip();
+        p.clearHand();
+        p.drawCardToHand(new NumberCard(CardColor.GREEN, CardColor.PINK, CardType.TWO));
+        assertTrue(p.hasPlayableCard(top)); // matches PINK on the dark side
+    }
+
+    /**
+     * Tests that the most common color ignores wild cards and breaks ties by color order.
+     */
+    @Test
+    public void testMostCommonColor() {
+        Player p = new Player("Colors", false);
+        assertNull(p.mostCommonColor(true));
+
+        p.drawCardToHand(new WildCard());
+        assertNull(p.mostCommonColor(true));
+
+        p.drawCardToHand(new NumberCard(CardColor.BLUE, CardColor.ORANGE, CardType.ONE));
+        p.drawCardToHand(new NumberCard(CardColor.RED, CardColor.TEAL, CardType.TWO));
+        assertEquals(CardColor.RED, p.mostCommonColor(true));
+
+        p.drawCardToHand(new NumberCard(CardColor.BLUE, CardColor.TEAL, CardType.THREE));
+        assertEquals(CardColor.BLUE, p.mostCommonColor(true));
+        assertEquals(CardColor.TEAL, p.mostCommonColor(false));
+    }
+}
@@ -0,0 +1,81 @@
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+import java.awt.*;
+import java.awt.geom.AffineTransform;
+import java.awt.image.BufferedImage;
+
+/**
+ * Tests that scaled card images are reused per size and evicted least recently used first.
+ */
+public class ScaledImageCacheTest {
+    private final BufferedImage source = new BufferedImage(400, 560, BufferedImage.TYPE_INT_ARGB);
+
+    /**
+     * Tests that the same size is scaled once and then reused.
+     */
+    @Test
+    public void testScaledImageIsReused() {
+        ScaledImageCache cache = new ScaledImageCache(4);
+
+        BufferedImage first = cache.getScaled(source, 100, 140, null);
+        BufferedImage second = cache.getScaled(source, 100, 140, null);
+
+        assertSame(first, second);
+        assertEquals(100, first.getWidth());
+        assertEquals(140, first.getHeight());
+        assertEquals(1, cache.getMisses());
+        assertEquals(1, cache.getHits());
+    }
+
+    /**
+     * Tests that a new size is a separate entry, as after a resize.
+     */
+    @Test
+    public void testResizeScalesAgain() {
+        ScaledImageCache cache = new ScaledImageCache(4);
+
+        BufferedImage small = cache.getScaled(source, 100, 140, null);
+        BufferedImage large = cache.getScaled(source, 120, 168, null);
+
+        assertNotSame(small, large);
+        assertEquals(2, cache.getMisses());
+    }
+
+    /**
+     * Tests that the least recently used entry is evicted when the cache is full.
+     */
+    @Test
+    public void testLeastRecentlyUsedIsEvicted() {
+        ScaledImageCache cache = new ScaledImageCache(2);
+
+        BufferedImage a = cache.getScaled(source, 10, 14, null);
+        cache.getScaled(source, 20, 28, null);
+        cache.getScaled(source, 10, 14, null); // a is now the most recently used
+        cache.getScaled(source, 30, 42, null); // evicts the 20x28 entry
+
+        assertEquals(2, cache.size());
+        assertSame(a, cache.getScaled(source, 10, 14, null));
+        cache.getScaled(source, 20, 28, null);
+        assertEquals(4, cache.getMisses());
+    }
+
+    /**
+     * Tests that drawing on a scaled screen caches the image at its size in device pixels.
+     */
+    @Test
+    public void testDrawUsesDevicePixels() {
+        ScaledImageCache cache = new ScaledImageCache(4);
+        BufferedImage target = new BufferedImage(200, 280, BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g = target.createGraphics();
+        g.setTransform(AffineTransform.getScaleInstance(2, 2));
+
+        cache.draw(g, source, 0, 0, 100, 140);
+        g.dispose();
+
+        assertEquals(1, cache.getMisses());
+        assertEquals(200, cache.getScaled(source, 200, 280, null).getWidth());
+        assertEquals(1, cache.getHits());
+    }
+}
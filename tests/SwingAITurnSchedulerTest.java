@@ -0,0 +1,96 @@
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+import javax.swing.SwingUtilities;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Tests that the Swing scheduler decides AI moves off the event dispatch thread
+ * and drops the moves of cancelled turns.
+ */
+public class SwingAITurnSchedulerTest {
+
+    /**
+     * Tests that the decision runs on a background thread and its result is applied on the event dispatch thread.
+     */
+    @Test
+    public void testDecidesOffEventThread() throws Exception {
+        SwingAITurnScheduler scheduler = new SwingAITurnScheduler();
+        AtomicBoolean decidedOnEventThread = new AtomicBoolean(true);
+        AtomicBoolean appliedOnEventThread = new AtomicBoolean(false);
+        int[] applied = {-1};
+        CountDownLatch done = new CountDownLatch(1);
+
+        SwingUtilities.invokeAndWait(() -> scheduler.decide(() -> {
+            decidedOnEventThread.set(SwingUtilities.isEventDispatchThread());
+            return 4;
+        }, choice -> {
+            appliedOnEventThread.set(SwingUtilities.isEventDispatchThread());
+            applied[0] = choice;
+            done.countDown();
+        }, e -> fail(e.toString())));
+
+        assertTrue(done.await(5, TimeUnit.SECONDS));
+        assertFalse(decidedOnEventThread.get());
+        assertTrue(appliedOnEventThread.get());
+        assertEquals(4, applied[0]);
+    }
+
+    /**
+     * Tests that cancelling interrupts a decision in progress and its result is never applied.
+     */
+    @Test
+    public void testCancelDropsDecision() throws Exception {
+        SwingAITurnScheduler scheduler = new SwingAITurnScheduler();
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch interrupted = new CountDownLatch(1);
+        AtomicBoolean applied = new AtomicBoolean(false);
+
+        SwingUtilities.invokeAndWait(() -> scheduler.decide(() -> {
+            started.countDown();
+            try {
+                Thread.sleep(10_000);
+            } catch (InterruptedException e) {
+                interrupted.countDown();
+            }
+            return 1;
+        }, choice -> applied.set(true), e -> fail(e.toString())));
+
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        SwingUtilities.invokeAndWait(scheduler::cancel);
+        assertTrue(interrupted.await(5, TimeUnit.SECONDS));
+
+        // A later decision still runs, after anything the cancelled one posted
+        CountDownLatch next = new CountDownLatch(1);
+        SwingUtilities.invokeAndWait(() -> scheduler.decide(() -> 2, choice -> next.countDown(), e -> fail(e.toString())));
+        assertTrue(next.await(5, TimeUnit.SECONDS));
+        assertFalse(applied.get());
+    }
+
+    /**
+     * Tests that a decision that throws is handed to the failure action on the event dispatch thread.
+     */
+    @Test
+    public void testFailureHandedToEventThread() throws Exception {
+        SwingAITurnScheduler scheduler = new SwingAITurnScheduler();
+        AtomicBoolean failedOnEventThread = new AtomicBoolean(false);
+        AtomicBoolean applied = new AtomicBoolean(false);
+        RuntimeException[] failure = new RuntimeException[1];
+        CountDownLatch done = new CountDownLatch(1);
+
+        SwingUtilities.invokeAndWait(() -> scheduler.decide(() -> {
+            throw new IllegalStateException("no move");
+        }, choice -> applied.set(true), e -> {
+            failedOnEventThread.set(SwingUtilities.isEventDispatchThread());
+            failure[0] = e;
+            done.countDown();
+        }));
+
+        assertTrue(done.await(5, TimeUnit.SECONDS));
+        assertTrue(failedOnEventThread.get());
+        assertEquals("no move", failure[0].getMessage());
+        assertFalse(applied.get());
+    }
+}
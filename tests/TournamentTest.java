@@ -0,0 +1,103 @@
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Supplier;
+
+/**
+ * Tests that the tournament runner plays and merges rounds across worker threads.
+ */
+public class TournamentTest {
+
+    /**
+     * Creates a lineup of basic AI players.
+     *
+     * @param seats the number of seats
+     * @return one supplier per seat
+     */
+    private List<Supplier<AIStrategy>> basicLineup(int seats) {
+        List<Supplier<AIStrategy>> lineup = new ArrayList<>();
+        for (int i = 0; i < seats; i++) {
+            lineup.add(() -> new BasicAIStrategy(0));
+        }
+        return lineup;
+    }
+
+    /**
+     * Tests that every requested round is played and accounted for exactly once.
+     */
+    @Test
+    public void testRunPlaysEveryRound() {
+        TournamentResult result = new Tournament(basicLineup(3)).run(2000, new ForkJoinPool(4));
+
+        assertEquals(2000, result.getGames());
+        long wins = result.getStalledGames();
+        for (int i = 0; i < result.getEntryCount(); i++) {
+            wins += result.getWins(i);
+        }
+        assertEquals(2000, wins);
+        assertTrue(result.getMeanRoundLength() > 0);
+    }
+
+    /**
+     * Tests that the reported rates and scores are within sensible bounds.
+     */
+    @Test
+    public void testRatesAreWithinBounds() {
+        TournamentResult result = new Tournament(basicLineup(4)).run(1000);
+
+        double total = 0;
+        for (int i = 0; i < result.getEntryCount(); i++) {
+            assertTrue(result.getWinRate(i) >= 0 && result.getWinRate(i) <= 1);
+            assertTrue(result.getMeanScore(i) >= 0);
+            total += result.getWinRate(i);
+        }
+        assertTrue(total <= 1.0 + 1e-9);
+    }
+
+    /**
+     * Tests that merging partial results adds up their statistics.
+     */
+    @Test
+    public void testMergeCombinesResults() {
+        TournamentResult a = new TournamentResult(2);
+        a.recordGame(0, 30, 10);
+        a.recordGame(-1, 0, 2000);
+        TournamentResult b = new TournamentResult(2);
+        b.recordGame(1, 20, 20);
+
+        a.merge(b);
+
+        assertEquals(3, a.getGames());
+        assertEquals(1, a.getStalledGames());
+        assertEquals(1, a.getWins(0));
+        assertEquals(1, a.getWins(1));
+        assertEquals(10.0, a.getMeanScore(0), 1e-9);
+        assertEquals(2030 / 3.0, a.getMeanRoundLength(), 1e-9);
+    }
+
+    /**
+     * Tests that a seeded tournament gives identical results regardless of the number of workers.
+     */
+    @Test
+    public void testSeedReplaysTournament() {
+        TournamentResult single = new Tournament(basicLineup(4), 99L).run(1500, new ForkJoinPool(1));
+        TournamentResult parallel = new Tournament(basicLineup(4), 99L).run(1500, new ForkJoinPool(4));
+
+        assertEquals(single.getStalledGames(), parallel.getStalledGames());
+        assertEquals(single.getMeanRoundLength(), parallel.getMeanRoundLength(), 0);
+        for (int i = 0; i < 4; i++) {
+            assertEquals(single.getWins(i), parallel.getWins(i));
+            assertEquals(single.getMeanScore(i), parallel.getMeanScore(i), 0);
+        }
+    }
+
+    /**
+     * Tests that a lineup with too few or too many seats is rejected.
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void testRejectsInvalidLineup() {
+        new Tournament(basicLineup(1));
+    }
+}
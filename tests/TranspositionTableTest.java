@@ -0,0 +1,64 @@
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests that the transposition table stores, replaces and bounds AI evaluations.
+ */
+public class TranspositionTableTest {
+
+    /**
+     * Tests that a stored evaluation is found again and an unknown position is not.
+     */
+    @Test
+    public void testPutAndGet() {
+        TranspositionTable table = new TranspositionTable(16);
+        table.put(0x1234_5678_9ABCL, 42, 100);
+
+        assertEquals(100, table.getWeight(0x1234_5678_9ABCL));
+        assertEquals(42, table.getMove(0x1234_5678_9ABCL));
+        assertEquals(0, table.getWeight(0x9999L));
+        assertEquals(1, table.size());
+    }
+
+    /**
+     * Tests that a lighter evaluation of the same position does not replace a heavier one.
+     */
+    @Test
+    public void testKeepsHeavierEvaluation() {
+        TranspositionTable table = new TranspositionTable(16);
+        table.put(7L, 1, 500);
+        table.put(7L, 2, 100);
+        assertEquals(1, table.getMove(7L));
+
+        table.put(7L, 3, 800);
+        assertEquals(3, table.getMove(7L));
+        assertEquals(800, table.getWeight(7L));
+        assertEquals(1, table.size());
+    }
+
+    /**
+     * Tests that the table never grows: positions sharing a slot replace each other.
+     */
+    @Test
+    public void testBoundedSize() {
+        TranspositionTable table = new TranspositionTable(10);
+        assertEquals(16, table.capacity());
+
+        for (long hash = 1; hash <= 1000; hash++) {
+            table.put(hash * 0x9E3779B97F4A7C15L, (int) hash, 1);
+        }
+        assertTrue(table.size() <= table.capacity());
+
+        long other = 3L;
+        long sameSlot = other + table.capacity();
+        table.put(other, 5, 1);
+        table.put(sameSlot, 6, 1);
+        assertEquals(0, table.getWeight(other));
+        assertEquals(6, table.getMove(sameSlot));
+
+        table.clear();
+        assertEquals(0, table.size());
+        assertEquals(0, table.getWeight(sameSlot));
+    }
+}
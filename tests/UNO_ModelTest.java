@@ -203,15 +203,44 @@ public class UNO_ModelTest {
     }
 
     /**
-     * Tests that flipping the game side correctly flips all cards in the play deck.
+     * Tests that flipping the game side correctly flips all cards in the play deck, the pile and the hands.
      */
     @Test
     public void testFlipGameSideFlipsAllCards() {
         game.startNewRound();
         game.flipGameSide();
-        boolean topSide = game.topCard().isLightSideActive;
+        boolean topSide = game.topCard().getActiveSide();
+        assertFalse(topSide);
+        assertFalse(game.getGameSide().isLightSide());
         for (Card c : game.getPlayDeck().getDeck()) {
-            assertEquals(topSide, c.isLightSideActive);
+            assertEquals(topSide, c.getActiveSide());
+        }
+        for (Player p : game.getPlayers()) {
+            for (Card c : p.getHand()) {
+                assertEquals(topSide, c.getActiveSide());
+                assertEquals(c.darkColor, c.getColor());
+            }
+        }
+
+        game.flipGameSide();
+        assertTrue(game.topCard().getActiveSide());
+    }
+
+    /**
+     * Tests that undoing past a flip puts every card back on the light side.
+     */
+    @Test
+    public void testUndoRestoresSideAfterFlip() {
+        game.startNewRound();
+        game.flipGameSide();
+        assertFalse(game.topCard().getActiveSide());
+
+        game.undo();
+
+        assertTrue(game.getGameSide().isLightSide());
+        assertTrue(game.topCard().getActiveSide());
+        for (Card c : game.getPlayDeck().getDeck()) {
+            assertTrue(c.getActiveSide());
         }
     }
 
@@ -269,6 +298,54 @@ public class UNO_ModelTest {
         assertTrue(loaded.getViews() == null || loaded.getViews().isEmpty());
     }
 
+    /**
+     * Tests that a save from before the shared game side and the undo history loads,
+     * shows the side it was saved on, and can play and undo a turn.
+     */
+    @Test
+    public void testLoadOldSaveWithoutGameSideOrHistory() throws Exception {
+        game.startNewRound();
+        game.flipGameSide();
+
+        // Make the game look like an old save: each card keeps its own side, and the model has neither field
+        java.lang.reflect.Field cardSide = Card.class.getDeclaredField("gameSide");
+        cardSide.setAccessible(true);
+        List<Card> cards = new ArrayList<>(game.getPlayDeck().getDeck());
+        cards.addAll(game.getPlayPile());
+        cards.addAll(player1.getHand());
+        cards.addAll(player2.getHand());
+        for (Card card : cards) {
+            card.isLightSideActive = card.getActiveSide();
+            cardSide.set(card, null);
+        }
+        for (String name : new String[] {"gameSide", "history"}) {
+            java.lang.reflect.Field field = UNO_Model.class.getDeclaredField(name);
+            field.setAccessible(true);
+            field.set(game, null);
+        }
+
+        File temp = File.createTempFile("uno_old_save_test", ".dat");
+        temp.deleteOnExit();
+        game.saveGame(temp.getAbsolutePath());
+        UNO_Model loaded = UNO_Model.loadGame(temp.getAbsolutePath());
+        assertNotNull(loaded);
+        assertFalse(loaded.getGameSide().isLightSide());
+        assertFalse(loaded.topCard().getActiveSide());
+        assertNotNull(loaded.getUndoHistory());
+
+        Player current = loaded.getCurrentPlayer();
+        int handSize = current.handSize();
+        assertNotNull(loaded.drawCard());
+        assertEquals(handSize + 1, current.handSize());
+        loaded.undo();
+        assertEquals(handSize, current.handSize());
+
+        // Every card follows the restored side
+        loaded.flipGameSide();
+        assertTrue(loaded.topCard().getActiveSide());
+        assertTrue(current.getCardInHand(1).getActiveSide());
+    }
+
     /**
      * Tests that undo restores the previous state of a simple play.
      */
@@ -337,6 +414,149 @@ public class UNO_ModelTest {
         assertEquals(playedCard, game.topCard());
     }
 
+    /**
+     * Tests that a fork starts in the same position and that playing it leaves the original untouched.
+     */
+    @Test
+    public void testForkIsIndependentCopy() {
+        game.startNewRound();
+        long hash = game.getStateHash();
+        int deckSize = game.getPlayDeck().getDeck().size();
+        int handSize = player1.handSize();
+        Card top = game.topCard();
+
+        UNO_Model fork = game.fork(1L);
+        assertEquals(hash, fork.getStateHash());
+        assertEquals(ZobristHash.compute(fork), fork.getStateHash());
+        assertEquals(top.getId(), fork.topCard().getId());
+        assertNotSame(top, fork.topCard());
+        assertTrue(fork.isHeadless());
+        assertTrue(fork.getViews().isEmpty());
+
+        // Play the fork on: draws, a flip and a change of turn
+        for (int turn = 0; turn < 5; turn++) {
+            fork.drawCard();
+            fork.moveToNextPlayer();
+        }
+        fork.flipGameSide();
+        fork.flipDirection();
+        assertEquals(ZobristHash.compute(fork), fork.getStateHash());
+
+        assertEquals(hash, game.getStateHash());
+        assertEquals(ZobristHash.compute(game), game.getStateHash());
+        assertEquals(deckSize, game.getPlayDeck().getDeck().size());
+        assertEquals(handSize, player1.handSize());
+        assertTrue(game.getGameSide().isLightSide());
+        assertTrue(top.getActiveSide());
+        assertEquals(0, game.getCurrentPlayerIndex());
+    }
+
+    /**
+     * Tests that a forked AI game can be played to the end of the round on its own.
+     */
+    @Test
+    public void testForkPlaysOutRound() {
+        List<AIStrategy> lineup = new ArrayList<>();
+        lineup.add(new BasicAIStrategy(0));
+        lineup.add(new BasicAIStrategy(0));
+        HeadlessGameEngine engine = new HeadlessGameEngine(lineup, 4L);
+        UNO_Model model = engine.getModel();
+        model.startNewRound();
+        for (int turn = 0; turn < 10; turn++) {
+            engine.playTurn();
+        }
+        int seenBefore = model.getCardTracker().getSeenCount();
+
+        UNO_Model fork = model.fork();
+        assertEquals(seenBefore, fork.getCardTracker().getSeenCount());
+        for (int turn = 0; turn < HeadlessGameEngine.DEFAULT_MAX_TURNS && !fork.isRoundOver(); turn++) {
+            fork.performAITurn();
+            if (fork.isWaitingForColorSelection()) {
+                fork.applyWildColorSelection(fork.getCurrentPlayer().getAIStrategy()
+                        .chooseWildColor(fork.getCurrentPlayer(), fork.getGameSide().isLightSide()));
+            }
+            if (!fork.isRoundOver()) {
+                fork.moveToNextPlayer();
+            }
+        }
+
+        assertTrue(fork.isRoundOver());
+        assertEquals(0, fork.getRoundWinningPlayer().handSize());
+        assertFalse(model.isRoundOver());
+        assertEquals(seenBefore, model.getCardTracker().getSeenCount());
+    }
+
+    /**
+     * Tests that the legal move list and mask agree with validMove on every turn of simulated games.
+     */
+    @Test
+    public void testLegalMovesMatchValidMove() {
+        List<AIStrategy> lineup = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            lineup.add(new BasicAIStrategy(0));
+        }
+        HeadlessGameEngine engine = new HeadlessGameEngine(lineup, 9L);
+        UNO_Model model = engine.getModel();
+        int[] moves = new int[128];
+        int[] first = new int[1];
+        long[] mask = new long[3];
+        int draws = 0;
+
+        for (int round = 0; round < 5; round++) {
+            model.startNewRound();
+            while (!model.isRoundOver()) {
+                Player player = model.getCurrentPlayer();
+                int count = model.legalMoves(moves);
+                assertEquals(count, model.legalMoveMask(mask));
+
+                int expected = 0;
+                for (int i = 1; i <= player.handSize(); i++) {
+                    boolean valid = model.validMove(player, i);
+                    assertEquals(valid, (mask[i >>> 6] & (1L << i)) != 0);
+                    if (valid) {
+                        assertEquals(i, moves[expected++]);
+                    }
+                }
+                boolean draw = expected == 0;
+                assertEquals(draw, (mask[0] & (1L << UNO_Model.DRAW_MOVE)) != 0);
+                assertEquals(draw ? 1 : expected, count);
+                assertEquals(1, model.legalMoves(first));
+                assertEquals(moves[0], first[0]);
+                assertEquals(!draw, model.hasPlayableHand(player));
+                if (draw) {
+                    assertEquals(UNO_Model.DRAW_MOVE, moves[0]);
+                    draws++;
+                }
+                engine.playTurn();
+            }
+        }
+        assertTrue(draws > 0);
+    }
+
+    /**
+     * Tests that generating legal moves allocates nothing once the game is running.
+     */
+    @Test
+    public void testLegalMovesAllocateNothing() {
+        List<AIStrategy> lineup = new ArrayList<>();
+        lineup.add(new BasicAIStrategy(0));
+        lineup.add(new BasicAIStrategy(0));
+        HeadlessGameEngine engine = new HeadlessGameEngine(lineup, 2L);
+        UNO_Model model = engine.getModel();
+        model.startNewRound();
+        int[] moves = new int[64];
+        long[] mask = new long[2];
+        int[] total = new int[1];
+        Runnable generate = () -> total[0] += model.legalMoves(moves) + model.legalMoveMask(mask);
+
+        AllocationMeter meter = new AllocationMeter();
+        meter.warmUp(20_000, generate);
+        meter.measure(100_000, generate);
+
+        assertTrue(total[0] > 0);
+        assertTrue("allocated " + meter.getBytes() + " bytes", meter.getBytes() < 1024);
+    }
+
     /**
      * The Card class is abstract and so TestCard is a helper class.
      */
@@ -441,4 +661,147 @@ public class UNO_ModelTest {
         // AI should have played its only card
         assertEquals(0, ai.handSize());
     }
+
+    /**
+     * Tests that all notifications raised while playing a card reach a view as one combined event.
+     */
+    @Test
+    public void testPlayCardNotifiesViewsOnce() {
+        game.startNewRound();
+        RecordingView view = new RecordingView();
+        game.addUnoView(view);
+
+        game.getPlayPile().push(new NumberCard(CardColor.RED, CardColor.PINK, CardType.THREE));
+        player1.clearHand();
+        player1.drawCardToHand(new DrawXCard(CardColor.RED, CardColor.TEAL));
+        player1.drawCardToHand(new NumberCard(CardColor.BLUE, CardColor.PINK, CardType.TWO));
+
+        assertTrue(game.playCard(1));
+
+        assertEquals(1, view.events.size());
+        GameEvent event = view.events.get(0);
+        assertEquals(GameEvent.EventType.CARD_PLAYED, event.getType());
+        assertEquals(2, event.getEvents().size());
+        assertEquals(GameEvent.EventType.MESSAGE, event.getEvents().get(0).getType());
+    }
+
+    /**
+     * Tests that an AI whose strategy throws is reported to the views and draws instead of stalling.
+     */
+    @Test
+    public void testFailedAIDecisionDraws() {
+        ArrayList<Boolean> bots = new ArrayList<>(Arrays.asList(true, false));
+        UNO_Model model = new UNO_Model(2, names, bots, 3L);
+        Player bot = model.getPlayers().get(0);
+        bot.setAiStrategy(new BasicAIStrategy(0) {
+            @Override
+            public int chooseCard(Player player, Card topCard, UNO_Model game) {
+                throw new IllegalStateException("broken strategy");
+            }
+        });
+        Runnable[] scheduledTurn = new Runnable[1];
+        model.setAIScheduler(new AITurnScheduler() {
+            @Override
+            public void schedule(int delayMilliseconds, Runnable turn) {
+                scheduledTurn[0] = turn;
+            }
+
+            @Override
+            public void cancel() {
+            }
+        });
+        RecordingView view = new RecordingView();
+        model.addUnoView(view);
+
+        model.startNewRound();
+        int handSize = bot.handSize();
+        view.events.clear();
+        scheduledTurn[0].run(); // decides and applies on this thread
+
+        assertEquals(handSize + 1, bot.handSize());
+        boolean reported = false;
+        for (GameEvent event : view.events.get(0).getEvents()) {
+            reported |= event.getType() == GameEvent.EventType.MESSAGE
+                    && event.getMessage().contains("could not choose a move");
+        }
+        assertTrue(reported);
+    }
+
+    /**
+     * Tests that views still receive the status messages that a game without views skips building.
+     */
+    @Test
+    public void testViewsReceiveStatusMessages() {
+        game.startNewRound();
+        RecordingView view = new RecordingView();
+        game.addUnoView(view);
+
+        game.getPlayPile().push(new NumberCard(CardColor.RED, CardColor.PINK, CardType.THREE));
+        player1.clearHand();
+        player1.drawCardToHand(new DrawXCard(CardColor.RED, CardColor.TEAL));
+        player1.drawCardToHand(new NumberCard(CardColor.BLUE, CardColor.PINK, CardType.TWO));
+
+        assertTrue(game.playCard(1));
+        assertEquals("Bob draws 1 card and loses their turn!", view.events.get(0).getEvents().get(0).getMessage());
+
+        game.moveToNextPlayer();
+        assertEquals("It's Alice turn", view.events.get(view.events.size() - 1).getMessage());
+    }
+
+    /**
+     * Tests that nested event batches only notify the views when the outermost batch ends.
+     */
+    @Test
+    public void testNestedEventBatches() {
+        game.startNewRound();
+        RecordingView view = new RecordingView();
+        game.addUnoView(view);
+
+        game.beginEventBatch();
+        game.flipDirection();
+        game.beginEventBatch();
+        game.flipGameSide();
+        game.endEventBatch();
+        assertTrue(view.events.isEmpty());
+        game.endEventBatch();
+
+        assertEquals(1, view.events.size());
+        List<GameEvent> events = view.events.get(0).getEvents();
+        assertEquals(GameEvent.EventType.DIRECTION_FLIPPED, events.get(0).getType());
+        assertEquals(GameEvent.EventType.GAME_STATE_CHANGED, events.get(1).getType());
+
+        game.flipDirection();
+        assertEquals(2, view.events.size());
+        assertEquals(1, view.events.get(1).getEvents().size());
+    }
+
+    /**
+     * A view that keeps every event it receives.
+     */
+    private static class RecordingView implements UNO_View {
+        private final List<GameEvent> events = new ArrayList<>();
+
+        @Override
+        public void handleGameEvent(GameEvent event) {
+            events.add(event);
+        }
+
+        @Override
+        public JButton getDrawButton() {
+            return null;
+        }
+
+        @Override
+        public JButton getNextPlayerButton() {
+            return null;
+        }
+
+        @Override
+        public void refreshGameState(UNO_Model model) {
+        }
+
+        @Override
+        public void setModel(UNO_Model loadedModel) {
+        }
+    }
 }
\ No newline at end of file
@@ -0,0 +1,222 @@
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+import java.util.*;
+
+/**
+ * Tests that undo and redo replay the recorded commands of each step exactly.
+ */
+public class UndoHistoryTest {
+    private UNO_Model game;
+    private Player player1, player2;
+
+    @Before
+    public void setUp() {
+        ArrayList<String> names = new ArrayList<>(Arrays.asList("Alice", "Bob"));
+        ArrayList<Boolean> playerIsAI = new ArrayList<>(Arrays.asList(false, false));
+        game = new UNO_Model(2, names, playerIsAI, 7L);
+        game.startNewRound();
+        player1 = game.getPlayers().get(0);
+        player2 = game.getPlayers().get(1);
+    }
+
+    /**
+     * Puts the given card on the play pile and gives player 1 the given hand.
+     *
+     * @param top the card on top of the play pile
+     * @param hand the cards in player 1's hand
+     */
+    private void setUpTable(Card top, Card... hand) {
+        game.getPlayPile().push(top);
+        player1.clearHand();
+        for (Card card : hand) {
+            player1.drawCardToHand(card);
+        }
+    }
+
+    /**
+     * Tests that undoing a draw puts the card back in the deck and redoing it draws the same card.
+     */
+    @Test
+    public void testUndoRedoDraw() {
+        int deckSize = game.getPlayDeck().getDeck().size();
+        int handSize = player1.handSize();
+
+        Card drawn = game.drawCard();
+        assertEquals(handSize + 1, player1.handSize());
+
+        game.undo();
+        assertEquals(handSize, player1.handSize());
+        assertEquals(deckSize, game.getPlayDeck().getDeck().size());
+        assertTrue(game.getPlayDeck().getDeck().contains(drawn));
+        assertFalse(game.hasActedThisTurn());
+
+        game.redo();
+        assertEquals(handSize + 1, player1.handSize());
+        assertSame(drawn, player1.getHand().get(handSize));
+        assertEquals(deckSize - 1, game.getPlayDeck().getDeck().size());
+        assertTrue(game.hasActedThisTurn());
+    }
+
+    /**
+     * Tests that undoing a draw puts the card back where it was, so the same card is drawn
+     * again, and that the game's random generator is not used.
+     */
+    @Test
+    public void testUndoDrawRestoresDeckOrder() {
+        ArrayList<Card> deckBefore = new ArrayList<>(game.getPlayDeck().getDeck());
+        ArrayList<String> names = new ArrayList<>(Arrays.asList("Alice", "Bob"));
+        UNO_Model replay = new UNO_Model(2, names, new ArrayList<>(Arrays.asList(false, false)), 7L);
+        replay.startNewRound();
+
+        Card drawn = game.drawCard();
+        game.undo();
+        assertEquals(deckBefore, game.getPlayDeck().getDeck());
+        assertEquals(replay.getRandom().nextLong(), game.getRandom().nextLong());
+
+        game.redo();
+        game.undo();
+        assertEquals(deckBefore, game.getPlayDeck().getDeck());
+        assertSame(drawn, game.drawCard());
+    }
+
+    /**
+     * Tests that undoing a Draw One returns the penalty card and clears the skip.
+     */
+    @Test
+    public void testUndoDrawOneTakesBackPenalty() {
+        Card drawOne = new DrawXCard(CardColor.RED, CardColor.TEAL);
+        setUpTable(new NumberCard(CardColor.RED, CardColor.PINK, CardType.THREE),
+                drawOne, new NumberCard(CardColor.BLUE, CardColor.PINK, CardType.TWO));
+        int opponentHand = player2.handSize();
+        int deckSize = game.getPlayDeck().getDeck().size();
+
+        assertTrue(game.playCard(1));
+        assertEquals(opponentHand + 1, player2.handSize());
+        assertEquals(1, game.getSkipCount());
+
+        game.undo();
+        assertEquals(opponentHand, player2.handSize());
+        assertEquals(deckSize, game.getPlayDeck().getDeck().size());
+        assertEquals(0, game.getSkipCount());
+        assertSame(drawOne, player1.getCardInHand(1));
+    }
+
+    /**
+     * Tests that a reverse and the following turn change are undone step by step.
+     */
+    @Test
+    public void testUndoReverseAndTurnChange() {
+        setUpTable(new NumberCard(CardColor.BLUE, CardColor.PINK, CardType.THREE),
+                new ReverseCard(CardColor.BLUE, CardColor.ORANGE), new NumberCard(CardColor.RED, CardColor.PINK, CardType.TWO));
+
+        assertTrue(game.playCard(1));
+        game.moveToNextPlayer();
+        assertEquals(0, game.getCurrentPlayerIndex()); // the reverse skips Bob in a two-player game
+
+        game.undo();
+        assertEquals(0, game.getCurrentPlayerIndex());
+        assertEquals(1, game.getSkipCount());
+        assertTrue(game.hasActedThisTurn());
+
+        game.undo();
+        assertEquals(0, game.getSkipCount());
+        assertEquals(2, player1.handSize());
+        assertFalse(game.hasActedThisTurn());
+    }
+
+    /**
+     * Tests that undoing a wild card play resets its color and returns it to the hand.
+     */
+    @Test
+    public void testUndoWildColorChoice() {
+        WildCard wild = new WildCard();
+        setUpTable(new NumberCard(CardColor.BLUE, CardColor.PINK, CardType.THREE),
+                wild, new NumberCard(CardColor.RED, CardColor.PINK, CardType.TWO));
+
+        assertTrue(game.playCard(1));
+        assertTrue(game.isWaitingForColorSelection());
+        game.applyWildColorSelection(CardColor.GREEN);
+        assertEquals(CardColor.GREEN, wild.getColor());
+
+        game.undo(); // back to just after the color was chosen
+        assertEquals(CardColor.GREEN, wild.getColor());
+        assertFalse(game.isWaitingForColorSelection());
+
+        game.undo(); // back to before the play
+        assertEquals(CardColor.WILD, wild.getColor());
+        assertEquals(CardColor.WILD, wild.darkColor);
+        assertSame(wild, player1.getCardInHand(1));
+
+        game.redo();
+        game.redo();
+        assertEquals(CardColor.GREEN, wild.getColor());
+        assertSame(wild, game.topCard());
+    }
+
+    /**
+     * Tests that undoing a draw that emptied the deck restores both piles.
+     */
+    @Test
+    public void testUndoReshuffle() {
+        Stack<Card> pile = game.getPlayPile();
+        ArrayList<Card> deck = game.getPlayDeck().getDeck();
+        while (deck.size() > 0) {
+            pile.push(deck.removeLast());
+        }
+        List<Card> pileBefore = new ArrayList<>(pile);
+
+        game.drawCard();
+        assertEquals(1, pile.size());
+
+        game.undo();
+        assertEquals(pileBefore, new ArrayList<>(pile));
+        assertEquals(0, deck.size());
+    }
+
+    /**
+     * Tests that undoing a winning play takes back the round win and its points.
+     */
+    @Test
+    public void testUndoRoundWin() {
+        setUpTable(new NumberCard(CardColor.BLUE, CardColor.PINK, CardType.THREE),
+                new NumberCard(CardColor.BLUE, CardColor.PINK, CardType.FIVE));
+
+        assertTrue(game.playCard(1));
+        assertTrue(game.isRoundOver());
+        assertTrue(player1.getScore() > 0);
+
+        game.undo();
+        assertFalse(game.isRoundOver());
+        assertNull(game.getRoundWinningPlayer());
+        assertEquals(0, player1.getScore());
+        assertEquals(1, player1.handSize());
+    }
+
+    /**
+     * Tests that each step holds only the commands of its own action, however long the round.
+     */
+    @Test
+    public void testStepsOnlyHoldTheirChanges() {
+        for (int i = 0; i < 20; i++) {
+            game.drawCard();
+            assertEquals(1, game.getUndoHistory().currentStepSize());
+            game.moveToNextPlayer();
+            assertEquals(0, game.getUndoHistory().currentStepSize());
+        }
+        assertEquals(41, game.getUndoHistory().undoSize());
+    }
+
+    /**
+     * Tests that a headless game records no history.
+     */
+    @Test
+    public void testHeadlessRecordsNothing() {
+        game.setHeadless(true);
+        game.drawCard();
+        game.moveToNextPlayer();
+
+        assertFalse(game.getUndoHistory().canUndo());
+    }
+}
@@ -0,0 +1,113 @@
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+import java.util.*;
+
+/**
+ * Tests that the model's incrementally updated position hash always equals a
+ * hash of the whole game, and that it tells positions apart.
+ */
+public class ZobristHashTest {
+    private UNO_Model game;
+
+    @Before
+    public void setUp() {
+        ArrayList<String> names = new ArrayList<>(Arrays.asList("Alice", "Bob", "Cara"));
+        ArrayList<Boolean> playerIsAI = new ArrayList<>(Arrays.asList(false, false, false));
+        game = new UNO_Model(3, names, playerIsAI, 8L);
+        game.startNewRound();
+    }
+
+    /**
+     * Tests that the hash follows every turn of simulated games, including flips, skips, wild colors and reshuffles.
+     */
+    @Test
+    public void testIncrementalHashMatchesFullHash() {
+        List<AIStrategy> lineup = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            lineup.add(new BasicAIStrategy(0));
+        }
+        HeadlessGameEngine engine = new HeadlessGameEngine(lineup, 13L);
+        UNO_Model model = engine.getModel();
+
+        for (int round = 0; round < 10; round++) {
+            model.startNewRound();
+            assertEquals(ZobristHash.compute(model), model.getStateHash());
+            while (!model.isRoundOver()) {
+                engine.playTurn();
+                assertEquals(ZobristHash.compute(model), model.getStateHash());
+            }
+        }
+    }
+
+    /**
+     * Tests that each part of the turn state changes the hash and that changing it back restores the hash.
+     */
+    @Test
+    public void testTurnStateChangesHash() {
+        long start = game.getStateHash();
+
+        game.flipDirection();
+        assertNotEquals(start, game.getStateHash());
+        game.flipDirection();
+        assertEquals(start, game.getStateHash());
+
+        game.flipGameSide();
+        assertNotEquals(start, game.getStateHash());
+        game.flipGameSide();
+        assertEquals(start, game.getStateHash());
+
+        game.addSkip(1);
+        assertNotEquals(start, game.getStateHash());
+        game.setSkipCount(0);
+        assertEquals(start, game.getStateHash());
+
+        game.setWildColorChoice(CardColor.BLUE);
+        assertNotEquals(start, game.getStateHash());
+        game.setWildColorChoice(CardColor.WILD);
+        assertEquals(start, game.getStateHash());
+
+        game.setCurrentPlayerIndex(2);
+        assertNotEquals(start, game.getStateHash());
+        assertEquals(ZobristHash.compute(game), game.getStateHash());
+    }
+
+    /**
+     * Tests that undo and redo bring back the hash of the position they restore.
+     */
+    @Test
+    public void testUndoRedoRestoresHash() {
+        long start = game.getStateHash();
+        game.drawCard();
+        long afterDraw = game.getStateHash();
+        assertNotEquals(start, afterDraw);
+        assertEquals(ZobristHash.compute(game), afterDraw);
+
+        game.undo();
+        assertEquals(start, game.getStateHash());
+        game.redo();
+        assertEquals(afterDraw, game.getStateHash());
+    }
+
+    /**
+     * Tests that the same card in a different hand gives a different hash.
+     */
+    @Test
+    public void testCardLocationMatters() {
+        Player alice = game.getPlayers().get(0);
+        Player bob = game.getPlayers().get(1);
+        long start = ZobristHash.compute(game);
+
+        Card card = alice.getCardInHand(1);
+        alice.removeCard(card);
+        bob.drawCardToHand(card);
+        long moved = ZobristHash.compute(game);
+        assertNotEquals(start, moved);
+        assertEquals(start ^ ZobristHash.card(card.getId(), ZobristHash.hand(0))
+                ^ ZobristHash.card(card.getId(), ZobristHash.hand(1)), moved);
+
+        game.rehash();
+        assertEquals(moved, game.getStateHash());
+    }
+}